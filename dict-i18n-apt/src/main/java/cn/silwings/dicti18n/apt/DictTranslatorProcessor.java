@@ -0,0 +1,521 @@
+package cn.silwings.dicti18n.apt;
+
+import cn.silwings.dicti18n.annotation.DictDesc;
+import cn.silwings.dicti18n.annotation.DictModel;
+import cn.silwings.dicti18n.processor.translator.DictTranslators;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor generating a reflection-free {@code DictTranslator} for every class declaring
+ * {@link DictDesc} fields or annotated with {@link DictModel}.
+ *
+ * <p>The generated translator accesses fields through their getters/setters (declared in source or generated by
+ * Lombok) or directly when the field is visible from the class's package, and resolves every dictionary name once
+ * into a constant. Classes whose fields cannot be accessed this way are skipped with a note and keep being
+ * translated through reflection at runtime. So are classes using Lombok's {@code @Accessors}, whose accessor names
+ * cannot be derived reliably; names changed through {@code lombok.config} are not detected and need explicit
+ * accessors.</p>
+ *
+ * <p>Usage:</p>
+ * <pre>{@code
+ * <annotationProcessorPaths>
+ *     <path>
+ *         <groupId>cn.silwings.dicti18n</groupId>
+ *         <artifactId>dict-i18n-apt</artifactId>
+ *     </path>
+ * </annotationProcessorPaths>
+ * }</pre>
+ */
+public class DictTranslatorProcessor extends AbstractProcessor {
+
+    private static final List<String> LOMBOK_GETTERS = Arrays.asList("lombok.Getter", "lombok.Data", "lombok.Value");
+    private static final List<String> LOMBOK_SETTERS = Arrays.asList("lombok.Setter", "lombok.Data");
+    private static final String LOMBOK_ACCESSORS = "lombok.experimental.Accessors";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return new LinkedHashSet<>(Arrays.asList(DictDesc.class.getCanonicalName(), DictModel.class.getCanonicalName()));
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final Set<TypeElement> types = new LinkedHashSet<>();
+        for (final Element element : roundEnv.getElementsAnnotatedWith(DictDesc.class)) {
+            if (element.getKind() == ElementKind.FIELD) {
+                types.add((TypeElement) element.getEnclosingElement());
+            }
+        }
+        for (final Element element : roundEnv.getElementsAnnotatedWith(DictModel.class)) {
+            if (element.getKind() == ElementKind.CLASS) {
+                types.add((TypeElement) element);
+            }
+        }
+
+        for (final TypeElement type : types) {
+            final String name = type.getQualifiedName().toString();
+            if (this.generated.add(name)) {
+                this.generate(type);
+            }
+        }
+
+        // Never claim the annotations, other processors may need them too
+        return false;
+    }
+
+    private void generate(final TypeElement type) {
+        final Elements elements = this.processingEnv.getElementUtils();
+        final PackageElement pkg = elements.getPackageOf(type);
+
+        final String skipReason = this.checkTranslatable(type, pkg);
+        if (null != skipReason) {
+            this.note(type, skipReason);
+            return;
+        }
+
+        final TranslatorSource source = new TranslatorSource(this.processingEnv.getTypeUtils(), type, pkg);
+        for (final VariableElement field : this.getAllFields(type)) {
+            final String failure = source.add(field);
+            if (null != failure) {
+                this.note(type, failure);
+                return;
+            }
+        }
+
+        final String translatorName = DictTranslators.translatorName(elements.getBinaryName(type).toString());
+        try {
+            final JavaFileObject file = this.processingEnv.getFiler().createSourceFile(translatorName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.render(translatorName.substring(translatorName.lastIndexOf('.') + 1)));
+            }
+        } catch (IOException e) {
+            this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "[DictI18n] Failed to write " + translatorName + ": " + e.getMessage(), type);
+        }
+    }
+
+    /**
+     * Returns the reason the class cannot get a translator, or null if it can.
+     */
+    private String checkTranslatable(final TypeElement type, final PackageElement pkg) {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers().contains(Modifier.ABSTRACT)) {
+            return "only concrete classes get a translator";
+        }
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            return "local and anonymous classes are not supported";
+        }
+        if (!isAccessible(type, pkg)) {
+            return "the class is not accessible from its package";
+        }
+        for (final VariableElement field : this.getAllFields(type)) {
+            if (null != findAnnotation(field, LOMBOK_ACCESSORS) || null != findAnnotation(field.getEnclosingElement(), LOMBOK_ACCESSORS)) {
+                return "@Accessors changes the names of the accessors generated by Lombok";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * All instance fields of the class and its superclasses, in the same order as the runtime field scan.
+     */
+    private List<VariableElement> getAllFields(final TypeElement type) {
+        final List<VariableElement> fields = new ArrayList<>();
+        TypeElement current = type;
+        while (null != current && !current.getQualifiedName().contentEquals(Object.class.getName())) {
+            for (final VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (!field.getModifiers().contains(Modifier.STATIC)) {
+                    fields.add(field);
+                }
+            }
+            final TypeMirror superclass = current.getSuperclass();
+            current = superclass.getKind() == TypeKind.DECLARED ? (TypeElement) ((DeclaredType) superclass).asElement() : null;
+        }
+        return fields;
+    }
+
+    private void note(final TypeElement type, final String reason) {
+        this.processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                "[DictI18n] No translator generated for " + type.getQualifiedName() + " (" + reason + "), it will be translated through reflection.", type);
+    }
+
+    /**
+     * Whether the element can be referenced from generated code in the given package.
+     */
+    static boolean isAccessible(final Element element, final PackageElement pkg) {
+        for (Element current = element; !(current instanceof PackageElement); current = current.getEnclosingElement()) {
+            final Set<Modifier> modifiers = current.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            if (!modifiers.contains(Modifier.PUBLIC) && !packageOf(current).equals(pkg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether a class literal of the erased type can be written in generated code in the given package.
+     */
+    static boolean isAccessible(final TypeMirror typeMirror, final PackageElement pkg) {
+        if (typeMirror.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) typeMirror).getComponentType(), pkg);
+        }
+        return typeMirror.getKind() != TypeKind.DECLARED || isAccessible(((DeclaredType) typeMirror).asElement(), pkg);
+    }
+
+    private static AnnotationMirror findAnnotation(final Element element, final String annotationName) {
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static PackageElement packageOf(Element element) {
+        while (!(element instanceof PackageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return (PackageElement) element;
+    }
+
+    /**
+     * Source of a single generated translator.
+     */
+    private final class TranslatorSource {
+
+        private final Types types;
+        private final TypeElement type;
+        private final PackageElement pkg;
+        private final String targetName;
+        private final Map<String, String> dictNameConstants = new LinkedHashMap<>();
+        private final List<String> statements = new ArrayList<>();
+
+        TranslatorSource(final Types types, final TypeElement type, final PackageElement pkg) {
+            this.types = types;
+            this.type = type;
+            this.pkg = pkg;
+            this.targetName = types.erasure(type.asType()).toString();
+        }
+
+        /**
+         * Add the field to the plan, returns the reason of the failure or null on success.
+         */
+        String add(final VariableElement field) {
+            final AnnotationMirror dictDesc = findAnnotation(field, DictDesc.class.getName());
+            if (null != dictDesc) {
+                return this.addDesc(field, dictDesc);
+            }
+            if (this.isBasicType(field.asType())) {
+                return null;
+            }
+            final String getter = this.readExpression(field);
+            if (null == getter) {
+                return "field '" + field.getSimpleName() + "' is neither visible nor has a getter";
+            }
+            final String elementType = this.elementType(field.asType());
+            if (null != elementType) {
+                this.statements.add(String.format(".nested(\"%s\", %s.class, %s.class, target -> %s)", field.getSimpleName(), this.classLiteral(field.asType()), elementType, getter));
+            } else {
+                this.statements.add(String.format(".nested(\"%s\", %s.class, target -> %s)", field.getSimpleName(), this.classLiteral(field.asType()), getter));
+            }
+            return null;
+        }
+
+        private String addDesc(final VariableElement descField, final AnnotationMirror dictDesc) {
+            TypeMirror dictType = null;
+            String baseFieldName = "";
+            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : dictDesc.getElementValues().entrySet()) {
+                final String name = entry.getKey().getSimpleName().toString();
+                if ("value".equals(name)) {
+                    dictType = (TypeMirror) entry.getValue().getValue();
+                } else if ("field".equals(name)) {
+                    baseFieldName = (String) entry.getValue().getValue();
+                }
+            }
+
+            if (baseFieldName.trim().isEmpty()) {
+                final String descFieldName = descField.getSimpleName().toString();
+                if (!descFieldName.endsWith("Desc") || descFieldName.length() <= 4) {
+                    // Same as the runtime: a @DictDesc field without resolvable base field is ignored
+                    return null;
+                }
+                baseFieldName = descFieldName.substring(0, descFieldName.length() - 4);
+            }
+
+            final VariableElement baseField = this.findField(baseFieldName);
+            if (null == baseField) {
+                return "base field '" + baseFieldName + "' of '" + descField.getSimpleName() + "' not found";
+            }
+            if (null == dictType || dictType.getKind() != TypeKind.DECLARED || !isAccessible(((DeclaredType) dictType).asElement(), this.pkg)) {
+                return "dictionary class of '" + descField.getSimpleName() + "' is not accessible";
+            }
+            // The setter casts the text to the type of the desc field
+            if (!isAccessible(this.types.erasure(descField.asType()), this.pkg)) {
+                return "type of '" + descField.getSimpleName() + "' is not accessible";
+            }
+
+            final String getter = this.readExpression(baseField);
+            final String setter = this.writeStatement(descField);
+            if (null == getter || null == setter) {
+                return "field '" + (null == getter ? baseField : descField).getSimpleName() + "' has no accessible accessor";
+            }
+
+            final String dictClassName = this.erasure(dictType);
+            final String constant = this.dictNameConstants.computeIfAbsent(dictClassName, key -> "DICT_NAME_" + this.dictNameConstants.size());
+            this.statements.add(String.format(".desc(\"%s\", %s.class, \"%s\", %s.class, %s, target -> %s, (target, value) -> %s)",
+                    descField.getSimpleName(),
+                    this.erasure(descField.asType()),
+                    baseFieldName,
+                    this.classLiteral(baseField.asType()),
+                    constant,
+                    getter,
+                    setter));
+            return null;
+        }
+
+        /**
+         * Same lookup as the runtime: the nearest declaration of the field name in the class hierarchy.
+         */
+        private VariableElement findField(final String name) {
+            for (final VariableElement field : DictTranslatorProcessor.this.getAllFields(this.type)) {
+                if (field.getSimpleName().contentEquals(name)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        private String readExpression(final VariableElement field) {
+            final String name = field.getSimpleName().toString();
+            final String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            for (final String getterName : new String[]{"get" + suffix, "is" + suffix}) {
+                for (final ExecutableElement method : ElementFilter.methodsIn(DictTranslatorProcessor.this.processingEnv.getElementUtils().getAllMembers(this.type))) {
+                    if (method.getSimpleName().contentEquals(getterName)
+                            && method.getParameters().isEmpty()
+                            && !method.getModifiers().contains(Modifier.STATIC)
+                            && isAccessible(method, this.pkg)
+                            && this.types.isSameType(this.types.erasure(method.getReturnType()), this.types.erasure(field.asType()))) {
+                        return this.cast() + "." + getterName + "()";
+                    }
+                }
+            }
+
+            if (this.isLombokGenerated(field, LOMBOK_GETTERS)) {
+                final String prefix = field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get";
+                return this.cast() + "." + prefix + suffix + "()";
+            }
+
+            if (isAccessible(field, this.pkg)) {
+                return this.cast() + "." + name;
+            }
+            return null;
+        }
+
+        private String writeStatement(final VariableElement field) {
+            final String name = field.getSimpleName().toString();
+            final String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            final String value = "(" + this.boxedErasure(field.asType()) + ") value";
+            for (final ExecutableElement method : ElementFilter.methodsIn(DictTranslatorProcessor.this.processingEnv.getElementUtils().getAllMembers(this.type))) {
+                if (method.getSimpleName().contentEquals(setterName)
+                        && method.getParameters().size() == 1
+                        && !method.getModifiers().contains(Modifier.STATIC)
+                        && isAccessible(method, this.pkg)
+                        && this.types.isSameType(this.types.erasure(method.getParameters().get(0).asType()), this.types.erasure(field.asType()))) {
+                    return this.cast() + "." + setterName + "(" + value + ")";
+                }
+            }
+
+            if (field.getModifiers().contains(Modifier.FINAL)) {
+                return null;
+            }
+
+            if (this.isLombokGenerated(field, LOMBOK_SETTERS)) {
+                return this.cast() + "." + setterName + "(" + value + ")";
+            }
+
+            if (isAccessible(field, this.pkg)) {
+                return this.cast() + "." + name + " = " + value;
+            }
+            return null;
+        }
+
+        /**
+         * Whether Lombok generates an accessor visible from the translator's package for the field.
+         */
+        private boolean isLombokGenerated(final VariableElement field, final List<String> annotations) {
+            for (final String annotation : annotations) {
+                AnnotationMirror mirror = findAnnotation(field, annotation);
+                if (null == mirror) {
+                    mirror = findAnnotation(field.getEnclosingElement(), annotation);
+                }
+                if (null != mirror) {
+                    final String accessLevel = this.accessLevel(mirror);
+                    return "PUBLIC".equals(accessLevel)
+                            || (("PACKAGE".equals(accessLevel) || "PROTECTED".equals(accessLevel)) && packageOf(field).equals(this.pkg));
+                }
+            }
+            return false;
+        }
+
+        private String accessLevel(final AnnotationMirror mirror) {
+            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    return entry.getValue().getValue().toString();
+                }
+            }
+            return "PUBLIC";
+        }
+
+        /**
+         * Compile time counterpart of {@code DictI18nProcessor#isJavaBasicType}.
+         */
+        private boolean isBasicType(final TypeMirror typeMirror) {
+            if (typeMirror.getKind().isPrimitive()) {
+                return true;
+            }
+            if (typeMirror.getKind() != TypeKind.DECLARED) {
+                return false;
+            }
+            final TypeElement element = (TypeElement) ((DeclaredType) typeMirror).asElement();
+            if (element.getKind() == ElementKind.ENUM) {
+                return true;
+            }
+            final String name = element.getQualifiedName().toString();
+            return String.class.getName().equals(name)
+                    || java.util.Date.class.getName().equals(name)
+                    || Boolean.class.getName().equals(name)
+                    || Character.class.getName().equals(name)
+                    || this.isSubtypeOf(typeMirror, Number.class.getName());
+        }
+
+        /**
+         * Compile time counterpart of {@code DictI18nProcessor#getElementType}: the erased element (value) type of a
+         * {@code java.util} collection (map) field, or null if unknown or not accessible from the translator.
+         */
+        private String elementType(final TypeMirror typeMirror) {
+            if (typeMirror.getKind() != TypeKind.DECLARED
+                    || !((TypeElement) ((DeclaredType) typeMirror).asElement()).getQualifiedName().toString().startsWith("java.util.")) {
+                return null;
+            }
+            final int index = this.isSubtypeOf(typeMirror, Collection.class.getName()) ? 0
+                    : this.isSubtypeOf(typeMirror, Map.class.getName()) ? 1 : -1;
+            final List<? extends TypeMirror> arguments = ((DeclaredType) typeMirror).getTypeArguments();
+            if (index < 0 || arguments.size() != index + 1) {
+                return null;
+            }
+            TypeMirror argument = arguments.get(index);
+            if (argument.getKind() == TypeKind.WILDCARD) {
+                argument = ((WildcardType) argument).getExtendsBound();
+            }
+            if (null == argument || argument.getKind() != TypeKind.DECLARED || !isAccessible(((DeclaredType) argument).asElement(), this.pkg)) {
+                return null;
+            }
+            return this.erasure(argument);
+        }
+
+        private boolean isSubtypeOf(final TypeMirror typeMirror, final String className) {
+            final TypeElement element = DictTranslatorProcessor.this.processingEnv.getElementUtils().getTypeElement(className);
+            return null != element && this.types.isSubtype(this.types.erasure(typeMirror), this.types.erasure(element.asType()));
+        }
+
+        private String cast() {
+            return "((" + this.targetName + ") target)";
+        }
+
+        /**
+         * The erased type for a class literal, {@code java.lang.Object} if the type is not accessible from the
+         * translator's package. The declared types of the plan are informative, the runtime reads the generic type of
+         * the field through reflection anyway.
+         */
+        private String classLiteral(final TypeMirror typeMirror) {
+            final TypeMirror erasure = this.types.erasure(typeMirror);
+            return isAccessible(erasure, this.pkg) ? erasure.toString() : Object.class.getName();
+        }
+
+        private String erasure(final TypeMirror typeMirror) {
+            return this.types.erasure(typeMirror).toString();
+        }
+
+        private String boxedErasure(final TypeMirror typeMirror) {
+            if (typeMirror.getKind().isPrimitive()) {
+                return this.types.boxedClass(this.types.getPrimitiveType(typeMirror.getKind())).getQualifiedName().toString();
+            }
+            return this.erasure(typeMirror);
+        }
+
+        String render(final String simpleName) {
+            final StringBuilder source = new StringBuilder();
+            if (!this.pkg.isUnnamed()) {
+                source.append("package ").append(this.pkg.getQualifiedName()).append(";\n\n");
+            }
+            source.append("/**\n")
+                    .append(" * Generated by dict-i18n-apt, do not edit.\n")
+                    .append(" */\n")
+                    .append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                    .append("public final class ").append(simpleName).append(" implements cn.silwings.dicti18n.processor.translator.DictTranslator {\n\n");
+            for (final Map.Entry<String, String> constant : this.dictNameConstants.entrySet()) {
+                source.append("    private static final String ").append(constant.getValue())
+                        .append(" = cn.silwings.dicti18n.processor.translator.DictTranslators.dictNameOf(")
+                        .append(constant.getKey()).append(".class);\n");
+            }
+            if (!this.dictNameConstants.isEmpty()) {
+                source.append('\n');
+            }
+            source.append("    @Override\n")
+                    .append("    public Class<?> getTargetType() {\n")
+                    .append("        return ").append(this.targetName).append(".class;\n")
+                    .append("    }\n\n")
+                    .append("    @Override\n")
+                    .append("    public cn.silwings.dicti18n.processor.plan.TranslationPlan getPlan() {\n")
+                    .append("        return cn.silwings.dicti18n.processor.plan.TranslationPlan.builder(").append(this.targetName).append(".class)\n");
+            for (final String statement : this.statements) {
+                source.append("                ").append(statement).append('\n');
+            }
+            source.append("                .build();\n")
+                    .append("    }\n")
+                    .append("}\n");
+            return source.toString();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package cn.silwings.dicti18n.apt;
+
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.processor.plan.TranslationPlan;
+import cn.silwings.dicti18n.processor.translator.DictTranslators;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 测试DictTranslatorProcessor生成的翻译器
+ * Test the translators generated by DictTranslatorProcessor
+ */
+public class DictTranslatorProcessorTest {
+
+    private static final String STATUS = "package sample;\n" +
+            "public enum OrderStatus implements cn.silwings.dicti18n.dict.Dict {\n" +
+            "    PAID;\n" +
+            "    public String dictName() { return \"order_status\"; }\n" +
+            "    public String code() { return name(); }\n" +
+            "}\n";
+
+    private static final String ITEM = "package sample;\n" +
+            "public class OrderItem {\n" +
+            "    String status;\n" +
+            "    @cn.silwings.dicti18n.annotation.DictDesc(value = OrderStatus.class, field = \"status\")\n" +
+            "    String statusText;\n" +
+            "}\n";
+
+    private static final String ORDER = "package sample;\n" +
+            "public class OrderVO {\n" +
+            "    private String orderStatus;\n" +
+            "    @cn.silwings.dicti18n.annotation.DictDesc(OrderStatus.class)\n" +
+            "    private String orderStatusDesc;\n" +
+            "    private java.util.List<OrderItem> items;\n" +
+            "    private Integer amount;\n" +
+            "    public String getOrderStatus() { return orderStatus; }\n" +
+            "    public void setOrderStatus(String orderStatus) { this.orderStatus = orderStatus; }\n" +
+            "    public String getOrderStatusDesc() { return orderStatusDesc; }\n" +
+            "    public void setOrderStatusDesc(String orderStatusDesc) { this.orderStatusDesc = orderStatusDesc; }\n" +
+            "    public java.util.List<OrderItem> getItems() { return items; }\n" +
+            "    public void setItems(java.util.List<OrderItem> items) { this.items = items; }\n" +
+            "    public static class Line {\n" +
+            "        public String orderStatus;\n" +
+            "        @cn.silwings.dicti18n.annotation.DictDesc(OrderStatus.class)\n" +
+            "        public String orderStatusDesc;\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final String HIDDEN = "package sample;\n" +
+            "public class HiddenVO {\n" +
+            "    private String orderStatus;\n" +
+            "    @cn.silwings.dicti18n.annotation.DictDesc(OrderStatus.class)\n" +
+            "    private String orderStatusDesc;\n" +
+            "}\n";
+
+    private static final String PRIVATE_TYPE = "package sample;\n" +
+            "public class PrivateTypeVO {\n" +
+            "    private String orderStatus;\n" +
+            "    @cn.silwings.dicti18n.annotation.DictDesc(OrderStatus.class)\n" +
+            "    private String orderStatusDesc;\n" +
+            "    private Inner inner = new Inner();\n" +
+            "    public String getOrderStatus() { return orderStatus; }\n" +
+            "    public void setOrderStatusDesc(String orderStatusDesc) { this.orderStatusDesc = orderStatusDesc; }\n" +
+            "    public Inner getInner() { return inner; }\n" +
+            "    private static class Inner {\n" +
+            "    }\n" +
+            "}\n";
+
+    private static final String LOMBOK_GETTER = "package lombok;\n" +
+            "public @interface Getter {\n" +
+            "}\n";
+
+    private static final String LOMBOK_SETTER = "package lombok;\n" +
+            "public @interface Setter {\n" +
+            "}\n";
+
+    private static final String LOMBOK_ACCESSORS = "package lombok.experimental;\n" +
+            "public @interface Accessors {\n" +
+            "    boolean fluent() default false;\n" +
+            "}\n";
+
+    private static final String FLUENT = "package sample;\n" +
+            "@lombok.Getter\n" +
+            "@lombok.Setter\n" +
+            "@lombok.experimental.Accessors(fluent = true)\n" +
+            "public class FluentVO {\n" +
+            "    private String orderStatus;\n" +
+            "    @cn.silwings.dicti18n.annotation.DictDesc(OrderStatus.class)\n" +
+            "    private String orderStatusDesc;\n" +
+            "}\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testGeneratesTranslatorForAccessorsAndPackageFields() throws Exception {
+        // 测试通过getter/setter和包内可见字段生成翻译器
+        // Test generating translators through getters/setters and package-visible fields
+        final ClassLoader classLoader = this.compile(STATUS, ITEM, ORDER);
+
+        assertTrue(Files.exists(this.tempDir.resolve("out/sample/OrderVODictTranslator.class")));
+        assertTrue(Files.exists(this.tempDir.resolve("out/sample/OrderItemDictTranslator.class")));
+        assertTrue(Files.exists(this.tempDir.resolve("out/sample/OrderVO_LineDictTranslator.class")));
+
+        final Class<?> orderClass = classLoader.loadClass("sample.OrderVO");
+        final TranslationPlan plan = DictTranslators.findPlan(orderClass);
+        assertNotNull(plan);
+        assertEquals(1, plan.getDescBindings().size());
+        assertEquals("orderStatus", plan.getDescBindings().get(0).getBaseFieldName());
+        assertEquals("order_status", plan.getDescBindings().get(0).getDictName());
+        // amount是基础类型, 只有items需要下钻
+        // amount is a basic type, only items needs to be descended into
+        assertEquals(1, plan.getNestedFields().size());
+        assertEquals("items", plan.getNestedFields().get(0).getFieldName());
+        assertEquals(classLoader.loadClass("sample.OrderItem"), plan.getNestedFields().get(0).getElementType());
+    }
+
+    @Test
+    public void testProcessorUsesGeneratedTranslator() throws Exception {
+        // 测试DictI18nProcessor使用生成的翻译器完成翻译
+        // Test DictI18nProcessor translating through the generated translator
+        final ClassLoader classLoader = this.compile(STATUS, ITEM, ORDER);
+
+        final Class<?> orderClass = classLoader.loadClass("sample.OrderVO");
+        final Class<?> itemClass = classLoader.loadClass("sample.OrderItem");
+        final Object order = orderClass.getDeclaredConstructor().newInstance();
+        orderClass.getMethod("setOrderStatus", String.class).invoke(order, "PAID");
+        final Object item = itemClass.getDeclaredConstructor().newInstance();
+        this.setField(item, "status", "PAID");
+        orderClass.getMethod("setItems", List.class).invoke(order, new ArrayList<>(Arrays.asList(item)));
+
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        when(provider.getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("PAID"))).thenReturn("已支付");
+        new DictI18nProcessor(provider, new DictI18nProperties()).process(order, "zh-CN");
+
+        assertEquals("已支付", orderClass.getMethod("getOrderStatusDesc").invoke(order));
+        assertEquals("已支付", this.getField(item, "statusText"));
+    }
+
+    @Test
+    public void testSkipsClassWithInaccessibleFields() throws Exception {
+        // 测试字段既不可见也没有访问器时不生成翻译器, 运行时回退到反射
+        // Test no translator is generated when fields are neither visible nor have accessors, falling back to reflection at runtime
+        final ClassLoader classLoader = this.compile(STATUS, HIDDEN);
+
+        assertFalse(Files.exists(this.tempDir.resolve("out/sample/HiddenVODictTranslator.class")));
+        assertNull(DictTranslators.findPlan(classLoader.loadClass("sample.HiddenVO")));
+    }
+
+    @Test
+    public void testUsesObjectForInaccessibleFieldTypes() throws Exception {
+        // 测试字段类型不可访问时(私有内部类)生成的代码仍可编译, 类型以Object代替
+        // Test the generated code still compiles when a field type is not accessible (private nested class), Object is used as its type
+        final ClassLoader classLoader = this.compile(STATUS, PRIVATE_TYPE);
+
+        final TranslationPlan plan = DictTranslators.findPlan(classLoader.loadClass("sample.PrivateTypeVO"));
+        assertNotNull(plan);
+        assertEquals(1, plan.getNestedFields().size());
+        assertEquals(Object.class, plan.getNestedFields().get(0).getFieldType());
+    }
+
+    @Test
+    public void testSkipsClassWithLombokAccessors() throws Exception {
+        // 测试使用@Accessors的类不生成翻译器, 因为无法推断Lombok生成的访问器名称
+        // Test no translator is generated for classes using @Accessors, the names of the accessors generated by Lombok cannot be derived
+        final ClassLoader classLoader = this.compile(STATUS, LOMBOK_GETTER, LOMBOK_SETTER, LOMBOK_ACCESSORS, FLUENT);
+
+        assertFalse(Files.exists(this.tempDir.resolve("out/sample/FluentVODictTranslator.class")));
+        assertNull(DictTranslators.findPlan(classLoader.loadClass("sample.FluentVO")));
+    }
+
+    private ClassLoader compile(final String... sources) throws IOException {
+        final Path src = Files.createDirectories(this.tempDir.resolve("src/sample"));
+        final Path out = Files.createDirectories(this.tempDir.resolve("out"));
+        final List<File> files = new ArrayList<>();
+        for (final String source : sources) {
+            final String name = source.substring(source.indexOf("public ") + 7).split(" ")[1];
+            final Path file = src.resolve(name + ".java");
+            Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+            files.add(file.toFile());
+        }
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            final Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromFiles(files);
+            final List<String> options = Arrays.asList("-d", out.toString(), "-s", out.toString(), "-classpath", System.getProperty("java.class.path"));
+            final JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(Arrays.asList(new DictTranslatorProcessor()));
+            assertTrue(task.call(), "compilation failed");
+        }
+        return new URLClassLoader(new URL[]{out.toUri().toURL()}, this.getClass().getClassLoader());
+    }
+
+    private void setField(final Object target, final String name, final Object value) throws ReflectiveOperationException {
+        final java.lang.reflect.Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    private Object getField(final Object target, final String name) throws ReflectiveOperationException {
+        final java.lang.reflect.Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+}
@@ -32,6 +32,9 @@ import java.lang.annotation.Target;
  *
  * <p>For example, when orderStatus is "waitPay", the framework will look for the enum item in the OrderStatus enum class with {@code code()} equal to "waitPay" and assign its {@code getText()} result to the orderStatusDesc field.</p>
  *
+ * <p>The dictionary value field may hold a {@code String}, a {@link Dict} or an integral number ({@code int}/{@code Integer},
+ * {@code long}/{@code Long}, {@code short} or {@code byte}), numbers are looked up as their decimal code, e.g. 1 as "1".</p>
+ *
  * <p>If the {@link #field()} is not specified, it will default to inferring the corresponding dictionary value field name by removing the "Desc" suffix from the current field name, for example, "orderStatusDesc" corresponds to "orderStatus" field.</p>
  *
  * <p>If the dictionary value field name cannot be inferred by the default rule or the field name is different, the {@link #field()} can be explicitly specified to indicate the dictionary value field name.</p>
@@ -33,4 +33,194 @@ public class DictI18nProperties {
      * The default language to use when a translation is not found
      */
     private String defaultLang = "";
+
+    /**
+     * Whether to walk the whole body first, collect the distinct dictionary codes and resolve them with a single
+     * batched provider call before writing the descriptions back.
+     * Recommended when remote loaders (sql, redis) are used and responses contain many rows.
+     */
+    private boolean batchResolve = false;
+
+    /**
+     * Parallel processing of large collections
+     */
+    private Parallel parallel = new Parallel();
+
+    /**
+     * Limits of a single call to the processor
+     */
+    private Budget budget = new Budget();
+
+    /**
+     * Strict (allowlist) traversal, only descend into classes that may hold dictionary fields
+     */
+    private Strict strict = new Strict();
+
+    /**
+     * Sampled analysis of the translation cost per response type
+     */
+    private CostAnalysis costAnalysis = new CostAnalysis();
+
+    /**
+     * Translation of streamed elements, e.g. rows of large exports
+     */
+    private Stream stream = new Stream();
+
+    /**
+     * Cache of the texts resolved through the whole loader and language fallback chain
+     */
+    private TextCache textCache = new TextCache();
+
+    /**
+     * Languages served, used to bound the language tags remembered from requests
+     */
+    private Languages languages = new Languages();
+
+    @Getter
+    @Setter
+    public static class Parallel {
+
+        /**
+         * Whether to split large collections into fork/join tasks translated in parallel
+         */
+        private boolean enabled = false;
+
+        /**
+         * Minimum number of elements a collection must have to be processed in parallel
+         */
+        private int threshold = 2000;
+
+        /**
+         * The pool running the tasks
+         * - COMMON: ForkJoinPool.commonPool()
+         * - DEDICATED: a pool owned by the processor and bounded by {@link #parallelism}, so translation work cannot starve the common pool
+         */
+        private PoolType pool = PoolType.COMMON;
+
+        /**
+         * Parallelism of the dedicated pool
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        public enum PoolType {
+            COMMON,
+            DEDICATED
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Budget {
+
+        /**
+         * Maximum number of objects visited per call, 0 means unlimited
+         */
+        private int maxObjects = 0;
+
+        /**
+         * Maximum number of dictionary lookups (translated desc fields) per call, 0 means unlimited
+         */
+        private int maxLookups = 0;
+
+        /**
+         * Maximum time spent per call in milliseconds, 0 means unlimited
+         */
+        private long timeoutMillis = 0;
+
+        /**
+         * Whether to keep walking after a budget is exhausted and write the dictName.code key into the remaining desc
+         * fields without lookups. Otherwise the walk stops and the remaining fields are left untouched.
+         */
+        private boolean fillKeyOnExhaustion = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Strict {
+
+        /**
+         * Whether only collections, maps, classes annotated with @DictModel and classes of the included packages
+         * (or declaring @DictDesc fields) are traversed. java.*, javax.*, org.springframework.* and com.fasterxml.*
+         * are always excluded, iterable containers outside the JDK (e.g. Page) are traversed like collections.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Packages (with their sub packages) whose classes are traversed, e.g. ["com.example.dto"]
+         */
+        private List<String> includePackages = new ArrayList<>();
+
+        /**
+         * Packages (with their sub packages) never traversed, in addition to the built-in exclusions.
+         * Classes annotated with @DictModel are traversed anyway.
+         */
+        private List<String> excludePackages = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class CostAnalysis {
+
+        /**
+         * Whether to sample calls to the processor and aggregate their cost per root type
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fraction of the calls that are sampled, between 0 and 1
+         */
+        private double sampleRate = 0.01;
+
+        /**
+         * Maximum number of root types tracked, samples of further types are dropped
+         */
+        private int maxRootTypes = 256;
+    }
+
+    @Getter
+    @Setter
+    public static class Stream {
+
+        /**
+         * Number of elements translated together, with one walk and one batched lookup. Bounds the number of elements
+         * held in memory at once.
+         */
+        private int chunkSize = 1000;
+    }
+
+    @Getter
+    @Setter
+    public static class TextCache {
+
+        /**
+         * Whether to cache the outcome of every lookup, including codes without any text
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of cached lookups
+         */
+        private int maximumSize = 10000;
+
+        /**
+         * Time after which a cached lookup is resolved again, 0 to keep it until it is evicted or invalidated
+         */
+        private long expireAfterWriteSeconds = 300;
+    }
+
+    @Getter
+    @Setter
+    public static class Languages {
+
+        /**
+         * Languages held by the loaders, e.g. zh-CN, en-US. When set, request tags of other languages are folded onto
+         * the closest configured language, or onto the default language. Empty to accept every tag.
+         */
+        private List<String> known = new ArrayList<>();
+
+        /**
+         * Maximum number of further request tags remembered, tags beyond it are resolved on every request
+         */
+        private int maxCachedTags = 1024;
+    }
 }
@@ -1,5 +1,8 @@
 package cn.silwings.dicti18n.loader;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -12,7 +15,10 @@ import java.util.Optional;
  * <p>Core responsibilities：</p>
  * <ul>
  *   <li>Define the unique identifier of the loader ({@link #loaderName()}), used for configuration and priority control</li>
- *   <li>Provide a standard method to query translation results based on language and dictionary key ({@link #get(String, String)})</li>
+ *   <li>Provide a standard method to query translation results based on language and dictionary key ({@link #get(String, String)}),
+ *   optionally without building the key ({@link #get(String, String, String)}) or allocating
+ *   an {@link Optional} ({@link #getOrNull(String, String, String)})</li>
+ *   <li>Optionally provide a native bulk query ({@link #getAll(String, Collection)}) for data sources where round trips are expensive</li>
  * </ul>
  *
  * <p>The implementation class needs to realize specific loading logic based on its own characteristics (such as files,
@@ -36,4 +42,95 @@ public interface DictI18nLoader {
      * @return translation
      */
     Optional<String> get(String lang, String dictKey);
-}
\ No newline at end of file
+
+    /**
+     * Get the translation of an item by its dictionary name and code, the same one {@link #get(String, String)} returns
+     * for the key {@code dictName.code}.
+     * <p>
+     * The default implementation builds that key. Loaders keeping {@code dictName -> code -> text} tables should
+     * override it with a lookup that needs no key, and serve {@link #get(String, String)} by splitting the key with
+     * {@link DictKey#parse(String)}.
+     *
+     * @param lang     lowercase language
+     * @param dictName dictionary name
+     * @param code     code
+     * @return translation
+     */
+    default Optional<String> get(final String lang, final String dictName, final String code) {
+        return this.get(lang, dictName + "." + code);
+    }
+
+    /**
+     * Get the translation of an item with an integral code, the same one {@link #get(String, String)} returns for the
+     * key {@code dictName.code}.
+     * <p>
+     * The default implementation builds that key. In-memory loaders should override it with a lookup in tables keyed
+     * by the primitive code, see {@code NumericDictTable} in the loader core module.
+     *
+     * @param lang     lowercase language
+     * @param dictName dictionary name
+     * @param code     integral code
+     * @return translation
+     */
+    default Optional<String> get(final String lang, final String dictName, final long code) {
+        return this.get(lang, dictName + "." + code);
+    }
+
+    /**
+     * Same lookup as {@link #get(String, String, String)}, returning null instead of an empty {@link Optional}.
+     * <p>
+     * The provider probes every loader for every language of the fallback chains through this method. The default
+     * implementation unwraps {@link #get(String, String, String)}, loaders should implement it natively and make the
+     * {@link Optional} variant wrap it, so a probe does not allocate.
+     *
+     * @param lang     lowercase language
+     * @param dictName dictionary name
+     * @param code     code
+     * @return translation, or null
+     */
+    default String getOrNull(final String lang, final String dictName, final String code) {
+        return this.get(lang, dictName, code).orElse(null);
+    }
+
+    /**
+     * Same lookup as {@link #get(String, String, long)}, returning null instead of an empty {@link Optional}.
+     *
+     * @param lang     lowercase language
+     * @param dictName dictionary name
+     * @param code     integral code
+     * @return translation, or null
+     */
+    default String getOrNull(final String lang, final String dictName, final long code) {
+        return this.get(lang, dictName, code).orElse(null);
+    }
+
+    /**
+     * Get translations of many keys in one language.
+     * <p>
+     * The default implementation calls {@link #get(String, String)} for every key. Loaders backed by remote data sources
+     * should override it to fetch all keys in as few round trips as possible.
+     *
+     * @param lang     lowercase language
+     * @param dictKeys dictionary keys
+     * @return translations found, keyed by the dictionary keys as passed in. Keys without translation are absent.
+     */
+    default Map<String, String> getAll(final String lang, final Collection<String> dictKeys) {
+        final Map<String, String> result = new HashMap<>();
+        for (final String dictKey : dictKeys) {
+            this.get(lang, dictKey).ifPresent(desc -> result.put(dictKey, desc));
+        }
+        return result;
+    }
+
+    /**
+     * Version of the translations served by this loader.
+     * <p>
+     * Loaders whose content can change at runtime must return a different value after every change, so results derived
+     * from earlier translations (e.g. memoized translated copies) are recomputed. Loaders with static content return 0.
+     *
+     * @return current version of the loaded translations
+     */
+    default long getVersion() {
+        return 0L;
+    }
+}
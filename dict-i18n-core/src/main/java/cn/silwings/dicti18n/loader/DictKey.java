@@ -0,0 +1,86 @@
+package cn.silwings.dicti18n.loader;
+
+import java.util.Objects;
+
+/**
+ * A dictionary item identified by its dictionary name and code, the structured form of the {@code dictName.code} key.
+ * <p>
+ * Loaders holding their translations in {@code dictName -> code -> text} tables use {@link #parse(String)} to serve
+ * lookups by the flat key, see {@link DictI18nLoader#get(String, String, String)}. Dictionary names may contain dots
+ * ({@code order.order_status}), so a flat key is split at its last dot, the same way {@code NumericDictTable} does.
+ */
+public final class DictKey {
+
+    private final String dictName;
+    private final String code;
+    private final int hash;
+
+    private DictKey(final String dictName, final String code) {
+        this.dictName = dictName;
+        this.code = code;
+        this.hash = 31 * dictName.hashCode() + code.hashCode();
+    }
+
+    /**
+     * @param dictName dictionary name, such as "order_status"
+     * @param code     code, such as "pending"
+     */
+    public static DictKey of(final String dictName, final String code) {
+        return new DictKey(Objects.requireNonNull(dictName, "dictName"), Objects.requireNonNull(code, "code"));
+    }
+
+    /**
+     * Split a flat key at its last dot, a key without dot is a code of the dictionary with the empty name.
+     *
+     * @param dictKey key in the form of dictName.code
+     * @return the structured key, null if dictKey is null
+     */
+    public static DictKey parse(final String dictKey) {
+        if (null == dictKey) {
+            return null;
+        }
+        final int index = dictKey.lastIndexOf('.');
+        return index < 0 ? new DictKey("", dictKey) : new DictKey(dictKey.substring(0, index), dictKey.substring(index + 1));
+    }
+
+    /**
+     * Whether a code has to be looked up through its flat key in tables built by {@link #parse(String)}: with a dot in
+     * the code the flat key is split elsewhere than between the dictionary name and the code.
+     */
+    public static boolean isSplitAmbiguous(final String code) {
+        return code.indexOf('.') >= 0;
+    }
+
+    public String getDictName() {
+        return this.dictName;
+    }
+
+    public String getCode() {
+        return this.code;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DictKey)) {
+            return false;
+        }
+        final DictKey other = (DictKey) o;
+        return this.hash == other.hash && this.dictName.equals(other.dictName) && this.code.equals(other.code);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * @return the flat key, dictName.code
+     */
+    @Override
+    public String toString() {
+        return this.dictName + "." + this.code;
+    }
+}
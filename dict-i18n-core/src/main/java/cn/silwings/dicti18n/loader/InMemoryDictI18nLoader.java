@@ -0,0 +1,35 @@
+package cn.silwings.dicti18n.loader;
+
+import java.util.Map;
+
+/**
+ * A loader holding all of its translations in memory, e.g. loaded from files or declared in code at startup.
+ * <p>
+ * When every configured loader is in memory the result of a lookup only changes when a loader changes, so
+ * {@code CompositeDictI18nProvider} resolves lookups from a precomputed snapshot instead of asking the loaders.
+ * Implementations must change their {@link #getVersion() version} whenever their content changes, including when
+ * it is loaded for the first time.
+ */
+public interface InMemoryDictI18nLoader extends DictI18nLoader {
+
+    /**
+     * All translations of a language, the same ones {@link #get(String, String, String)} returns.
+     *
+     * @param lang lowercase language
+     * @return translations keyed by dictionary name and then by code as stored, lowercase if {@link #isIgnoreCase()}.
+     * Flat keys are split with {@link DictKey#parse(String)}. Must not be modified by the caller.
+     */
+    Map<String, Map<String, String>> getEntries(String lang);
+
+    /**
+     * Whether dictionary keys are looked up ignoring case, i.e. stored and looked up in lowercase.
+     */
+    boolean isIgnoreCase();
+
+    /**
+     * Whether {@link #getEntries(String)} returns the same translations for every language, e.g. texts declared in code.
+     */
+    default boolean isLanguageIndependent() {
+        return false;
+    }
+}
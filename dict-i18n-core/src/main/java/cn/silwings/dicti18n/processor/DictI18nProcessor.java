@@ -4,64 +4,447 @@ import cn.silwings.dicti18n.annotation.DictDesc;
 import cn.silwings.dicti18n.annotation.DictModel;
 import cn.silwings.dicti18n.config.DictI18nProperties;
 import cn.silwings.dicti18n.dict.Dict;
+import cn.silwings.dicti18n.processor.accessor.FieldAccessorFactory;
+import cn.silwings.dicti18n.processor.accessor.LambdaFieldAccessorFactory;
+import cn.silwings.dicti18n.processor.budget.BudgetExhaustedEvent;
+import cn.silwings.dicti18n.processor.budget.BudgetExhaustedListener;
+import cn.silwings.dicti18n.processor.cost.CostSample;
+import cn.silwings.dicti18n.processor.cost.TranslationCostAnalyzer;
+import cn.silwings.dicti18n.processor.filter.StrictTypeFilter;
+import cn.silwings.dicti18n.processor.lazy.LoadStateDetector;
+import cn.silwings.dicti18n.processor.plan.DictDescBinding;
+import cn.silwings.dicti18n.processor.plan.NestedFieldBinding;
+import cn.silwings.dicti18n.processor.plan.TranslationPlan;
+import cn.silwings.dicti18n.processor.translator.DictTranslators;
 import cn.silwings.dicti18n.provider.DictI18nProvider;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 
-public class DictI18nProcessor {
+public class DictI18nProcessor implements AutoCloseable {
 
     private static final Logger log = LoggerFactory.getLogger(DictI18nProcessor.class);
 
+    // Fork/join tasks never get smaller than this, below it the scheduling overhead outweighs the translation work
+    private static final int MIN_PARALLEL_CHUNK_SIZE = 256;
+
     private final DictI18nProvider i18nProvider;
     // Whether the cache type should be handled to improve performance
     private final Map<Class<?>, Boolean> processableCache = new ConcurrentHashMap<>();
     private final DictI18nProperties dictI18nProperties;
+    private final FieldAccessorFactory fieldAccessorFactory;
+    private final LoadStateDetector loadStateDetector;
+    // Only set in strict mode
+    private final StrictTypeFilter strictTypeFilter;
+    // Lazy associations left untouched because they were not loaded yet
+    private final LongAdder skippedLazyAssociations = new LongAdder();
+    // Calls that ran out of their traversal budget
+    private final LongAdder budgetExhaustions = new LongAdder();
+    private final List<BudgetExhaustedListener> budgetExhaustedListeners = new CopyOnWriteArrayList<>();
+    private final TranslationCostAnalyzer costAnalyzer;
+    // Created on first use when the dedicated pool is configured
+    private volatile ForkJoinPool dedicatedPool;
+    // Translation plans are built once per class, ClassValue does not keep classes from being unloaded
+    private final ClassValue<TranslationPlan> plans = new ClassValue<TranslationPlan>() {
+        @Override
+        protected TranslationPlan computeValue(final Class<?> type) {
+            // Prefer the reflection-free plan generated by dict-i18n-apt
+            final TranslationPlan generatedPlan = DictTranslators.findPlan(type);
+            return null != generatedPlan ? generatedPlan : DictI18nProcessor.this.buildPlan(type);
+        }
+    };
 
     public DictI18nProcessor(final DictI18nProvider i18nProvider, final DictI18nProperties dictI18nProperties) {
+        this(i18nProvider, dictI18nProperties, new LambdaFieldAccessorFactory());
+    }
+
+    public DictI18nProcessor(final DictI18nProvider i18nProvider, final DictI18nProperties dictI18nProperties, final FieldAccessorFactory fieldAccessorFactory) {
+        this(i18nProvider, dictI18nProperties, fieldAccessorFactory, LoadStateDetector.ALWAYS_LOADED);
+    }
+
+    public DictI18nProcessor(final DictI18nProvider i18nProvider, final DictI18nProperties dictI18nProperties, final FieldAccessorFactory fieldAccessorFactory, final LoadStateDetector loadStateDetector) {
         this.i18nProvider = i18nProvider;
         this.dictI18nProperties = dictI18nProperties;
+        this.fieldAccessorFactory = fieldAccessorFactory;
+        this.loadStateDetector = loadStateDetector;
+        this.strictTypeFilter = dictI18nProperties.getStrict().isEnabled() ? new StrictTypeFilter(dictI18nProperties.getStrict()) : null;
+        this.costAnalyzer = new TranslationCostAnalyzer(dictI18nProperties.getCostAnalysis());
     }
 
     public int getMaxRecursionDepth() {
         return this.dictI18nProperties.getMaxNestingDepth();
     }
 
+    /**
+     * Number of uninitialized lazy proxies and collections skipped so far, see {@link LoadStateDetector}.
+     */
+    public long getSkippedLazyAssociations() {
+        return this.skippedLazyAssociations.sum();
+    }
+
+    /**
+     * Number of calls that exhausted one of the budgets configured in {@link DictI18nProperties.Budget}.
+     */
+    public long getBudgetExhaustions() {
+        return this.budgetExhaustions.sum();
+    }
+
+    /**
+     * The cost of the calls sampled so far, per root type, see {@link DictI18nProperties.CostAnalysis}.
+     */
+    public TranslationCostAnalyzer getCostAnalyzer() {
+        return this.costAnalyzer;
+    }
+
+    /**
+     * Register a listener notified whenever a call exhausts its traversal budget.
+     */
+    public void addBudgetExhaustedListener(final BudgetExhaustedListener listener) {
+        this.budgetExhaustedListeners.add(listener);
+    }
+
+    /**
+     * Whether the value is loaded according to the configured {@link LoadStateDetector}.
+     * Values that are not loaded are never read by the processor.
+     */
+    public boolean isLoaded(final Object value) {
+        return this.loadStateDetector.isLoaded(value);
+    }
+
     public void process(final Object body, final String language) {
 
         if (Objects.isNull(body)) {
             return;
         }
 
-        // IdentityHashMap is used to ensure that objects are judged by address and to prevent false positives caused by overriding equals().
-        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (this.isLazyUnloaded(body)) {
+            return;
+        }
 
-        if (body instanceof Collection<?>) {
-            ((Collection<?>) body).forEach(e -> this.processObject(e, language, 0, visited));
-        } else if (body instanceof Map<?, ?>) {
-            ((Map<?, ?>) body).values().forEach(e -> this.processObject(e, language, 0, visited));
-        } else {
-            this.processObject(body, language, 0, visited);
+        // In batch mode the walk only collects codes, the texts are resolved and written back afterwards
+        final PendingTexts pending = this.dictI18nProperties.isBatchResolve() ? new PendingTexts() : null;
+        final CostSample sample = this.costAnalyzer.startSample(body.getClass());
+
+        this.traverse(body, language, pending, sample);
+
+        if (null != pending) {
+            this.resolvePendingTexts(pending, language);
+        }
+
+        if (null != sample) {
+            this.costAnalyzer.record(sample);
         }
     }
 
-    private void processObject(final Object target, final String language, final int depth, final Set<Object> visited) {
+    /**
+     * Translate an object graph into several languages with a single walk, e.g. to index the same objects once per language.
+     * <p>
+     * The walk only collects the dictionary codes, like the batch mode of {@link #process(Object, String)}, then every
+     * distinct code is resolved once per language through {@link DictI18nProvider#getTexts}. Desc fields declared as
+     * {@code Map<String, String>} receive the texts of all languages keyed by language right away. The other desc fields
+     * are left untouched until {@link MultiLanguageTranslation#apply(String)} writes the texts of one language into them.
+     *
+     * @param body      object, collection or map to translate
+     * @param languages languages to translate into, such as "en-US", "zh-CN"
+     * @return the texts of every language, ready to be applied to the graph one language at a time
+     */
+    public MultiLanguageTranslation processAll(final Object body, final Collection<String> languages) {
+        final PendingTexts pending = new PendingTexts();
+        if (Objects.nonNull(body) && !this.isLazyUnloaded(body)) {
+            this.traverse(body, null, pending, null);
+        }
+
+        final Map<String, Map<String, Map<String, String>>> textsByLanguage = new LinkedHashMap<>();
+        for (final String language : languages) {
+            if (!textsByLanguage.containsKey(language)) {
+                textsByLanguage.put(language, this.resolveTexts(pending, language));
+            }
+        }
+
+        for (final PendingWrite write : pending.writes) {
+            if (write.binding.isLanguageMap()) {
+                final Map<String, String> descs = new LinkedHashMap<>();
+                textsByLanguage.forEach((language, texts) -> descs.put(language, this.toDesc(write.binding.getDictName(), write.code, this.findText(texts, write))));
+                try {
+                    write.binding.getDescSetter().set(write.target, descs);
+                } catch (Exception e) {
+                    log.error("[DictI18n] SetDictDescToField failed: {}", e.getMessage(), e);
+                }
+            }
+        }
+        return new MultiLanguageTranslation(this, pending.writes, textsByLanguage);
+    }
+
+    /**
+     * Walk the graph once, translating right away or, with a collector, only collecting the codes.
+     */
+    private void traverse(final Object body, final String language, final PendingTexts pending, final CostSample sample) {
+        // Budgets only apply when configured, an unbounded call carries no accounting at all
+        final DictI18nProperties.Budget budgetConfig = this.dictI18nProperties.getBudget();
+        final TraversalBudget budget = budgetConfig.getMaxObjects() > 0 || budgetConfig.getMaxLookups() > 0 || budgetConfig.getTimeoutMillis() > 0
+                ? new TraversalBudget(budgetConfig, body.getClass())
+                : null;
+
+        // The visited set compares by address so that overridden equals() cannot cause false positives,
+        // it is kept by the thread together with the work stack and reused by the next call
+        final TraversalContext context = TraversalContext.acquire();
+        context.cost = sample;
+        try {
+            if (body instanceof Collection<?>) {
+                this.enterElements(context, (Collection<?>) body, null, language, 0, pending, budget);
+            } else if (body instanceof Map<?, ?>) {
+                this.enterElements(context, ((Map<?, ?>) body).values(), null, language, 0, pending, budget);
+            } else {
+                this.enterObject(context, body, language, 0, pending, budget);
+            }
+            this.walk(context, language, pending, budget);
+        } finally {
+            context.release();
+        }
+
+        if (null != budget && null != budget.exhausted.get()) {
+            this.fireBudgetExhausted(budget);
+        }
+    }
+
+    /**
+     * Build the translation metadata of a declared (possibly generic) type ahead of the first call to
+     * {@link #process(Object, String)}, e.g. {@code List<OrderVO>} or {@code PageResult<OrderVO>}.
+     * <p>
+     * The type graph is walked the same way {@link #process(Object, String)} walks instances: translation plans are built
+     * for the classes that would be translated and the result of the nested type scan is cached for the classes of nested
+     * fields. Collection elements and map values are resolved from their type arguments, type variables from the
+     * arguments of the enclosing parameterized type. Types that are only known at runtime (interfaces, raw types) are
+     * skipped and still resolved lazily.
+     *
+     * @param type declared type of the objects that will be processed
+     * @return names of the dictionaries referenced by the warmed up classes
+     */
+    public Set<String> warmUp(final Type type) {
+        final Set<String> dictNames = new LinkedHashSet<>();
+        this.warmUpType(type, Collections.emptyMap(), 0, true, new HashSet<>(), dictNames);
+        return dictNames;
+    }
+
+    /**
+     * @param root whether instances of the type are passed to enterObject directly (top level or collection element),
+     *             otherwise they are nested field values which are only processed when {@link #shouldProcessType} says so
+     */
+    private void warmUpType(final Type type, final Map<TypeVariable<?>, Type> bindings, final int depth, final boolean root, final Set<Object> seen, final Set<String> dictNames) {
+        if (null == type || depth > this.getMaxRecursionDepth()) {
+            return;
+        }
+
+        if (type instanceof TypeVariable<?>) {
+            final Type bound = bindings.get(type);
+            if (null != bound) {
+                this.warmUpType(bound, Collections.emptyMap(), depth, root, seen, dictNames);
+            }
+        } else if (type instanceof WildcardType) {
+            this.warmUpType(((WildcardType) type).getUpperBounds()[0], bindings, depth, root, seen, dictNames);
+        } else if (type instanceof GenericArrayType) {
+            this.warmUpType(((GenericArrayType) type).getGenericComponentType(), bindings, depth, root, seen, dictNames);
+        } else if (type instanceof ParameterizedType) {
+            final Class<?> rawType = (Class<?>) ((ParameterizedType) type).getRawType();
+            final Type[] arguments = ((ParameterizedType) type).getActualTypeArguments();
+            if (Collection.class.isAssignableFrom(rawType) && arguments.length == 1) {
+                this.warmUpType(arguments[0], bindings, depth, true, seen, dictNames);
+            } else if (Map.class.isAssignableFrom(rawType) && arguments.length == 2) {
+                this.warmUpType(arguments[1], bindings, depth, true, seen, dictNames);
+            } else {
+                final Map<TypeVariable<?>, Type> classBindings = new HashMap<>();
+                final TypeVariable<?>[] parameters = rawType.getTypeParameters();
+                for (int i = 0; i < parameters.length && i < arguments.length; i++) {
+                    // Resolve the argument against the enclosing bindings, e.g. the T of PageResult<T> inside Response<PageResult<T>>
+                    final Type argument = arguments[i] instanceof TypeVariable<?> ? bindings.get(arguments[i]) : arguments[i];
+                    if (null != argument) {
+                        classBindings.put(parameters[i], argument);
+                    }
+                }
+                this.warmUpClass(rawType, classBindings, depth, root, seen, dictNames);
+            }
+        } else if (type instanceof Class<?>) {
+            final Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                this.warmUpType(clazz.getComponentType(), bindings, depth, root, seen, dictNames);
+            } else if (!Collection.class.isAssignableFrom(clazz) && !Map.class.isAssignableFrom(clazz)) {
+                this.warmUpClass(clazz, Collections.emptyMap(), depth, root, seen, dictNames);
+            }
+        }
+    }
+
+    private void warmUpClass(final Class<?> clazz, final Map<TypeVariable<?>, Type> bindings, final int depth, final boolean root, final Set<Object> seen, final Set<String> dictNames) {
+        if (this.isJavaBasicType(clazz) || clazz.isInterface() || clazz == Object.class || !this.isTraversable(clazz)) {
+            return;
+        }
+        // Mirror enterNestedField: nested values are only descended into when the type scan says so
+        if (!root && !this.shouldProcessType(clazz, depth)) {
+            return;
+        }
+        if (!seen.add(Arrays.asList(clazz, bindings))) {
+            return;
+        }
+
+        final TranslationPlan plan = this.plans.get(clazz);
+        for (final DictDescBinding binding : plan.getDescBindings()) {
+            if (null != binding.getDictName()) {
+                dictNames.add(binding.getDictName());
+            }
+        }
+
+        // Bindings of generic superclasses, e.g. class OrderPage extends PageResult<OrderVO>
+        final Map<TypeVariable<?>, Type> hierarchyBindings = new HashMap<>(bindings);
+        for (Class<?> current = clazz; null != current && current != Object.class; current = current.getSuperclass()) {
+            final Type superclass = current.getGenericSuperclass();
+            if (superclass instanceof ParameterizedType) {
+                final TypeVariable<?>[] parameters = current.getSuperclass().getTypeParameters();
+                final Type[] arguments = ((ParameterizedType) superclass).getActualTypeArguments();
+                for (int i = 0; i < parameters.length && i < arguments.length; i++) {
+                    final Type argument = arguments[i] instanceof TypeVariable<?> ? hierarchyBindings.get(arguments[i]) : arguments[i];
+                    if (null != argument) {
+                        hierarchyBindings.put(parameters[i], argument);
+                    }
+                }
+            }
+        }
+
+        final Map<String, Field> fields = new HashMap<>();
+        for (final Field field : this.getAllFields(clazz)) {
+            fields.putIfAbsent(field.getName(), field);
+        }
+        for (final NestedFieldBinding nestedField : plan.getNestedFields()) {
+            final Field field = fields.get(nestedField.getFieldName());
+            final Type fieldType = null != field ? field.getGenericType() : nestedField.getFieldType();
+            // enterObject(depth) -> enterNestedField(depth + 1) -> enterObject / shouldProcessType(depth + 2)
+            this.warmUpType(fieldType, hierarchyBindings, depth + 2, false, seen, dictNames);
+        }
+    }
+
+    /**
+     * Walk the frames pushed onto the context until the stack is empty.
+     * <p>
+     * The walk is depth first in field and element order, exactly like a recursive descent, but keeps its state on the
+     * explicit stack of the context: the objects whose nested fields and the collections whose elements are still being
+     * walked, each with its position and depth.
+     */
+    private void walk(final TraversalContext context, final String language, final PendingTexts pending, final TraversalBudget budget) {
+        while (!context.isEmpty()) {
+            if (null != budget && budget.isStopped()) {
+                return;
+            }
+
+            final int depth = context.depth();
+            switch (context.kind()) {
+                case TraversalContext.OBJECT: {
+                    final List<NestedFieldBinding> nestedFields = ((TranslationPlan) context.cursor()).getNestedFields();
+                    final int index = context.advance();
+                    if (index < nestedFields.size()) {
+                        this.enterNestedField(context, context.target(), nestedFields.get(index), language, depth + 1, pending, budget);
+                    } else {
+                        if (null != context.cost) {
+                            context.cost.leave(context.target().getClass());
+                        }
+                        context.pop();
+                    }
+                    break;
+                }
+                case TraversalContext.LIST: {
+                    final List<?> list = (List<?>) context.target();
+                    final int index = context.advance();
+                    if (index < list.size()) {
+                        this.enterObject(context, list.get(index), language, depth, pending, budget);
+                    } else {
+                        context.pop();
+                    }
+                    break;
+                }
+                case TraversalContext.PLANNED_LIST: {
+                    final List<?> list = (List<?>) context.target();
+                    final TranslationPlan plan = (TranslationPlan) context.cursor();
+                    final int frames = context.size();
+                    // Tight loop over the elements until one of them pushes its nested fields
+                    while (context.size() == frames) {
+                        if (null != budget && budget.isStopped()) {
+                            return;
+                        }
+                        final int index = context.advance();
+                        if (index >= list.size()) {
+                            context.pop();
+                            break;
+                        }
+                        final Object element = list.get(index);
+                        if (null != element && element.getClass() == plan.getType()) {
+                            if (!plan.isEmpty()) {
+                                this.enterPlanned(context, element, plan, language, depth, pending, budget);
+                            }
+                        } else {
+                            this.enterObject(context, element, language, depth, pending, budget);
+                        }
+                    }
+                    break;
+                }
+                default: {
+                    final Iterator<?> iterator = (Iterator<?>) context.cursor();
+                    final Object element;
+                    try {
+                        if (!iterator.hasNext()) {
+                            context.pop();
+                            break;
+                        }
+                        element = iterator.next();
+                    } catch (Exception e) {
+                        // e.g. concurrently modified, the remaining elements are skipped
+                        log.debug("[DictI18n] Iterating the elements failed and the reason for the failure: {}", e.getMessage(), e);
+                        context.pop();
+                        break;
+                    }
+                    this.enterObject(context, element, language, depth, pending, budget);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Translate the desc fields of an object and push it to walk its nested fields.
+     */
+    private void enterObject(final TraversalContext context, final Object target, final String language, final int depth, final PendingTexts pending, final TraversalBudget budget) {
         if (target == null || this.isJavaBasicType(target.getClass()) || depth > this.getMaxRecursionDepth()) {
             if (depth > this.getMaxRecursionDepth()) {
                 log.debug("[DictI18n] When looking up a field, the recursion exceeds the maximum recursion depth");
@@ -69,19 +452,43 @@ public class DictI18nProcessor {
             return;
         }
 
-        if (!visited.add(target)) {
+        if (!this.isTraversable(target.getClass())) {
             return;
         }
 
-        final Class<?> clazz = target.getClass();
+        this.enterPlanned(context, target, this.plans.get(target.getClass()), language, depth, pending, budget);
+    }
+
+    /**
+     * {@link #enterObject} for a target already known to be no basic type, within the maximum depth and of the plan's class.
+     */
+    private void enterPlanned(final TraversalContext context, final Object target, final TranslationPlan plan, final String language, final int depth, final PendingTexts pending, final TraversalBudget budget) {
+        if (!context.visited.add(target)) {
+            return;
+        }
 
-        for (final Field descField : this.getAllFields(clazz)) {
-            try {
-                this.processField(target, descField, clazz, language, depth + 1, visited);
-            } catch (Exception e) {
-                log.debug("[DictI18n] The processing field failed and the reason for the failure: {}", e.getMessage(), e);
+        if (this.isLazyUnloaded(target)) {
+            return;
+        }
+
+        if (null != budget && !budget.visit()) {
+            return;
+        }
+
+        final List<DictDescBinding> descBindings = plan.getDescBindings();
+        final CostSample cost = context.cost;
+        if (null != cost) {
+            cost.enter(target.getClass(), plan, !plan.getNestedFields().isEmpty());
+        }
+        for (int i = 0; i < descBindings.size(); i++) {
+            if (this.setDictDescToField(target, descBindings.get(i), language, pending, budget) && null != cost) {
+                cost.lookup();
             }
         }
+
+        if (!plan.getNestedFields().isEmpty()) {
+            context.pushObject(target, plan, depth);
+        }
     }
 
     private List<Field> getAllFields(Class<?> type) {
@@ -94,78 +501,387 @@ public class DictI18nProcessor {
         return fields;
     }
 
-    private void processField(final Object target, final Field descField, final Class<?> clazz, final String language, final int depth, final Set<Object> visited) throws Exception {
-        descField.setAccessible(true);
-
-        // Prioritize fields annotated with @DictDesc
-        final DictDesc annotation = descField.getAnnotation(DictDesc.class);
-        if (null != annotation) {
-            this.setDictDescToField(target, descField, annotation, clazz, language);
-        } else {
-            final Object nestedValue = descField.get(target);
-            if (null != nestedValue) {
-                final Class<?> fieldType = nestedValue.getClass();
+    private void enterNestedField(final TraversalContext context, final Object target, final NestedFieldBinding nestedField, final String language, final int depth, final PendingTexts pending, final TraversalBudget budget) {
+        try {
+            final Object nestedValue = nestedField.getGetter().get(target);
+            if (null != nestedValue && !this.isLazyUnloaded(nestedValue)) {
                 // Supports Collection, Map, and objects (provided they are annotated with @DictModel)
                 if (nestedValue instanceof Collection<?>) {
-                    ((Collection<?>) nestedValue).forEach(e -> this.processObject(e, language, depth + 1, visited));
+                    this.enterElements(context, (Collection<?>) nestedValue, nestedField.getElementType(), language, depth + 1, pending, budget);
                 } else if (nestedValue instanceof Map<?, ?>) {
-                    ((Map<?, ?>) nestedValue).values().forEach(e -> this.processObject(e, language, depth + 1, visited));
-                } else if (this.shouldProcessType(fieldType, depth + 1)) {
-                    this.processObject(nestedValue, language, depth + 1, visited);
+                    this.enterElements(context, ((Map<?, ?>) nestedValue).values(), nestedField.getElementType(), language, depth + 1, pending, budget);
+                } else if (this.shouldProcessType(nestedValue.getClass(), depth + 1)) {
+                    this.enterObject(context, nestedValue, language, depth + 1, pending, budget);
                 }
             }
+        } catch (Exception e) {
+            log.debug("[DictI18n] The processing field failed and the reason for the failure: {}", e.getMessage(), e);
         }
     }
 
-    private void setDictDescToField(final Object target,
-                                    final Field descField,
-                                    final DictDesc annotation,
-                                    final Class<?> clazz,
-                                    final String language) {
-        final String dictName = this.getDictName(annotation);
+    /**
+     * Iterating an uninitialized lazy collection or reading the fields of an uninitialized proxy would load it.
+     */
+    private boolean isLazyUnloaded(final Object value) {
+        if (this.loadStateDetector.isLoaded(value)) {
+            return false;
+        }
+        this.skippedLazyAssociations.increment();
+        log.debug("[DictI18n] Skipping lazy association that is not loaded: {}", value.getClass().getName());
+        return true;
+    }
 
-        final String baseFieldName = this.getBaseFieldName(annotation, descField);
+    /**
+     * Push a collection to walk its elements, or process them right away in parallel fork/join tasks when the collection
+     * is large enough.
+     * <p>
+     * The strategy is chosen once per collection from the declared element type and the class of the first element:
+     * <ul>
+     *     <li>Elements declared as a basic type ({@code List<String>}, {@code Map<String, Long>}) or as a final class
+     *     without anything to translate (or excluded in strict mode) are skipped without iterating</li>
+     *     <li>Random access lists are walked by index with the plan of the first element's class, elements of that class
+     *     skip the per-element type checks and plan lookups</li>
+     *     <li>Other collections are walked through their iterator, element by element</li>
+     * </ul>
+     *
+     * @param elementType declared class of the elements, null if unknown
+     */
+    private void enterElements(final TraversalContext context, final Collection<?> elements, final Class<?> elementType, final String language, final int depth, final PendingTexts pending, final TraversalBudget budget) {
+        if (null != elementType && (this.isJavaBasicType(elementType)
+                || (Modifier.isFinal(elementType.getModifiers()) && (!this.isTraversable(elementType) || this.plans.get(elementType).isEmpty())))) {
+            return;
+        }
+        if (depth > this.getMaxRecursionDepth()) {
+            log.debug("[DictI18n] When looking up a field, the recursion exceeds the maximum recursion depth");
+            return;
+        }
 
-        if (StringUtils.isNotBlank(baseFieldName)) {
-            try {
-                final Field baseField = this.getFieldRecursively(clazz, baseFieldName);
-                baseField.setAccessible(true);
-                final Object baseFieldValue = baseField.get(target);
-
-                final Object dictCode;
-                if (baseFieldValue instanceof Dict) {
-                    dictCode = ((Dict) baseFieldValue).code();
-                } else {
-                    dictCode = baseFieldValue;
+        final DictI18nProperties.Parallel parallel = this.dictI18nProperties.getParallel();
+        if (parallel.isEnabled() && elements.size() >= Math.max(2, parallel.getThreshold())) {
+            this.processElementsInParallel(elements, language, depth, context.visited, pending, budget);
+        } else if (elements instanceof List<?> && elements instanceof RandomAccess) {
+            final List<?> list = (List<?>) elements;
+            final Object first = list.isEmpty() ? null : list.get(0);
+            if (null != first && !this.isJavaBasicType(first.getClass()) && this.isTraversable(first.getClass())) {
+                context.pushPlannedList(list, this.plans.get(first.getClass()), depth);
+            } else {
+                context.pushList(list, depth);
+            }
+        } else if (!elements.isEmpty()) {
+            context.pushIterator(elements.iterator(), depth);
+        }
+    }
+
+    private void processElementsInParallel(final Collection<?> elements, final String language, final int depth, final IdentitySet visited, final PendingTexts pending, final TraversalBudget budget) {
+        final List<?> items = elements instanceof List<?> && elements instanceof RandomAccess ? (List<?>) elements : new ArrayList<>(elements);
+        final ForkJoinPool pool = this.getForkJoinPool();
+        final int chunkSize = Math.max(MIN_PARALLEL_CHUNK_SIZE, items.size() / (pool.getParallelism() * 4));
+        final TranslateTask task = new TranslateTask(items, 0, items.size(), chunkSize, language, depth, visited, pending, budget);
+        if (ForkJoinTask.getPool() == pool) {
+            // Nested collection inside a task, keep splitting within the same pool
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+
+    private ForkJoinPool getForkJoinPool() {
+        final DictI18nProperties.Parallel parallel = this.dictI18nProperties.getParallel();
+        if (DictI18nProperties.Parallel.PoolType.DEDICATED != parallel.getPool()) {
+            return ForkJoinPool.commonPool();
+        }
+        ForkJoinPool pool = this.dedicatedPool;
+        if (null == pool) {
+            synchronized (this) {
+                pool = this.dedicatedPool;
+                if (null == pool) {
+                    pool = new ForkJoinPool(Math.max(1, parallel.getParallelism()), forkJoinPool -> {
+                        final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                        thread.setName("dict-i18n-worker-" + thread.getPoolIndex());
+                        return thread;
+                    }, null, false);
+                    this.dedicatedPool = pool;
                 }
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * Shut down the dedicated fork/join pool, if any.
+     */
+    @Override
+    public void close() {
+        final ForkJoinPool pool = this.dedicatedPool;
+        if (null != pool) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Get the translation plan of the given class, building it on first use.
+     */
+    public TranslationPlan getPlan(final Class<?> type) {
+        return this.plans.get(type);
+    }
+
+    /**
+     * Whether {@link #process(Object, String)} may write into objects of the given class, i.e. the class is a collection
+     * or map, is a {@code @DictModel}, or declares {@code @DictDesc} fields itself or in the classes reachable through its fields.
+     */
+    public boolean isProcessable(final Class<?> type) {
+        return this.shouldProcessType(type, 0);
+    }
+
+    /**
+     * Compute the description of a single {@code @DictDesc} field without writing it to the target, for callers that
+     * translate while the object is being written (e.g. during serialization) instead of mutating it.
+     *
+     * @param target  the object owning the field
+     * @param binding one of the desc bindings of the target's {@link #getPlan plan}
+     * @return the value {@link #process(Object, String)} would write to the field, empty if it would leave it untouched
+     */
+    public Optional<String> translate(final Object target, final DictDescBinding binding, final String language) {
+        if (binding.isLanguageMap()) {
+            return Optional.empty();
+        }
+        try {
+            final Object dictCode = this.getDictCode(target, binding);
+            if (this.isDictCode(dictCode)) {
+                final String dictName = binding.getDictName();
+                return Optional.of(this.toDesc(dictName, dictCode, this.getText(language, dictName, dictCode)));
+            }
+        } catch (Exception e) {
+            log.error("[DictI18n] Translate field '{}' failed: {}", binding.getDescFieldName(), e.getMessage(), e);
+        }
+        return Optional.empty();
+    }
+
+    private Object getDictCode(final Object target, final DictDescBinding binding) throws Exception {
+        final Object baseFieldValue = binding.getBaseGetter().get(target);
+        if (baseFieldValue instanceof Dict) {
+            return ((Dict) baseFieldValue).code();
+        }
+        return baseFieldValue;
+    }
+
+    /**
+     * Codes are strings (or {@link Dict} codes) and integral numbers, e.g. an {@code Integer status} field.
+     */
+    private boolean isDictCode(final Object dictCode) {
+        return dictCode instanceof String || dictCode instanceof Integer || dictCode instanceof Long || dictCode instanceof Short || dictCode instanceof Byte;
+    }
+
+    /**
+     * Integral codes go through {@link DictI18nProvider#getTextOrNull(String, String, String, long)}, which in-memory
+     * loaders answer from long-keyed tables without formatting the code. The nullable lookups keep a single lookup free
+     * of {@link Optional} allocations.
+     *
+     * @return the text, or null
+     */
+    private String getText(final String language, final String dictName, final Object dictCode) {
+        if (dictCode instanceof String) {
+            return this.i18nProvider.getTextOrNull(language, this.dictI18nProperties.getDefaultLang(), dictName, (String) dictCode);
+        }
+        return this.i18nProvider.getTextOrNull(language, this.dictI18nProperties.getDefaultLang(), dictName, ((Number) dictCode).longValue());
+    }
 
-                if (dictCode instanceof String) {
-                    final String text = this.i18nProvider.getText(language, this.dictI18nProperties.getDefaultLang(), dictName, (String) dictCode)
-                            .filter(s -> !s.isEmpty())
-                            .orElseGet(() -> this.dictI18nProperties.isReturnKeyIfEmpty() ? dictName + "." + dictCode : "");
-                    descField.set(target, text);
+    /**
+     * @return whether the code was looked up or queued for the batched lookup
+     */
+    private boolean setDictDescToField(final Object target, final DictDescBinding binding, final String language, final PendingTexts pending, final TraversalBudget budget) {
+        try {
+            final Object dictCode = this.getDictCode(target, binding);
+
+            if (this.isDictCode(dictCode)) {
+                final String dictName = binding.getDictName();
+                if (null != budget && !budget.lookup()) {
+                    // Out of budget: no more lookups, optionally leave the key as a placeholder
+                    if (budget.fillKey && !binding.isLanguageMap()) {
+                        binding.getDescSetter().set(target, dictName + "." + dictCode);
+                    }
+                } else if (null != pending) {
+                    // Batched lookups are keyed by string, integral codes join them in their decimal form
+                    pending.add(target, binding, dictCode.toString());
+                    return true;
+                } else if (!binding.isLanguageMap()) {
+                    binding.getDescSetter().set(target, this.toDesc(dictName, dictCode, this.getText(language, dictName, dictCode)));
+                    return true;
                 }
+            }
+        } catch (Exception e) {
+            log.error("[DictI18n] SetDictDescToField failed: {}", e.getMessage(), e);
+        }
+        return false;
+    }
+
+    private void fireBudgetExhausted(final TraversalBudget budget) {
+        this.budgetExhaustions.increment();
+        final BudgetExhaustedEvent event = new BudgetExhaustedEvent(budget.rootType,
+                budget.exhausted.get(),
+                budget.objects.get(),
+                budget.lookups.get(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - budget.start));
+        log.warn("[DictI18n] Translation budget exhausted: {}", event);
+        for (final BudgetExhaustedListener listener : this.budgetExhaustedListeners) {
+            try {
+                listener.onBudgetExhausted(event);
             } catch (Exception e) {
-                log.error("[DictI18n] SetDictDescToField failed: {}", e.getMessage(), e);
+                log.error("[DictI18n] Budget exhausted listener failed: {}", e.getMessage(), e);
             }
         }
     }
 
-    private String getDictName(final DictDesc annotation) {
-        final Dict[] enums = annotation.value().getEnumConstants();
-        if (enums.length > 0) {
-            return enums[0].dictName();
-        } else {
+    /**
+     * Resolve all codes collected during the walk with one provider call and write the texts back.
+     */
+    private void resolvePendingTexts(final PendingTexts pending, final String language) {
+        if (pending.writes.isEmpty()) {
+            return;
+        }
+
+        final Map<String, Map<String, String>> texts;
+        try {
+            texts = this.i18nProvider.getTexts(language, this.dictI18nProperties.getDefaultLang(), pending.codesByDictName);
+        } catch (Exception e) {
+            log.error("[DictI18n] Batch resolving {} dictionary codes failed: {}", pending.writes.size(), e.getMessage(), e);
+            return;
+        }
+
+        this.writeTexts(pending.writes, texts);
+    }
+
+    /**
+     * Resolve all collected codes in one language, an empty result if the provider fails.
+     */
+    private Map<String, Map<String, String>> resolveTexts(final PendingTexts pending, final String language) {
+        if (pending.writes.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            return this.i18nProvider.getTexts(language, this.dictI18nProperties.getDefaultLang(), pending.codesByDictName);
+        } catch (Exception e) {
+            log.error("[DictI18n] Batch resolving {} dictionary codes in '{}' failed: {}", pending.writes.size(), language, e.getMessage(), e);
+            return Collections.emptyMap();
+        }
+    }
+
+    /**
+     * Write the resolved texts into the collected desc fields, language map fields are skipped.
+     *
+     * @param texts texts grouped by dictionary name and then by code, as returned by {@link DictI18nProvider#getTexts}
+     */
+    void writeTexts(final List<PendingWrite> writes, final Map<String, Map<String, String>> texts) {
+        for (final PendingWrite write : writes) {
+            if (write.binding.isLanguageMap()) {
+                continue;
+            }
             try {
-                return annotation.value().getDeclaredConstructor().newInstance().dictName();
-            } catch (IllegalAccessException
-                     | NoSuchMethodException
-                     | InvocationTargetException
-                     | InstantiationException e) {
-                log.error("[DictI18n] Failed to instantiate Dict enum class '{}' via no-arg constructor. Please check class design.", annotation.value().getName(), e);
+                write.binding.getDescSetter().set(write.target, this.toDesc(write.binding.getDictName(), write.code, this.findText(texts, write)));
+            } catch (Exception e) {
+                log.error("[DictI18n] SetDictDescToField failed: {}", e.getMessage(), e);
             }
         }
-        return null;
+    }
+
+    private String findText(final Map<String, Map<String, String>> texts, final PendingWrite write) {
+        final Map<String, String> dictTexts = texts.get(write.binding.getDictName());
+        return null == dictTexts ? null : dictTexts.get(write.code);
+    }
+
+    private String toDesc(final String dictName, final Object dictCode, final String text) {
+        if (null != text && !text.isEmpty()) {
+            return text;
+        }
+        return this.dictI18nProperties.isReturnKeyIfEmpty() ? dictName + "." + dictCode : "";
+    }
+
+    /**
+     * Build the translation plan of the given class.
+     * <p>
+     * All reflective lookups (field discovery, accessibility, annotation and base field resolution, dictName) happen
+     * here exactly once per class, the resulting plan is cached in {@link #plans}.
+     */
+    private TranslationPlan buildPlan(final Class<?> clazz) {
+        final List<DictDescBinding> descBindings = new ArrayList<>();
+        final List<NestedFieldBinding> nestedFields = new ArrayList<>();
+
+        for (final Field field : this.getAllFields(clazz)) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+
+            final DictDesc annotation = field.getAnnotation(DictDesc.class);
+            if (null != annotation) {
+                final DictDescBinding binding = this.buildDictDescBinding(clazz, field, annotation);
+                if (null != binding) {
+                    descBindings.add(binding);
+                }
+            } else if (!this.isJavaBasicType(field.getType())) {
+                try {
+                    field.setAccessible(true);
+                    nestedFields.add(new NestedFieldBinding(field.getName(), field.getType(), this.getElementType(field), this.fieldAccessorFactory.createGetter(field)));
+                } catch (Exception e) {
+                    log.debug("[DictI18n] Field '{}' of {} is not accessible and will be skipped: {}", field.getName(), clazz.getName(), e.getMessage());
+                }
+            }
+        }
+
+        return new TranslationPlan(clazz, descBindings, nestedFields);
+    }
+
+    /**
+     * Declared class of the elements of a collection field or of the values of a map field, e.g. {@code OrderVO} for
+     * {@code List<OrderVO>} or {@code Map<String, OrderVO>}.
+     * <p>
+     * Only the collection and map types of {@code java.util} are resolved, their type parameters are the element (value)
+     * type. Custom subtypes may map their type parameters differently and, like type variables, yield null.
+     */
+    private Class<?> getElementType(final Field field) {
+        final Class<?> type = field.getType();
+        final int index = Collection.class.isAssignableFrom(type) ? 0 : Map.class.isAssignableFrom(type) ? 1 : -1;
+        if (index < 0 || !type.getName().startsWith("java.util.") || !(field.getGenericType() instanceof ParameterizedType)) {
+            return null;
+        }
+        final Type[] arguments = ((ParameterizedType) field.getGenericType()).getActualTypeArguments();
+        if (arguments.length != index + 1) {
+            return null;
+        }
+        Type argument = arguments[index];
+        if (argument instanceof WildcardType) {
+            argument = ((WildcardType) argument).getUpperBounds()[0];
+        }
+        if (argument instanceof ParameterizedType) {
+            argument = ((ParameterizedType) argument).getRawType();
+        }
+        return argument instanceof Class<?> ? (Class<?>) argument : null;
+    }
+
+    private DictDescBinding buildDictDescBinding(final Class<?> clazz, final Field descField, final DictDesc annotation) {
+        final String baseFieldName = this.getBaseFieldName(annotation, descField);
+        if (StringUtils.isBlank(baseFieldName)) {
+            return null;
+        }
+
+        try {
+            final Field baseField = this.getFieldRecursively(clazz, baseFieldName);
+            baseField.setAccessible(true);
+            descField.setAccessible(true);
+            return new DictDescBinding(descField.getName(),
+                    descField.getType(),
+                    baseField.getName(),
+                    baseField.getType(),
+                    this.getDictName(annotation),
+                    this.fieldAccessorFactory.createGetter(baseField),
+                    this.fieldAccessorFactory.createSetter(descField));
+        } catch (Exception e) {
+            log.error("[DictI18n] Failed to resolve @DictDesc field '{}' of {}: {}", descField.getName(), clazz.getName(), e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private String getDictName(final DictDesc annotation) {
+        return DictTranslators.dictNameOf(annotation.value());
     }
 
     private Field getFieldRecursively(Class<?> clazz, String fieldName) throws NoSuchFieldException {
@@ -202,13 +918,27 @@ public class DictI18nProcessor {
         return null;
     }
 
+    /**
+     * In strict mode only the classes allowed by the {@link StrictTypeFilter} are scanned and walked.
+     */
+    private boolean isTraversable(final Class<?> clazz) {
+        return null == this.strictTypeFilter || this.strictTypeFilter.isTraversable(clazz);
+    }
+
     private boolean shouldProcessType(final Class<?> clazz, final int depth) {
         // The base type is not processed directly
-        if (this.isJavaBasicType(clazz)) {
+        if (this.isJavaBasicType(clazz) || !this.isTraversable(clazz)) {
             return false;
         }
 
-        return this.processableCache.computeIfAbsent(clazz, key -> this.deepScanForDictDesc(key, depth, new HashSet<>()));
+        // Plain get first: computeIfAbsent would allocate the capturing mapping function on every call
+        final Boolean cached = this.processableCache.get(clazz);
+        if (null != cached) {
+            return cached;
+        }
+        final boolean processable = this.deepScanForDictDesc(clazz, depth, new HashSet<>());
+        this.processableCache.putIfAbsent(clazz, processable);
+        return processable;
     }
 
     /**
@@ -249,7 +979,7 @@ public class DictI18nProcessor {
                 }
 
                 final Class<?> fieldType = field.getType();
-                if (!this.isJavaBasicType(fieldType) && !visitedClasses.contains(fieldType)) {
+                if (!this.isJavaBasicType(fieldType) && this.isTraversable(fieldType) && !visitedClasses.contains(fieldType)) {
                     stack.push(new ScanNode(fieldType, depth + 1));
                 }
             }
@@ -258,6 +988,162 @@ public class DictI18nProcessor {
         return false;
     }
 
+    /**
+     * Codes collected during a batched walk, together with the desc fields waiting for their text.
+     */
+    private static class PendingTexts {
+        // Distinct codes per dictionary name, duplicates across rows are resolved only once
+        final Map<String, Set<String>> codesByDictName = new LinkedHashMap<>();
+        final List<PendingWrite> writes = new ArrayList<>();
+
+        void add(final Object target, final DictDescBinding binding, final String code) {
+            this.codesByDictName.computeIfAbsent(binding.getDictName(), key -> new LinkedHashSet<>()).add(code);
+            this.writes.add(new PendingWrite(target, binding, code));
+        }
+
+        void addAll(final PendingTexts other) {
+            other.codesByDictName.forEach((dictName, codes) -> this.codesByDictName.computeIfAbsent(dictName, key -> new LinkedHashSet<>()).addAll(codes));
+            this.writes.addAll(other.writes);
+        }
+    }
+
+    /**
+     * Fork/join task translating a slice of a large collection.
+     * <p>
+     * Tasks share the objects visited before the fork read-only and record their own visits in the visited set of their
+     * thread's context, so cycles are still detected without synchronizing on a common visited set. An object referenced from several slices may
+     * therefore be translated more than once, which is harmless since the same text is written.
+     * In batch mode every task collects its own codes, merged into the parent collector once the subtasks are joined.
+     */
+    private final class TranslateTask extends RecursiveAction {
+
+        private final List<?> items;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final String language;
+        private final int depth;
+        private final IdentitySet forkVisited;
+        private final PendingTexts pending;
+        private final TraversalBudget budget;
+
+        TranslateTask(final List<?> items, final int from, final int to, final int chunkSize, final String language, final int depth, final IdentitySet forkVisited, final PendingTexts pending, final TraversalBudget budget) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.language = language;
+            this.depth = depth;
+            this.forkVisited = forkVisited;
+            this.pending = pending;
+            this.budget = budget;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.chunkSize) {
+                final TraversalContext context = TraversalContext.acquire();
+                try {
+                    context.visited.setParent(this.forkVisited);
+                    for (int i = this.from; i < this.to && (null == this.budget || !this.budget.isStopped()); i++) {
+                        DictI18nProcessor.this.enterObject(context, this.items.get(i), this.language, this.depth, this.pending, this.budget);
+                        DictI18nProcessor.this.walk(context, this.language, this.pending, this.budget);
+                    }
+                } finally {
+                    context.release();
+                }
+                return;
+            }
+
+            final int middle = (this.from + this.to) >>> 1;
+            final TranslateTask left = new TranslateTask(this.items, this.from, middle, this.chunkSize, this.language, this.depth, this.forkVisited, null == this.pending ? null : new PendingTexts(), this.budget);
+            final TranslateTask right = new TranslateTask(this.items, middle, this.to, this.chunkSize, this.language, this.depth, this.forkVisited, null == this.pending ? null : new PendingTexts(), this.budget);
+            invokeAll(left, right);
+
+            if (null != this.pending) {
+                this.pending.addAll(left.pending);
+                this.pending.addAll(right.pending);
+            }
+        }
+    }
+
+    /**
+     * Budgets of a single call, shared by all fork/join tasks of the call.
+     * <p>
+     * Once a budget is exhausted no more lookups are made. Without key filling the walk stops right away, with key
+     * filling it goes on over the rest of the graph and writes the {@code dictName.code} key into every remaining desc field.
+     */
+    private static final class TraversalBudget {
+        final Class<?> rootType;
+        final int maxObjects;
+        final int maxLookups;
+        final long start = System.nanoTime();
+        final long deadline;
+        final boolean fillKey;
+        final AtomicInteger objects = new AtomicInteger();
+        final AtomicInteger lookups = new AtomicInteger();
+        final AtomicReference<BudgetExhaustedEvent.Reason> exhausted = new AtomicReference<>();
+
+        TraversalBudget(final DictI18nProperties.Budget config, final Class<?> rootType) {
+            this.rootType = rootType;
+            this.maxObjects = config.getMaxObjects();
+            this.maxLookups = config.getMaxLookups();
+            this.deadline = config.getTimeoutMillis() > 0 ? this.start + TimeUnit.MILLISECONDS.toNanos(config.getTimeoutMillis()) : 0L;
+            this.fillKey = config.isFillKeyOnExhaustion();
+        }
+
+        /**
+         * @return whether the walk has to stop
+         */
+        boolean isStopped() {
+            return !this.fillKey && null != this.exhausted.get();
+        }
+
+        /**
+         * Account for a visited object.
+         *
+         * @return whether the object may be processed
+         */
+        boolean visit() {
+            if (null == this.exhausted.get()) {
+                if (this.maxObjects > 0 && this.objects.incrementAndGet() > this.maxObjects) {
+                    this.exhausted.compareAndSet(null, BudgetExhaustedEvent.Reason.MAX_OBJECTS);
+                } else if (this.deadline != 0L && System.nanoTime() - this.deadline > 0) {
+                    this.exhausted.compareAndSet(null, BudgetExhaustedEvent.Reason.DEADLINE);
+                }
+            }
+            return !this.isStopped();
+        }
+
+        /**
+         * Account for a dictionary lookup.
+         *
+         * @return whether the lookup may be made
+         */
+        boolean lookup() {
+            if (null != this.exhausted.get()) {
+                return false;
+            }
+            if (this.maxLookups > 0 && this.lookups.incrementAndGet() > this.maxLookups) {
+                this.exhausted.compareAndSet(null, BudgetExhaustedEvent.Reason.MAX_LOOKUPS);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    static class PendingWrite {
+        final Object target;
+        final DictDescBinding binding;
+        final String code;
+
+        PendingWrite(final Object target, final DictDescBinding binding, final String code) {
+            this.target = target;
+            this.binding = binding;
+            this.code = code;
+        }
+    }
+
     private static class ScanNode {
         final Class<?> clazz;
         final int depth;
@@ -0,0 +1,120 @@
+package cn.silwings.dicti18n.processor;
+
+/**
+ * Resettable set of objects compared by identity, used to detect cycles while walking an object graph.
+ * <p>
+ * Unlike {@code Collections.newSetFromMap(new IdentityHashMap<>())} the set allocates nothing once its table is large
+ * enough, and {@link #clear()} only touches the slots that were used, so it can be kept per thread and reused by every
+ * call. A set may have a read-only parent: objects contained in the parent count as already added, which lets fork/join
+ * tasks see the objects visited before the fork without sharing a mutable set.
+ */
+final class IdentitySet {
+
+    private static final int INITIAL_CAPACITY = 64;
+    // Larger tables are dropped on clear, a single huge graph must not pin its table to the thread forever
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+    // 2^32 divided by the golden ratio, see index()
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private Object[] table = new Object[INITIAL_CAPACITY];
+    // 32 - log2(table.length): the index is taken from the high bits of the mixed hash
+    private int shift = Integer.numberOfLeadingZeros(INITIAL_CAPACITY) + 1;
+    // Indexes of the used slots, cleared one by one instead of filling the whole table
+    private int[] usedSlots = new int[threshold(INITIAL_CAPACITY)];
+    private int size;
+    private IdentitySet parent;
+
+    /**
+     * @return whether the object was added, false if this set or one of its parents already contains it
+     */
+    boolean add(final Object o) {
+        if (null != this.parent && this.parent.contains(o)) {
+            return false;
+        }
+        if (this.size >= this.usedSlots.length) {
+            this.resize();
+        }
+        final Object[] tab = this.table;
+        final int mask = tab.length - 1;
+        int i = index(o, this.shift);
+        while (null != tab[i]) {
+            if (tab[i] == o) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        tab[i] = o;
+        this.usedSlots[this.size++] = i;
+        return true;
+    }
+
+    boolean contains(final Object o) {
+        final Object[] tab = this.table;
+        final int mask = tab.length - 1;
+        int i = index(o, this.shift);
+        while (null != tab[i]) {
+            if (tab[i] == o) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return null != this.parent && this.parent.contains(o);
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Objects contained in the parent are treated as contained in this set, the parent itself is never modified.
+     */
+    void setParent(final IdentitySet parent) {
+        this.parent = parent;
+    }
+
+    void clear() {
+        if (this.table.length > MAX_RETAINED_CAPACITY) {
+            this.table = new Object[INITIAL_CAPACITY];
+            this.usedSlots = new int[threshold(INITIAL_CAPACITY)];
+            this.shift = Integer.numberOfLeadingZeros(INITIAL_CAPACITY) + 1;
+        } else {
+            for (int i = 0; i < this.size; i++) {
+                this.table[this.usedSlots[i]] = null;
+            }
+        }
+        this.size = 0;
+        this.parent = null;
+    }
+
+    private void resize() {
+        final Object[] oldTable = this.table;
+        final int[] oldSlots = this.usedSlots;
+        final Object[] tab = new Object[oldTable.length << 1];
+        final int[] slots = new int[threshold(tab.length)];
+        final int mask = tab.length - 1;
+        final int shift = this.shift - 1;
+        for (int j = 0; j < this.size; j++) {
+            final Object o = oldTable[oldSlots[j]];
+            int i = index(o, shift);
+            while (null != tab[i]) {
+                i = (i + 1) & mask;
+            }
+            tab[i] = o;
+            slots[j] = i;
+        }
+        this.table = tab;
+        this.usedSlots = slots;
+        this.shift = shift;
+    }
+
+    // Load factor 2/3, linear probing stays short
+    private static int threshold(final int capacity) {
+        return capacity * 2 / 3;
+    }
+
+    // Fibonacci hashing: identity hash codes tend to cluster, the multiplication mixes every bit into the high bits,
+    // which are taken as the start of the probe so that any slot can be one
+    private static int index(final Object o, final int shift) {
+        return (System.identityHashCode(o) * GOLDEN_RATIO) >>> shift;
+    }
+}
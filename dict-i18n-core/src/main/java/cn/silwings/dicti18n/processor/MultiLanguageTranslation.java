@@ -0,0 +1,70 @@
+package cn.silwings.dicti18n.processor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Result of {@link DictI18nProcessor#processAll}: the texts of every requested language for the desc fields collected
+ * by a single walk over an object graph.
+ * <p>
+ * Applying a language only writes the already resolved texts into the collected fields, it neither walks the graph
+ * again nor asks the provider. Since all languages write into the same fields, apply and consume the languages one after
+ * another, e.g. apply "en-US", index the objects, then apply "zh-CN" and index them again.
+ */
+public final class MultiLanguageTranslation {
+
+    private final DictI18nProcessor processor;
+    private final List<DictI18nProcessor.PendingWrite> writes;
+    // language -> dictName -> code -> text
+    private final Map<String, Map<String, Map<String, String>>> textsByLanguage;
+
+    MultiLanguageTranslation(final DictI18nProcessor processor, final List<DictI18nProcessor.PendingWrite> writes, final Map<String, Map<String, Map<String, String>>> textsByLanguage) {
+        this.processor = processor;
+        this.writes = writes;
+        this.textsByLanguage = textsByLanguage;
+    }
+
+    /**
+     * Languages translated into, in the order they were requested.
+     */
+    public Set<String> getLanguages() {
+        return Collections.unmodifiableSet(this.textsByLanguage.keySet());
+    }
+
+    /**
+     * Number of desc fields collected by the walk.
+     */
+    public int size() {
+        return this.writes.size();
+    }
+
+    /**
+     * Texts resolved in the given language, grouped by dictionary name and then by code. Codes without text are absent.
+     *
+     * @throws IllegalArgumentException if the language was not requested
+     */
+    public Map<String, Map<String, String>> getTexts(final String language) {
+        return Collections.unmodifiableMap(this.getTextsOf(language));
+    }
+
+    /**
+     * Write the texts of the given language into the collected desc fields, the same values
+     * {@link DictI18nProcessor#process(Object, String)} writes. {@code Map<String, String>} desc fields keep the texts
+     * of all languages and are not touched.
+     *
+     * @throws IllegalArgumentException if the language was not requested
+     */
+    public void apply(final String language) {
+        this.processor.writeTexts(this.writes, this.getTextsOf(language));
+    }
+
+    private Map<String, Map<String, String>> getTextsOf(final String language) {
+        final Map<String, Map<String, String>> texts = this.textsByLanguage.get(language);
+        if (null == texts) {
+            throw new IllegalArgumentException("[DictI18n] Language '" + language + "' was not translated, translated languages: " + this.textsByLanguage.keySet());
+        }
+        return texts;
+    }
+}
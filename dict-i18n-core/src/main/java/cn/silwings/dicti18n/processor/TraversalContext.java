@@ -0,0 +1,175 @@
+package cn.silwings.dicti18n.processor;
+
+import cn.silwings.dicti18n.processor.cost.CostSample;
+import cn.silwings.dicti18n.processor.plan.TranslationPlan;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Per-thread state of a {@link DictI18nProcessor} walk: the visited set and an explicit stack of the objects and
+ * collections whose children are still being walked.
+ * <p>
+ * A context is acquired at the start of a call and released at its end, its buffers are kept by the thread and reused
+ * by the next call, so a warm walk over objects and random access lists allocates nothing. Each thread keeps a chain of
+ * contexts: a call made while the thread's context is in use (a fork/join worker running a stolen task while it waits
+ * for its own subtasks) takes the next one.
+ */
+final class TraversalContext {
+
+    /**
+     * An object whose nested fields are walked, the cursor is its {@link TranslationPlan}.
+     */
+    static final int OBJECT = 0;
+    /**
+     * A random access list whose elements are walked by index.
+     */
+    static final int LIST = 1;
+    /**
+     * Any other collection, the cursor is its iterator.
+     */
+    static final int ITERATOR = 2;
+    /**
+     * A random access list expected to hold instances of a single class, the cursor is the plan of that class.
+     */
+    static final int PLANNED_LIST = 3;
+
+    private static final int INITIAL_DEPTH = 16;
+    // Deeper stacks are dropped on release, see IdentitySet
+    private static final int MAX_RETAINED_DEPTH = 1 << 10;
+
+    private static final ThreadLocal<TraversalContext> CONTEXTS = ThreadLocal.withInitial(TraversalContext::new);
+
+    final IdentitySet visited = new IdentitySet();
+
+    /**
+     * Counters of the current call if it is sampled by the cost analysis, null otherwise.
+     */
+    CostSample cost;
+
+    private int[] kinds = new int[INITIAL_DEPTH];
+    private Object[] targets = new Object[INITIAL_DEPTH];
+    private Object[] cursors = new Object[INITIAL_DEPTH];
+    private int[] positions = new int[INITIAL_DEPTH];
+    private int[] depths = new int[INITIAL_DEPTH];
+    private int top = -1;
+
+    private boolean inUse;
+    private TraversalContext next;
+
+    private TraversalContext() {
+    }
+
+    /**
+     * Take a free context of the current thread, {@link #release()} has to be called once the walk is done.
+     */
+    static TraversalContext acquire() {
+        TraversalContext context = CONTEXTS.get();
+        while (context.inUse) {
+            if (null == context.next) {
+                context.next = new TraversalContext();
+            }
+            context = context.next;
+        }
+        context.inUse = true;
+        return context;
+    }
+
+    /**
+     * Drop all references to the walked objects and hand the context back to the thread.
+     */
+    void release() {
+        if (this.targets.length > MAX_RETAINED_DEPTH) {
+            this.kinds = new int[INITIAL_DEPTH];
+            this.targets = new Object[INITIAL_DEPTH];
+            this.cursors = new Object[INITIAL_DEPTH];
+            this.positions = new int[INITIAL_DEPTH];
+            this.depths = new int[INITIAL_DEPTH];
+            this.top = -1;
+        } else {
+            while (this.top >= 0) {
+                this.pop();
+            }
+        }
+        this.visited.clear();
+        this.cost = null;
+        this.inUse = false;
+    }
+
+    void pushObject(final Object target, final TranslationPlan plan, final int depth) {
+        this.push(OBJECT, target, plan, depth);
+    }
+
+    void pushList(final List<?> list, final int depth) {
+        this.push(LIST, list, null, depth);
+    }
+
+    void pushPlannedList(final List<?> list, final TranslationPlan elementPlan, final int depth) {
+        this.push(PLANNED_LIST, list, elementPlan, depth);
+    }
+
+    void pushIterator(final Iterator<?> iterator, final int depth) {
+        this.push(ITERATOR, null, iterator, depth);
+    }
+
+    boolean isEmpty() {
+        return this.top < 0;
+    }
+
+    /**
+     * Number of frames on the stack.
+     */
+    int size() {
+        return this.top + 1;
+    }
+
+    int kind() {
+        return this.kinds[this.top];
+    }
+
+    Object target() {
+        return this.targets[this.top];
+    }
+
+    Object cursor() {
+        return this.cursors[this.top];
+    }
+
+    int depth() {
+        return this.depths[this.top];
+    }
+
+    /**
+     * @return the position of the top frame, which then moves on to the next field or element
+     */
+    int advance() {
+        return this.positions[this.top]++;
+    }
+
+    void pop() {
+        this.targets[this.top] = null;
+        this.cursors[this.top] = null;
+        this.top--;
+    }
+
+    private void push(final int kind, final Object target, final Object cursor, final int depth) {
+        if (++this.top == this.targets.length) {
+            this.grow();
+        }
+        this.kinds[this.top] = kind;
+        this.targets[this.top] = target;
+        this.cursors[this.top] = cursor;
+        this.positions[this.top] = 0;
+        this.depths[this.top] = depth;
+    }
+
+    private void grow() {
+        final int length = this.targets.length << 1;
+        this.kinds = Arrays.copyOf(this.kinds, length);
+        this.targets = Arrays.copyOf(this.targets, length);
+        this.cursors = Arrays.copyOf(this.cursors, length);
+        this.positions = Arrays.copyOf(this.positions, length);
+        this.depths = Arrays.copyOf(this.depths, length);
+    }
+}
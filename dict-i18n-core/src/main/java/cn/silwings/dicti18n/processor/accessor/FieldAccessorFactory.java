@@ -0,0 +1,32 @@
+package cn.silwings.dicti18n.processor.accessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * Strategy used by {@code DictI18nProcessor} to create the accessors of the fields referenced by a translation plan.
+ *
+ * <p>Accessors are created once per field when the plan of a class is built, so implementations may do
+ * expensive work (code generation, method handle lookups) here in exchange for fast access afterwards.</p>
+ *
+ * @see ReflectiveFieldAccessorFactory
+ * @see LambdaFieldAccessorFactory
+ */
+public interface FieldAccessorFactory {
+
+    /**
+     * Create a getter for the given field.
+     *
+     * @param field field to read, already made accessible
+     * @return getter of the field
+     */
+    FieldGetter createGetter(Field field);
+
+    /**
+     * Create a setter for the given field.
+     *
+     * @param field field to write, already made accessible
+     * @return setter of the field
+     */
+    FieldSetter createSetter(Field field);
+
+}
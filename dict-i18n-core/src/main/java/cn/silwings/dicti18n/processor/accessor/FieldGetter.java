@@ -0,0 +1,19 @@
+package cn.silwings.dicti18n.processor.accessor;
+
+/**
+ * Reads the value of a single field from a target object.
+ *
+ * <p>Instances are created once per field by a {@link FieldAccessorFactory} and reused for every object.</p>
+ */
+@FunctionalInterface
+public interface FieldGetter {
+
+    /**
+     * Read the field value.
+     *
+     * @param target the object declaring the field
+     * @return field value, may be null
+     */
+    Object get(Object target) throws Exception;
+
+}
@@ -0,0 +1,19 @@
+package cn.silwings.dicti18n.processor.accessor;
+
+/**
+ * Writes the value of a single field of a target object.
+ *
+ * <p>Instances are created once per field by a {@link FieldAccessorFactory} and reused for every object.</p>
+ */
+@FunctionalInterface
+public interface FieldSetter {
+
+    /**
+     * Write the field value.
+     *
+     * @param target the object declaring the field
+     * @param value  new field value
+     */
+    void set(Object target, Object value) throws Exception;
+
+}
@@ -0,0 +1,189 @@
+package cn.silwings.dicti18n.processor.accessor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * {@link FieldAccessorFactory} generating accessors the JIT can inline.
+ *
+ * <p>For every field the following strategies are tried in order:</p>
+ * <ol>
+ *     <li>The public getter/setter of the field (for example generated by Lombok), bound to {@link FieldGetter} or
+ *     {@link FieldSetter} through {@link LambdaMetafactory}</li>
+ *     <li>A {@link MethodHandle} reading or writing the field directly</li>
+ *     <li>Plain reflection, see {@link ReflectiveFieldAccessorFactory}</li>
+ * </ol>
+ *
+ * <p>The lambda strategy is only used when the declaring class is public and visible from the class loader of this
+ * library, otherwise the generated class could not link against it.</p>
+ */
+public class LambdaFieldAccessorFactory implements FieldAccessorFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(LambdaFieldAccessorFactory.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    private final ReflectiveFieldAccessorFactory reflectiveFactory = new ReflectiveFieldAccessorFactory();
+
+    @Override
+    public FieldGetter createGetter(final Field field) {
+        final Method getter = this.findGetter(field);
+        if (null != getter) {
+            try {
+                final MethodHandle implMethod = this.lookup.unreflect(getter);
+                final MethodType instantiatedType = MethodType.methodType(wrap(getter.getReturnType()), field.getDeclaringClass());
+                final CallSite callSite = LambdaMetafactory.metafactory(this.lookup, "get", MethodType.methodType(FieldGetter.class), GETTER_TYPE, implMethod, instantiatedType);
+                return (FieldGetter) callSite.getTarget().invoke();
+            } catch (Throwable e) {
+                log.debug("[DictI18n] Failed to bind getter {} through LambdaMetafactory: {}", getter, e.toString());
+            }
+        }
+
+        try {
+            return new MethodHandleFieldGetter(this.lookup.unreflectGetter(field).asType(GETTER_TYPE));
+        } catch (Throwable e) {
+            log.debug("[DictI18n] Failed to create MethodHandle getter of field {}: {}", field, e.toString());
+        }
+
+        return this.reflectiveFactory.createGetter(field);
+    }
+
+    @Override
+    public FieldSetter createSetter(final Field field) {
+        final Method setter = this.findSetter(field);
+        if (null != setter) {
+            try {
+                final MethodHandle implMethod = this.lookup.unreflect(setter);
+                final MethodType instantiatedType = MethodType.methodType(void.class, field.getDeclaringClass(), wrap(field.getType()));
+                final CallSite callSite = LambdaMetafactory.metafactory(this.lookup, "set", MethodType.methodType(FieldSetter.class), SETTER_TYPE, implMethod, instantiatedType);
+                return (FieldSetter) callSite.getTarget().invoke();
+            } catch (Throwable e) {
+                log.debug("[DictI18n] Failed to bind setter {} through LambdaMetafactory: {}", setter, e.toString());
+            }
+        }
+
+        try {
+            return new MethodHandleFieldSetter(this.lookup.unreflectSetter(field).asType(SETTER_TYPE));
+        } catch (Throwable e) {
+            log.debug("[DictI18n] Failed to create MethodHandle setter of field {}: {}", field, e.toString());
+        }
+
+        return this.reflectiveFactory.createSetter(field);
+    }
+
+    /**
+     * Find the public getter of the field, e.g. {@code getOrderStatus()} or {@code isEnabled()}.
+     */
+    private Method findGetter(final Field field) {
+        if (!this.isLambdaAccessible(field.getDeclaringClass())) {
+            return null;
+        }
+        final String suffix = capitalize(field.getName());
+        for (final String name : new String[]{"get" + suffix, "is" + suffix}) {
+            try {
+                final Method method = field.getDeclaringClass().getMethod(name);
+                if (!Modifier.isStatic(method.getModifiers())
+                        && method.getReturnType() == field.getType()
+                        && this.isLambdaAccessible(method.getDeclaringClass())) {
+                    return method;
+                }
+            } catch (NoSuchMethodException ignored) {
+                // Try the next naming convention
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Find the public setter of the field, e.g. {@code setOrderStatusDesc(String)}. Chained setters are supported.
+     */
+    private Method findSetter(final Field field) {
+        if (!this.isLambdaAccessible(field.getDeclaringClass())) {
+            return null;
+        }
+        try {
+            final Method method = field.getDeclaringClass().getMethod("set" + capitalize(field.getName()), field.getType());
+            if (!Modifier.isStatic(method.getModifiers()) && this.isLambdaAccessible(method.getDeclaringClass())) {
+                return method;
+            }
+        } catch (NoSuchMethodException ignored) {
+            // No setter, fall back to direct field access
+        }
+        return null;
+    }
+
+    /**
+     * Whether a class generated by {@link LambdaMetafactory} in this library can link against the given class.
+     */
+    private boolean isLambdaAccessible(final Class<?> clazz) {
+        for (Class<?> current = clazz; null != current; current = current.getEnclosingClass()) {
+            if (!Modifier.isPublic(current.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            return Class.forName(clazz.getName(), false, LambdaFieldAccessorFactory.class.getClassLoader()) == clazz;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static String capitalize(final String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static Class<?> wrap(final Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    private static final class MethodHandleFieldGetter implements FieldGetter {
+
+        private final MethodHandle handle;
+
+        MethodHandleFieldGetter(final MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public Object get(final Object target) throws Exception {
+            try {
+                return this.handle.invokeExact(target);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private static final class MethodHandleFieldSetter implements FieldSetter {
+
+        private final MethodHandle handle;
+
+        MethodHandleFieldSetter(final MethodHandle handle) {
+            this.handle = handle;
+        }
+
+        @Override
+        public void set(final Object target, final Object value) throws Exception {
+            try {
+                this.handle.invokeExact(target, value);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
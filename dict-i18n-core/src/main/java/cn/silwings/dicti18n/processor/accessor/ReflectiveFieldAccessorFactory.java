@@ -0,0 +1,19 @@
+package cn.silwings.dicti18n.processor.accessor;
+
+import java.lang.reflect.Field;
+
+/**
+ * {@link FieldAccessorFactory} based on plain {@link Field#get(Object)} and {@link Field#set(Object, Object)}.
+ */
+public class ReflectiveFieldAccessorFactory implements FieldAccessorFactory {
+
+    @Override
+    public FieldGetter createGetter(final Field field) {
+        return field::get;
+    }
+
+    @Override
+    public FieldSetter createSetter(final Field field) {
+        return field::set;
+    }
+}
@@ -0,0 +1,67 @@
+package cn.silwings.dicti18n.processor.budget;
+
+/**
+ * Describes a call to {@link cn.silwings.dicti18n.processor.DictI18nProcessor#process} that exhausted one of the
+ * budgets configured in {@link cn.silwings.dicti18n.config.DictI18nProperties.Budget}.
+ */
+public final class BudgetExhaustedEvent {
+
+    /**
+     * Type of the body passed to the processor
+     */
+    private final Class<?> rootType;
+
+    /**
+     * The budget that was exhausted first
+     */
+    private final Reason reason;
+
+    private final int visitedObjects;
+
+    private final int lookups;
+
+    private final long elapsedMillis;
+
+    public BudgetExhaustedEvent(final Class<?> rootType, final Reason reason, final int visitedObjects, final int lookups, final long elapsedMillis) {
+        this.rootType = rootType;
+        this.reason = reason;
+        this.visitedObjects = visitedObjects;
+        this.lookups = lookups;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public Class<?> getRootType() {
+        return this.rootType;
+    }
+
+    public Reason getReason() {
+        return this.reason;
+    }
+
+    public int getVisitedObjects() {
+        return this.visitedObjects;
+    }
+
+    public int getLookups() {
+        return this.lookups;
+    }
+
+    public long getElapsedMillis() {
+        return this.elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "BudgetExhaustedEvent{rootType=" + this.rootType.getName() +
+                ", reason=" + this.reason +
+                ", visitedObjects=" + this.visitedObjects +
+                ", lookups=" + this.lookups +
+                ", elapsedMillis=" + this.elapsedMillis + "}";
+    }
+
+    public enum Reason {
+        MAX_OBJECTS,
+        MAX_LOOKUPS,
+        DEADLINE
+    }
+}
@@ -0,0 +1,13 @@
+package cn.silwings.dicti18n.processor.budget;
+
+/**
+ * Notified when a call to {@link cn.silwings.dicti18n.processor.DictI18nProcessor#process} runs out of its traversal budget.
+ *
+ * <p>Listeners are invoked on the calling thread once the call has finished, they should return quickly.</p>
+ */
+@FunctionalInterface
+public interface BudgetExhaustedListener {
+
+    void onBudgetExhausted(BudgetExhaustedEvent event);
+
+}
@@ -0,0 +1,81 @@
+package cn.silwings.dicti18n.processor.cost;
+
+import cn.silwings.dicti18n.processor.plan.TranslationPlan;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Counters of a single sampled call to {@link cn.silwings.dicti18n.processor.DictI18nProcessor#process}, filled by the
+ * processor while it walks and handed to {@link TranslationCostAnalyzer#record} at the end of the call.
+ * <p>
+ * A subtree is the object itself and everything reached through its nested fields. Objects with nested fields are
+ * entered when they are visited and left once their nested fields were walked, whether their subtree held any
+ * {@code @DictDesc} field is known when they are left. A sample is confined to the thread of the call, objects
+ * translated by parallel fork/join tasks are not counted.
+ */
+public final class CostSample {
+
+    final Class<?> rootType;
+    final long start = System.nanoTime();
+    int objects;
+    int fields;
+    int lookups;
+    // Desc fields found so far, compared with the value at entering an object to tell whether its subtree had any
+    private int descFields;
+    private int[] marks = new int[16];
+    private int top = -1;
+    // class -> {visits, visits with a subtree without desc fields}
+    final Map<Class<?>, long[]> types = new HashMap<>();
+
+    CostSample(final Class<?> rootType) {
+        this.rootType = rootType;
+    }
+
+    /**
+     * An object was visited.
+     *
+     * @param hasNestedFields whether {@link #leave} will be called once its nested fields were walked
+     */
+    public void enter(final Class<?> type, final TranslationPlan plan, final boolean hasNestedFields) {
+        final int descCount = plan.getDescBindings().size();
+        this.objects++;
+        this.fields += descCount + plan.getNestedFields().size();
+        if (hasNestedFields) {
+            if (++this.top == this.marks.length) {
+                this.marks = Arrays.copyOf(this.marks, this.marks.length << 1);
+            }
+            this.marks[this.top] = this.descFields;
+            this.descFields += descCount;
+        } else {
+            this.descFields += descCount;
+            this.count(type, 0 == descCount);
+        }
+    }
+
+    /**
+     * The nested fields of the object entered last with nested fields were walked.
+     */
+    public void leave(final Class<?> type) {
+        if (this.top < 0) {
+            return;
+        }
+        this.count(type, this.descFields == this.marks[this.top--]);
+    }
+
+    /**
+     * A dictionary code was looked up, or queued for the batched lookup.
+     */
+    public void lookup() {
+        this.lookups++;
+    }
+
+    private void count(final Class<?> type, final boolean empty) {
+        final long[] counts = this.types.computeIfAbsent(type, key -> new long[2]);
+        counts[0]++;
+        if (empty) {
+            counts[1]++;
+        }
+    }
+}
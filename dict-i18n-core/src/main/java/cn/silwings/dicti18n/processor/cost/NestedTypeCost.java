@@ -0,0 +1,64 @@
+package cn.silwings.dicti18n.processor.cost;
+
+/**
+ * How often objects of a class were visited below a root type, and what would make visiting them cheaper.
+ */
+public final class NestedTypeCost {
+
+    private final String type;
+
+    private final long visits;
+
+    /**
+     * Visits whose subtree held no {@code @DictDesc} field at all, the walk below them was wasted
+     */
+    private final long emptyVisits;
+
+    private final Suggestion suggestion;
+
+    public NestedTypeCost(final String type, final long visits, final long emptyVisits, final Suggestion suggestion) {
+        this.type = type;
+        this.visits = visits;
+        this.emptyVisits = emptyVisits;
+        this.suggestion = suggestion;
+    }
+
+    public String getType() {
+        return this.type;
+    }
+
+    public long getVisits() {
+        return this.visits;
+    }
+
+    public long getEmptyVisits() {
+        return this.emptyVisits;
+    }
+
+    public Suggestion getSuggestion() {
+        return this.suggestion;
+    }
+
+    @Override
+    public String toString() {
+        return "NestedTypeCost{type=" + this.type +
+                ", visits=" + this.visits +
+                ", emptyVisits=" + this.emptyVisits +
+                ", suggestion=" + this.suggestion + "}";
+    }
+
+    public enum Suggestion {
+        /**
+         * Nothing to gain
+         */
+        NONE,
+        /**
+         * The class leads to translated fields but is not annotated, {@code @DictModel} skips the nested type scan
+         */
+        DICT_MODEL,
+        /**
+         * No sampled visit led to a translated field, exclude the class (e.g. with dict-i18n.strict.exclude-packages)
+         */
+        EXCLUDE
+    }
+}
@@ -0,0 +1,143 @@
+package cn.silwings.dicti18n.processor.cost;
+
+import cn.silwings.dicti18n.annotation.DictModel;
+import cn.silwings.dicti18n.config.DictI18nProperties;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregates the cost of sampled calls to {@link cn.silwings.dicti18n.processor.DictI18nProcessor#process} per root type.
+ * <p>
+ * Only a fraction of the calls ({@link DictI18nProperties.CostAnalysis#getSampleRate()}) is sampled, the other calls
+ * pay a single random draw. Sampled calls count their visited objects, scanned fields and lookups and the classes whose
+ * subtrees held no {@code @DictDesc} field, which keeps the analysis cheap enough to stay on in production.
+ */
+public class TranslationCostAnalyzer {
+
+    private final double sampleRate;
+    private final int maxRootTypes;
+    private final Map<Class<?>, RootTypeStats> stats = new ConcurrentHashMap<>();
+
+    public TranslationCostAnalyzer(final DictI18nProperties.CostAnalysis config) {
+        this.sampleRate = config.isEnabled() ? Math.min(1D, Math.max(0D, config.getSampleRate())) : 0D;
+        this.maxRootTypes = config.getMaxRootTypes();
+    }
+
+    /**
+     * Decide whether the call is sampled.
+     *
+     * @return the sample to fill during the call, null if the call is not sampled
+     */
+    public CostSample startSample(final Class<?> rootType) {
+        if (this.sampleRate <= 0D || (this.sampleRate < 1D && ThreadLocalRandom.current().nextDouble() >= this.sampleRate)) {
+            return null;
+        }
+        return new CostSample(rootType);
+    }
+
+    /**
+     * Add a finished sample to the statistics of its root type. Samples of new root types are dropped once the
+     * configured number of root types is reached.
+     */
+    public void record(final CostSample sample) {
+        final long nanos = System.nanoTime() - sample.start;
+        RootTypeStats rootStats = this.stats.get(sample.rootType);
+        if (null == rootStats) {
+            if (this.stats.size() >= this.maxRootTypes) {
+                return;
+            }
+            rootStats = this.stats.computeIfAbsent(sample.rootType, key -> new RootTypeStats());
+        }
+        rootStats.add(sample, nanos);
+    }
+
+    /**
+     * Cost of every sampled root type, the most expensive (by total time spent) first.
+     */
+    public List<TypeCostReport> getReports() {
+        final List<RootTypeStats.Snapshot> snapshots = new ArrayList<>();
+        this.stats.forEach((type, rootStats) -> snapshots.add(rootStats.snapshot(type)));
+        snapshots.sort(Comparator.comparingLong((RootTypeStats.Snapshot snapshot) -> snapshot.totalNanos).reversed());
+        final List<TypeCostReport> reports = new ArrayList<>(snapshots.size());
+        for (final RootTypeStats.Snapshot snapshot : snapshots) {
+            reports.add(snapshot.report);
+        }
+        return reports;
+    }
+
+    /**
+     * Drop all statistics collected so far.
+     */
+    public void reset() {
+        this.stats.clear();
+    }
+
+    private static final class RootTypeStats {
+        private long calls;
+        private long objects;
+        private long fields;
+        private long lookups;
+        private long emptySubtrees;
+        private long nanos;
+        // class -> {visits, empty visits}
+        private final Map<Class<?>, long[]> types = new HashMap<>();
+
+        synchronized void add(final CostSample sample, final long sampleNanos) {
+            this.calls++;
+            this.objects += sample.objects;
+            this.fields += sample.fields;
+            this.lookups += sample.lookups;
+            this.nanos += sampleNanos;
+            sample.types.forEach((type, counts) -> {
+                final long[] total = this.types.computeIfAbsent(type, key -> new long[2]);
+                total[0] += counts[0];
+                total[1] += counts[1];
+                this.emptySubtrees += counts[1];
+            });
+        }
+
+        synchronized Snapshot snapshot(final Class<?> rootType) {
+            final List<NestedTypeCost> nestedTypes = new ArrayList<>();
+            this.types.forEach((type, counts) -> {
+                if (type != rootType) {
+                    nestedTypes.add(new NestedTypeCost(type.getName(), counts[0], counts[1], suggest(type, counts[0], counts[1])));
+                }
+            });
+            nestedTypes.sort(Comparator.comparingLong(NestedTypeCost::getVisits).reversed());
+            final double perCall = 1D / this.calls;
+            final TypeCostReport report = new TypeCostReport(rootType.getName(),
+                    this.calls,
+                    this.objects * perCall,
+                    this.fields * perCall,
+                    this.lookups * perCall,
+                    this.emptySubtrees * perCall,
+                    this.nanos * perCall / TimeUnit.MILLISECONDS.toNanos(1),
+                    nestedTypes);
+            return new Snapshot(report, this.nanos);
+        }
+
+        private static NestedTypeCost.Suggestion suggest(final Class<?> type, final long visits, final long emptyVisits) {
+            if (emptyVisits == visits) {
+                return NestedTypeCost.Suggestion.EXCLUDE;
+            }
+            return type.isAnnotationPresent(DictModel.class) ? NestedTypeCost.Suggestion.NONE : NestedTypeCost.Suggestion.DICT_MODEL;
+        }
+
+        private static final class Snapshot {
+            final TypeCostReport report;
+            final long totalNanos;
+
+            Snapshot(final TypeCostReport report, final long totalNanos) {
+                this.report = report;
+                this.totalNanos = totalNanos;
+            }
+        }
+    }
+}
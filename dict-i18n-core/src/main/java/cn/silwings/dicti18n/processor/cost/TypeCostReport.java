@@ -0,0 +1,93 @@
+package cn.silwings.dicti18n.processor.cost;
+
+import java.util.List;
+
+/**
+ * Translation cost of a root type, i.e. the type of the bodies passed to the processor, averaged over the sampled calls.
+ */
+public final class TypeCostReport {
+
+    private final String rootType;
+
+    private final long sampledCalls;
+
+    private final double averageObjects;
+
+    private final double averageFields;
+
+    private final double averageLookups;
+
+    /**
+     * Visited subtrees without any {@code @DictDesc} field per call
+     */
+    private final double averageEmptySubtrees;
+
+    private final double averageMillis;
+
+    /**
+     * Classes visited below the root type, most visited first
+     */
+    private final List<NestedTypeCost> nestedTypes;
+
+    public TypeCostReport(final String rootType,
+                          final long sampledCalls,
+                          final double averageObjects,
+                          final double averageFields,
+                          final double averageLookups,
+                          final double averageEmptySubtrees,
+                          final double averageMillis,
+                          final List<NestedTypeCost> nestedTypes) {
+        this.rootType = rootType;
+        this.sampledCalls = sampledCalls;
+        this.averageObjects = averageObjects;
+        this.averageFields = averageFields;
+        this.averageLookups = averageLookups;
+        this.averageEmptySubtrees = averageEmptySubtrees;
+        this.averageMillis = averageMillis;
+        this.nestedTypes = nestedTypes;
+    }
+
+    public String getRootType() {
+        return this.rootType;
+    }
+
+    public long getSampledCalls() {
+        return this.sampledCalls;
+    }
+
+    public double getAverageObjects() {
+        return this.averageObjects;
+    }
+
+    public double getAverageFields() {
+        return this.averageFields;
+    }
+
+    public double getAverageLookups() {
+        return this.averageLookups;
+    }
+
+    public double getAverageEmptySubtrees() {
+        return this.averageEmptySubtrees;
+    }
+
+    public double getAverageMillis() {
+        return this.averageMillis;
+    }
+
+    public List<NestedTypeCost> getNestedTypes() {
+        return this.nestedTypes;
+    }
+
+    @Override
+    public String toString() {
+        return "TypeCostReport{rootType=" + this.rootType +
+                ", sampledCalls=" + this.sampledCalls +
+                ", averageObjects=" + this.averageObjects +
+                ", averageFields=" + this.averageFields +
+                ", averageLookups=" + this.averageLookups +
+                ", averageEmptySubtrees=" + this.averageEmptySubtrees +
+                ", averageMillis=" + this.averageMillis +
+                ", nestedTypes=" + this.nestedTypes + "}";
+    }
+}
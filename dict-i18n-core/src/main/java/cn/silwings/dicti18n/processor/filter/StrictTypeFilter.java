@@ -0,0 +1,140 @@
+package cn.silwings.dicti18n.processor.filter;
+
+import cn.silwings.dicti18n.annotation.DictDesc;
+import cn.silwings.dicti18n.annotation.DictModel;
+import cn.silwings.dicti18n.config.DictI18nProperties;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decides which classes the processor descends into in strict mode, see {@link DictI18nProperties.Strict}.
+ * <p>
+ * A class is traversed when it is
+ * <ul>
+ *     <li>a collection or map (its elements are decided one by one), or</li>
+ *     <li>an iterable container outside the JDK, such as Spring Data's {@code Page} (its fields are walked and its
+ *     elements decided one by one), or</li>
+ *     <li>annotated with {@link DictModel}, or</li>
+ *     <li>neither in one of the {@link #DEFAULT_EXCLUDED_PACKAGES built-in} nor in one of the configured excluded packages,
+ *     and either in one of the configured included packages or declaring {@link DictDesc} fields itself.</li>
+ * </ul>
+ * Everything else (JDK types, Jackson trees, Spring data internals, other third-party objects) is never scanned nor
+ * walked. The decision is made once per class.
+ */
+public class StrictTypeFilter {
+
+    /**
+     * Packages that can never hold {@code @DictDesc} fields, excluded in addition to the configured ones.
+     */
+    public static final List<String> DEFAULT_EXCLUDED_PACKAGES = Collections.unmodifiableList(Arrays.asList(
+            "java",
+            "javax",
+            "org.springframework",
+            "com.fasterxml"));
+
+    private static final List<String> JDK_PACKAGES = Arrays.asList("java", "javax");
+
+    private final List<String> includedPackages;
+    private final List<String> excludedPackages;
+
+    private final ClassValue<Boolean> decisions = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return StrictTypeFilter.this.decide(type);
+        }
+    };
+
+    public StrictTypeFilter(final DictI18nProperties.Strict config) {
+        this.includedPackages = normalize(config.getIncludePackages());
+        final List<String> excluded = new ArrayList<>(DEFAULT_EXCLUDED_PACKAGES);
+        excluded.addAll(normalize(config.getExcludePackages()));
+        this.excludedPackages = excluded;
+    }
+
+    /**
+     * Whether the processor may scan and walk instances of the given class.
+     */
+    public boolean isTraversable(final Class<?> type) {
+        return this.decisions.get(type);
+    }
+
+    private boolean decide(final Class<?> type) {
+        if (Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)) {
+            return true;
+        }
+        if (type.isArray() || type.isPrimitive()) {
+            return false;
+        }
+        if (type.isAnnotationPresent(DictModel.class)) {
+            return true;
+        }
+        final String packageName = packageOf(type);
+        // Page<VO> holds its content like a collection does, JDK iterables such as Path hold no translatable objects
+        if (Iterable.class.isAssignableFrom(type) && !matches(JDK_PACKAGES, packageName)) {
+            return true;
+        }
+        if (matches(this.excludedPackages, packageName)) {
+            return false;
+        }
+        return matches(this.includedPackages, packageName) || declaresDictDesc(type);
+    }
+
+    private static boolean declaresDictDesc(final Class<?> type) {
+        for (Class<?> current = type; null != current && current != Object.class; current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (field.isAnnotationPresent(DictDesc.class)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(final List<String> packages, final String packageName) {
+        for (final String pkg : packages) {
+            if (packageName.equals(pkg) || packageName.startsWith(pkg + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String packageOf(final Class<?> type) {
+        final String name = type.getName();
+        final int index = name.lastIndexOf('.');
+        return index < 0 ? "" : name.substring(0, index);
+    }
+
+    /**
+     * Patterns name a package together with its sub packages: {@code com.example}, {@code com.example.*} and
+     * {@code com.example.**} are equivalent.
+     */
+    private static List<String> normalize(final List<String> patterns) {
+        final List<String> packages = new ArrayList<>();
+        if (null == patterns) {
+            return packages;
+        }
+        for (final String pattern : patterns) {
+            if (null == pattern) {
+                continue;
+            }
+            String pkg = pattern.trim();
+            while (pkg.endsWith("*")) {
+                pkg = pkg.substring(0, pkg.length() - 1);
+            }
+            while (pkg.endsWith(".")) {
+                pkg = pkg.substring(0, pkg.length() - 1);
+            }
+            if (!pkg.isEmpty()) {
+                packages.add(pkg);
+            }
+        }
+        return packages;
+    }
+}
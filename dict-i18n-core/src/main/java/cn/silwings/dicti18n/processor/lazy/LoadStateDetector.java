@@ -0,0 +1,24 @@
+package cn.silwings.dicti18n.processor.lazy;
+
+/**
+ * Tells the processor whether a value reached during traversal is already loaded.
+ *
+ * <p>Persistence frameworks return uninitialized proxies and collections for lazy associations. Reading them fires a
+ * query per association, so the processor skips values reported as not loaded instead of triggering an N+1 query storm
+ * only to translate dictionary fields.</p>
+ */
+@FunctionalInterface
+public interface LoadStateDetector {
+
+    /**
+     * Detector treating every value as loaded, used when no persistence framework is involved.
+     */
+    LoadStateDetector ALWAYS_LOADED = value -> true;
+
+    /**
+     * @param value a non-null object, collection or map reached during traversal
+     * @return false if the value is an uninitialized lazy proxy or collection
+     */
+    boolean isLoaded(Object value);
+
+}
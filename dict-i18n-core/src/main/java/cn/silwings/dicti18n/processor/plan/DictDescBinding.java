@@ -0,0 +1,96 @@
+package cn.silwings.dicti18n.processor.plan;
+
+import cn.silwings.dicti18n.processor.accessor.FieldGetter;
+import cn.silwings.dicti18n.processor.accessor.FieldSetter;
+
+import java.util.Map;
+
+/**
+ * A resolved {@code @DictDesc} field together with the field holding its dictionary code.
+ *
+ * <p>The accessors of both fields and the dictionary name are resolved once when the owning
+ * {@link TranslationPlan} is built, so translating an instance needs no further reflective lookups.</p>
+ */
+public final class DictDescBinding {
+
+    /**
+     * Name of the field annotated with {@code @DictDesc}, receives the translated text.
+     */
+    private final String descFieldName;
+
+    private final Class<?> descFieldType;
+
+    /**
+     * Name of the field holding the dictionary code (or a {@code Dict} instance).
+     */
+    private final String baseFieldName;
+
+    private final Class<?> baseFieldType;
+
+    /**
+     * The dictionary name resolved from {@code @DictDesc#value()}.
+     */
+    private final String dictName;
+
+    private final FieldGetter baseGetter;
+
+    private final FieldSetter descSetter;
+
+    /**
+     * Whether the desc field is a {@code Map<String, String>} receiving the texts of several languages keyed by language.
+     */
+    private final boolean languageMap;
+
+    public DictDescBinding(final String descFieldName,
+                           final Class<?> descFieldType,
+                           final String baseFieldName,
+                           final Class<?> baseFieldType,
+                           final String dictName,
+                           final FieldGetter baseGetter,
+                           final FieldSetter descSetter) {
+        this.descFieldName = descFieldName;
+        this.descFieldType = descFieldType;
+        this.baseFieldName = baseFieldName;
+        this.baseFieldType = baseFieldType;
+        this.dictName = dictName;
+        this.baseGetter = baseGetter;
+        this.descSetter = descSetter;
+        this.languageMap = null != descFieldType && Map.class.isAssignableFrom(descFieldType);
+    }
+
+    public String getDescFieldName() {
+        return this.descFieldName;
+    }
+
+    public Class<?> getDescFieldType() {
+        return this.descFieldType;
+    }
+
+    public String getBaseFieldName() {
+        return this.baseFieldName;
+    }
+
+    public Class<?> getBaseFieldType() {
+        return this.baseFieldType;
+    }
+
+    public String getDictName() {
+        return this.dictName;
+    }
+
+    public FieldGetter getBaseGetter() {
+        return this.baseGetter;
+    }
+
+    public FieldSetter getDescSetter() {
+        return this.descSetter;
+    }
+
+    /**
+     * Language map desc fields are only filled by {@code DictI18nProcessor#processAll}, translating into a single
+     * language leaves them untouched.
+     */
+    public boolean isLanguageMap() {
+        return this.languageMap;
+    }
+}
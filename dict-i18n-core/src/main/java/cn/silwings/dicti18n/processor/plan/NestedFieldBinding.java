@@ -0,0 +1,48 @@
+package cn.silwings.dicti18n.processor.plan;
+
+import cn.silwings.dicti18n.processor.accessor.FieldGetter;
+
+/**
+ * A field whose value may reference nested objects, collections or maps worth descending into.
+ */
+public final class NestedFieldBinding {
+
+    private final String fieldName;
+
+    private final Class<?> fieldType;
+
+    /**
+     * Declared class of the elements (collections) or values (maps) held by the field, e.g. {@code OrderVO} for a
+     * {@code List<OrderVO>} field, or null when the field is no collection or map or its element type is not known.
+     */
+    private final Class<?> elementType;
+
+    private final FieldGetter getter;
+
+    public NestedFieldBinding(final String fieldName, final Class<?> fieldType, final FieldGetter getter) {
+        this(fieldName, fieldType, null, getter);
+    }
+
+    public NestedFieldBinding(final String fieldName, final Class<?> fieldType, final Class<?> elementType, final FieldGetter getter) {
+        this.fieldName = fieldName;
+        this.fieldType = fieldType;
+        this.elementType = elementType;
+        this.getter = getter;
+    }
+
+    public String getFieldName() {
+        return this.fieldName;
+    }
+
+    public Class<?> getFieldType() {
+        return this.fieldType;
+    }
+
+    public Class<?> getElementType() {
+        return this.elementType;
+    }
+
+    public FieldGetter getGetter() {
+        return this.getter;
+    }
+}
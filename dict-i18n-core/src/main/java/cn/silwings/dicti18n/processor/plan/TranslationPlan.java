@@ -0,0 +1,100 @@
+package cn.silwings.dicti18n.processor.plan;
+
+import cn.silwings.dicti18n.processor.accessor.FieldGetter;
+import cn.silwings.dicti18n.processor.accessor.FieldSetter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable translation plan of a single class.
+ *
+ * <p>A plan is built once per class and then executed for every instance of that class. It holds:</p>
+ * <ul>
+ *     <li>The {@code @DictDesc} fields paired with their resolved base fields and dictionary names</li>
+ *     <li>The fields that may reference nested objects, collections or maps worth descending into</li>
+ * </ul>
+ *
+ * <p>Fields declared with a basic type (String, numbers, enums, ...), static fields and synthetic fields
+ * are never part of a plan.</p>
+ *
+ * <p>Plans are either built reflectively by {@code DictI18nProcessor} or supplied by a generated
+ * {@code DictTranslator} through {@link #builder(Class)}.</p>
+ */
+public final class TranslationPlan {
+
+    private final Class<?> type;
+
+    private final List<DictDescBinding> descBindings;
+
+    private final List<NestedFieldBinding> nestedFields;
+
+    public TranslationPlan(final Class<?> type, final List<DictDescBinding> descBindings, final List<NestedFieldBinding> nestedFields) {
+        this.type = type;
+        this.descBindings = Collections.unmodifiableList(descBindings);
+        this.nestedFields = Collections.unmodifiableList(nestedFields);
+    }
+
+    public Class<?> getType() {
+        return this.type;
+    }
+
+    public List<DictDescBinding> getDescBindings() {
+        return this.descBindings;
+    }
+
+    public List<NestedFieldBinding> getNestedFields() {
+        return this.nestedFields;
+    }
+
+    /**
+     * Whether executing this plan can never have any effect on an instance.
+     */
+    public boolean isEmpty() {
+        return this.descBindings.isEmpty() && this.nestedFields.isEmpty();
+    }
+
+    public static Builder builder(final Class<?> type) {
+        return new Builder(type);
+    }
+
+    public static final class Builder {
+
+        private final Class<?> type;
+        private final List<DictDescBinding> descBindings = new ArrayList<>();
+        private final List<NestedFieldBinding> nestedFields = new ArrayList<>();
+
+        private Builder(final Class<?> type) {
+            this.type = type;
+        }
+
+        public Builder desc(final String descFieldName,
+                            final Class<?> descFieldType,
+                            final String baseFieldName,
+                            final Class<?> baseFieldType,
+                            final String dictName,
+                            final FieldGetter baseGetter,
+                            final FieldSetter descSetter) {
+            this.descBindings.add(new DictDescBinding(descFieldName, descFieldType, baseFieldName, baseFieldType, dictName, baseGetter, descSetter));
+            return this;
+        }
+
+        public Builder nested(final String fieldName, final Class<?> fieldType, final FieldGetter getter) {
+            this.nestedFields.add(new NestedFieldBinding(fieldName, fieldType, getter));
+            return this;
+        }
+
+        /**
+         * A collection or map field whose elements (values) are declared as {@code elementType}.
+         */
+        public Builder nested(final String fieldName, final Class<?> fieldType, final Class<?> elementType, final FieldGetter getter) {
+            this.nestedFields.add(new NestedFieldBinding(fieldName, fieldType, elementType, getter));
+            return this;
+        }
+
+        public TranslationPlan build() {
+            return new TranslationPlan(this.type, new ArrayList<>(this.descBindings), new ArrayList<>(this.nestedFields));
+        }
+    }
+}
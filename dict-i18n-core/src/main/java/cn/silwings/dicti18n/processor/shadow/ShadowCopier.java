@@ -0,0 +1,184 @@
+package cn.silwings.dicti18n.processor.shadow;
+
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Copies the part of an object graph that {@link DictI18nProcessor#process} writes to.
+ * <p>
+ * Objects the processor may write to are copied field by field, collections and maps are copied into new containers,
+ * everything else (basic values, objects without anything to translate, lazy associations that are not loaded, objects
+ * beyond the maximum nesting depth) is shared with the source. Translating the copy therefore never writes into the source graph.
+ * Shared references inside the graph stay shared in the copy.
+ */
+class ShadowCopier {
+
+    private final DictI18nProcessor processor;
+
+    private final ClassValue<CopyPlan> copyPlans = new ClassValue<CopyPlan>() {
+        @Override
+        protected CopyPlan computeValue(final Class<?> type) {
+            return CopyPlan.of(type);
+        }
+    };
+
+    ShadowCopier(final DictI18nProcessor processor) {
+        this.processor = processor;
+    }
+
+    /**
+     * @throws IllegalStateException if an object that has to be copied cannot be instantiated
+     */
+    Object copy(final Object source) {
+        return this.copy(source, 0, new IdentityHashMap<>());
+    }
+
+    /**
+     * Depth follows {@link DictI18nProcessor}: nested objects and collection elements are processed two levels deeper.
+     */
+    private Object copy(final Object source, final int depth, final Map<Object, Object> copies) {
+        if (null == source || this.isShared(source.getClass()) || depth > this.processor.getMaxRecursionDepth() || !this.processor.isLoaded(source)) {
+            return source;
+        }
+        final Object existing = copies.get(source);
+        if (null != existing) {
+            return existing;
+        }
+
+        if (source instanceof Collection<?>) {
+            final Collection<Object> target = this.newCollection((Collection<?>) source);
+            copies.put(source, target);
+            for (final Object element : (Collection<?>) source) {
+                target.add(this.copy(element, depth, copies));
+            }
+            return target;
+        }
+        if (source instanceof Map<?, ?>) {
+            final Map<Object, Object> target = this.newMap((Map<?, ?>) source);
+            copies.put(source, target);
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) source).entrySet()) {
+                target.put(entry.getKey(), this.copy(entry.getValue(), depth, copies));
+            }
+            return target;
+        }
+
+        if (!this.processor.isProcessable(source.getClass())) {
+            return source;
+        }
+
+        final CopyPlan copyPlan = this.copyPlans.get(source.getClass());
+        try {
+            final Object target = copyPlan.newInstance();
+            copies.put(source, target);
+            for (final Field field : copyPlan.fields) {
+                final Object value = field.get(source);
+                field.set(target, this.copy(value, depth + 2, copies));
+            }
+            return target;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("[DictI18n] Failed to copy " + source.getClass().getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    private boolean isShared(final Class<?> clazz) {
+        return clazz == String.class
+                || clazz == Date.class
+                || clazz.isEnum()
+                || clazz.isArray()
+                || Number.class.isAssignableFrom(clazz)
+                || Boolean.class.isAssignableFrom(clazz)
+                || Character.class.isAssignableFrom(clazz);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Collection<Object> newCollection(final Collection<?> source) {
+        if (source instanceof SortedSet<?>) {
+            return new TreeSet<>((Comparator<Object>) ((SortedSet<?>) source).comparator());
+        }
+        final Object instance = this.copyPlans.get(source.getClass()).newInstanceOrNull();
+        if (null != instance) {
+            return (Collection<Object>) instance;
+        }
+        // Unmodifiable and fixed-size collections, e.g. Arrays.asList or Collections.unmodifiableList
+        return source instanceof Set<?> ? new LinkedHashSet<>(source.size()) : new ArrayList<>(source.size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> newMap(final Map<?, ?> source) {
+        if (source instanceof SortedMap<?, ?>) {
+            return new TreeMap<>((Comparator<Object>) ((SortedMap<?, ?>) source).comparator());
+        }
+        final Object instance = this.copyPlans.get(source.getClass()).newInstanceOrNull();
+        return null != instance ? (Map<Object, Object>) instance : new LinkedHashMap<>(source.size());
+    }
+
+    /**
+     * Constructor and fields of a class, resolved once.
+     */
+    private static final class CopyPlan {
+
+        private final Constructor<?> constructor;
+        private final List<Field> fields;
+
+        private CopyPlan(final Constructor<?> constructor, final List<Field> fields) {
+            this.constructor = constructor;
+            this.fields = fields;
+        }
+
+        static CopyPlan of(final Class<?> type) {
+            Constructor<?> constructor;
+            try {
+                constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+            } catch (Exception e) {
+                constructor = null;
+            }
+
+            final List<Field> fields = new ArrayList<>();
+            if (!Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)) {
+                for (Class<?> current = type; null != current && current != Object.class; current = current.getSuperclass()) {
+                    for (final Field field : current.getDeclaredFields()) {
+                        if (Modifier.isStatic(field.getModifiers())) {
+                            continue;
+                        }
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return new CopyPlan(constructor, fields);
+        }
+
+        Object newInstance() throws ReflectiveOperationException {
+            if (null == this.constructor) {
+                throw new NoSuchMethodException("no-arg constructor required");
+            }
+            return this.constructor.newInstance();
+        }
+
+        Object newInstanceOrNull() {
+            try {
+                return null == this.constructor ? null : this.constructor.newInstance();
+            } catch (Exception e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package cn.silwings.dicti18n.processor.shadow;
+
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Translates shared objects (e.g. DTOs returned from a cache) into per-language shadow copies instead of writing into them.
+ * <p>
+ * {@link DictI18nProcessor#process} writes the descriptions into the objects it is given, so two concurrent requests in
+ * different languages returning the same instance race on its desc fields, and every request translates it again.
+ * This processor copies the writable part of the graph (see {@link ShadowCopier}) and translates the copy. Copies are
+ * memoized by the identity of the source object, the language and the {@link DictI18nProvider#getVersion() version} of
+ * the dictionaries, so repeated calls for the same instance and language return the same copy without traversal or
+ * lookups, and different languages never share mutable state.
+ * <p>
+ * Sources are referenced weakly: a memoized copy is dropped once its source is no longer reachable, e.g. evicted from the
+ * cache. Copies are referenced softly, since a copy may reach back to its source through the objects it shares with it
+ * and would otherwise keep the source reachable forever. Returned copies are shared between callers and must be treated
+ * as read-only.
+ */
+public class ShadowCopyProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ShadowCopyProcessor.class);
+
+    private final DictI18nProcessor processor;
+    private final DictI18nProvider provider;
+    private final ShadowCopier copier;
+
+    private final Map<IdentityKey, Map<String, ShadowCopy>> copies = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private final ClassValue<AtomicBoolean> uncopyableWarned = new ClassValue<AtomicBoolean>() {
+        @Override
+        protected AtomicBoolean computeValue(final Class<?> type) {
+            return new AtomicBoolean();
+        }
+    };
+
+    public ShadowCopyProcessor(final DictI18nProcessor processor, final DictI18nProvider provider) {
+        this.processor = processor;
+        this.provider = provider;
+        this.copier = new ShadowCopier(processor);
+    }
+
+    /**
+     * Get the translated copy of the given object.
+     *
+     * @param body     the shared object, never modified
+     * @param language the target language
+     * @return a translated copy, or the body itself when it holds nothing to translate. If the body cannot be copied
+     * (a class to copy has no no-arg constructor) it is returned untranslated, translating the shared instance would
+     * race with requests in other languages.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T process(final T body, final String language) {
+        if (null == body) {
+            return null;
+        }
+        this.expungeCollected();
+
+        final long version = this.provider.getVersion();
+        final IdentityKey key = new IdentityKey(body, this.collected);
+        final String languageKey = Objects.toString(language, "");
+
+        final Map<String, ShadowCopy> byLanguage = this.copies.get(key);
+        final ShadowCopy memoized = null == byLanguage ? null : byLanguage.get(languageKey);
+        if (null != memoized && memoized.version == version) {
+            final Object copy = memoized.get();
+            if (null != copy) {
+                return (T) copy;
+            }
+        }
+
+        final Object copy;
+        try {
+            copy = this.copier.copy(body);
+        } catch (IllegalStateException e) {
+            if (this.uncopyableWarned.get(body.getClass()).compareAndSet(false, true)) {
+                log.warn("[DictI18n] {}, returning {} untranslated.", e.getMessage(), body.getClass().getName());
+            }
+            return body;
+        }
+        if (copy == body) {
+            // Nothing to translate, and memoizing the body under its own weak key would keep it reachable
+            return body;
+        }
+        this.processor.process(copy, language);
+        this.copies.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(languageKey, new ShadowCopy(copy, version));
+        return (T) copy;
+    }
+
+    /**
+     * Number of source objects with memoized copies.
+     */
+    public int size() {
+        this.expungeCollected();
+        return this.copies.size();
+    }
+
+    private void expungeCollected() {
+        Object reference;
+        while (null != (reference = this.collected.poll())) {
+            this.copies.remove(reference);
+        }
+    }
+
+    private static final class ShadowCopy extends SoftReference<Object> {
+        private final long version;
+
+        private ShadowCopy(final Object copy, final long version) {
+            super(copy);
+            this.version = version;
+        }
+    }
+
+    /**
+     * Weak map key comparing the referenced objects by identity.
+     */
+    private static final class IdentityKey extends WeakReference<Object> {
+
+        private final int hash;
+
+        private IdentityKey(final Object referent, final ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof IdentityKey)) {
+                return false;
+            }
+            final Object referent = this.get();
+            return null != referent && referent == ((IdentityKey) other).get();
+        }
+    }
+}
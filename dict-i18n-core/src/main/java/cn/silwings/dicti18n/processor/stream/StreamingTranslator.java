@@ -0,0 +1,115 @@
+package cn.silwings.dicti18n.processor.stream;
+
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Translates elements flowing through a stream or an iterator, e.g. the rows of a large export, without holding them all
+ * in memory.
+ * <p>
+ * Elements are pulled from the source in chunks of a fixed size. Each chunk is walked once and its distinct codes are
+ * resolved with a single batched lookup ({@link cn.silwings.dicti18n.provider.DictI18nProvider#getTexts}) before its elements are handed on, so at
+ * most one chunk is held at a time however many elements flow through. The source is consumed lazily, only when the
+ * caller asks for the next element.
+ */
+public class StreamingTranslator {
+
+    private final DictI18nProcessor processor;
+    private final int chunkSize;
+
+    public StreamingTranslator(final DictI18nProcessor processor, final int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("[DictI18n] Chunk size must be positive: " + chunkSize);
+        }
+        this.processor = processor;
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * Translate the elements of a stream chunk by chunk. Closing the returned stream closes the source.
+     */
+    public <T> Stream<T> translate(final Stream<T> source, final String language) {
+        final Iterator<T> iterator = this.translate(source.iterator(), language);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(source::close);
+    }
+
+    /**
+     * Translate the elements of an iterator chunk by chunk.
+     */
+    public <T> Iterator<T> translate(final Iterator<T> source, final String language) {
+        final Iterator<List<T>> chunks = this.translateChunks(source, language);
+        return new Iterator<T>() {
+
+            private Iterator<T> current = Collections.emptyIterator();
+
+            @Override
+            public boolean hasNext() {
+                while (!this.current.hasNext()) {
+                    if (!chunks.hasNext()) {
+                        return false;
+                    }
+                    this.current = chunks.next().iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return this.current.next();
+            }
+        };
+    }
+
+    /**
+     * Group the elements of an iterator into translated chunks of at most {@link #getChunkSize()} elements, e.g. to write
+     * them in batches.
+     */
+    public <T> Iterator<List<T>> translateChunks(final Iterator<T> source, final String language) {
+        return new Iterator<List<T>>() {
+
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                if (!source.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final List<T> chunk = new ArrayList<>(StreamingTranslator.this.chunkSize);
+                while (chunk.size() < StreamingTranslator.this.chunkSize && source.hasNext()) {
+                    chunk.add(source.next());
+                }
+                StreamingTranslator.this.translateChunk(chunk, language);
+                return chunk;
+            }
+        };
+    }
+
+    /**
+     * Translate the elements of a chunk with one walk and one batched lookup.
+     */
+    public void translateChunk(final List<?> chunk, final String language) {
+        if (!chunk.isEmpty()) {
+            this.processor.processAll(chunk, Collections.singleton(language)).apply(language);
+        }
+    }
+}
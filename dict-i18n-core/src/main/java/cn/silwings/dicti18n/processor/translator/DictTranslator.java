@@ -0,0 +1,28 @@
+package cn.silwings.dicti18n.processor.translator;
+
+import cn.silwings.dicti18n.processor.plan.TranslationPlan;
+
+/**
+ * A reflection-free translator of a single class, usually generated at compile time by {@code dict-i18n-apt}.
+ *
+ * <p>The generated implementation is named after the translated class with the {@value DictTranslators#SUFFIX}
+ * suffix and lives in the same package, e.g. {@code com.example.OrderVODictTranslator} for {@code com.example.OrderVO}
+ * and {@code com.example.Outer_InnerDictTranslator} for the nested class {@code com.example.Outer.Inner}.
+ * Its plan accesses fields through direct getter/setter calls and uses constant dictionary names.</p>
+ *
+ * <p>{@code DictI18nProcessor} looks up the translator of every class once and only falls back to reflection for
+ * classes that were not compiled with the annotation processor.</p>
+ */
+public interface DictTranslator {
+
+    /**
+     * The class translated by this translator.
+     */
+    Class<?> getTargetType();
+
+    /**
+     * The translation plan of {@link #getTargetType()}.
+     */
+    TranslationPlan getPlan();
+
+}
@@ -0,0 +1,91 @@
+package cn.silwings.dicti18n.processor.translator;
+
+import cn.silwings.dicti18n.dict.Dict;
+import cn.silwings.dicti18n.processor.plan.TranslationPlan;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Lookup of generated {@link DictTranslator}s and helpers used by the generated code.
+ */
+public final class DictTranslators {
+
+    private static final Logger log = LoggerFactory.getLogger(DictTranslators.class);
+
+    public static final String SUFFIX = "DictTranslator";
+
+    private DictTranslators() {
+    }
+
+    /**
+     * The fully qualified name of the translator generated for the given class.
+     *
+     * @param binaryName binary name of the translated class, e.g. {@code com.example.Outer$Inner}
+     * @return translator class name, e.g. {@code com.example.Outer_InnerDictTranslator}
+     */
+    public static String translatorName(final String binaryName) {
+        return binaryName.replace('$', '_') + SUFFIX;
+    }
+
+    /**
+     * Find the plan of the translator generated for the given class.
+     *
+     * @param type the class to translate
+     * @return the generated plan, or null if no translator was generated for the class
+     */
+    public static TranslationPlan findPlan(final Class<?> type) {
+        final ClassLoader classLoader = type.getClassLoader();
+        if (null == classLoader || type.isArray() || type.isPrimitive()) {
+            return null;
+        }
+
+        final Class<?> translatorClass;
+        try {
+            translatorClass = Class.forName(translatorName(type.getName()), true, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+
+        if (!DictTranslator.class.isAssignableFrom(translatorClass)) {
+            return null;
+        }
+
+        try {
+            final DictTranslator translator = (DictTranslator) translatorClass.getDeclaredConstructor().newInstance();
+            if (translator.getTargetType() != type) {
+                return null;
+            }
+            log.debug("[DictI18n] Using generated translator {}", translatorClass.getName());
+            return translator.getPlan();
+        } catch (Exception | LinkageError e) {
+            log.warn("[DictI18n] Failed to instantiate generated translator {}, falling back to reflection: {}", translatorClass.getName(), e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Resolve the dictionary name declared by a {@link Dict} class.
+     * Enum dictionaries use their first constant, JavaBean dictionaries are instantiated through their no-arg constructor.
+     *
+     * @param dictClass dictionary class referenced by {@code @DictDesc}
+     * @return dictionary name, or null if it cannot be resolved
+     */
+    public static String dictNameOf(final Class<? extends Dict> dictClass) {
+        final Dict[] enums = dictClass.getEnumConstants();
+        if (null != enums && enums.length > 0) {
+            return enums[0].dictName();
+        } else {
+            try {
+                return dictClass.getDeclaredConstructor().newInstance().dictName();
+            } catch (IllegalAccessException
+                     | NoSuchMethodException
+                     | InvocationTargetException
+                     | InstantiationException e) {
+                log.error("[DictI18n] Failed to instantiate Dict enum class '{}' via no-arg constructor. Please check class design.", dictClass.getName(), e);
+            }
+        }
+        return null;
+    }
+}
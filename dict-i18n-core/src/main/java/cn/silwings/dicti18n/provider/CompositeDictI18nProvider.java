@@ -1,32 +1,74 @@
 package cn.silwings.dicti18n.provider;
 
 import cn.silwings.dicti18n.loader.DictI18nLoader;
+import cn.silwings.dicti18n.loader.DictKey;
+import cn.silwings.dicti18n.loader.InMemoryDictI18nLoader;
+import cn.silwings.dicti18n.provider.lang.Language;
+import cn.silwings.dicti18n.provider.lang.LanguageRegistry;
 import cn.silwings.dicti18n.sorter.DictLoaderSorter;
-import cn.silwings.dicti18n.utils.LangFallbackUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A multi-dictionary loader combination provider that aggregates multiple {@link DictI18nLoader} according to the
  * configuration order to achieve internationalization parsing and language degradation support for dictionary text.
+ * <p>
+ * When every loader is an {@link InMemoryDictI18nLoader} the outcome of the search is fully determined by the loaded
+ * content, so it is precomputed: for each requested language a single table maps every dictionary name and code to
+ * its final text, with the loader priority and the fallback chains already applied, and a lookup is two hash probes
+ * without building the {@code dictName.code} key. The tables are dropped together and rebuilt on demand whenever the
+ * version of a loader changes.
+ * <p>
+ * Request languages are resolved through a {@link LanguageRegistry}, which bounds the number of tags remembered and
+ * gives registered languages an id that indexes their precomputed table.
  */
 public class CompositeDictI18nProvider implements DictI18nProvider {
 
     public static final String FALLBACK_LOCALE_KEY = "";
 
+    /**
+     * Maximum number of precomputed tables of unregistered languages, lookups in further languages ask the loaders
+     */
+    private static final int MAX_SNAPSHOT_LANGUAGES = 64;
+
+    /**
+     * Maximum number of unregistered language tags remembered with the table they share
+     */
+    private static final int MAX_SNAPSHOT_ALIASES = 1024;
+
     /**
      * A collection of loaders that have been sorted, in the order determined by {@link DictLoaderSorter}.
      */
     private final List<DictI18nLoader> loaders;
 
     /**
-     * Language downgrade chain cache
+     * Canonical languages and their downgrade chains
      */
-    private final Map<String, List<String>> fallbackLangChainCache;
+    private final LanguageRegistry languages;
+
+    /**
+     * Whether lookups are served from snapshots: all loaders are in memory and agree on ignoring case
+     */
+    private final boolean snapshotEnabled;
+
+    private final boolean ignoreCase;
+
+    /**
+     * Tables of the current loader versions, replaced as a whole when a loader changes
+     */
+    private volatile Snapshot snapshot;
 
     /**
      * Constructors, receive sequencers and configuration items, initialize loader lists.
@@ -34,11 +76,30 @@ public class CompositeDictI18nProvider implements DictI18nProvider {
      * @param sorter A loader sequencer that controls the order in which the loader is executed
      */
     public CompositeDictI18nProvider(final DictLoaderSorter sorter) {
+        this(sorter, new LanguageRegistry());
+    }
+
+    /**
+     * @param sorter    A loader sequencer that controls the order in which the loader is executed
+     * @param languages Registry resolving the requested languages
+     */
+    public CompositeDictI18nProvider(final DictLoaderSorter sorter, final LanguageRegistry languages) {
         this.loaders = sorter.getOrderedLoaders();
-        this.fallbackLangChainCache = new ConcurrentHashMap<>();
+        this.languages = languages;
         if (this.loaders.isEmpty()) {
             throw new IllegalArgumentException("[DictI18n] Provide at least one DictI18nLoader.");
         }
+        boolean inMemory = true;
+        final Set<Boolean> ignoreCases = new LinkedHashSet<>();
+        for (final DictI18nLoader loader : this.loaders) {
+            if (loader instanceof InMemoryDictI18nLoader) {
+                ignoreCases.add(((InMemoryDictI18nLoader) loader).isIgnoreCase());
+            } else {
+                inMemory = false;
+            }
+        }
+        this.snapshotEnabled = inMemory && ignoreCases.size() == 1;
+        this.ignoreCase = this.snapshotEnabled && ignoreCases.contains(Boolean.TRUE);
     }
 
     /**
@@ -51,6 +112,8 @@ public class CompositeDictI18nProvider implements DictI18nProvider {
      * 3. If still not found, try looking it up with the special fallback key ("").
      * <p>
      * Once any step in a loader successfully finds a result, it immediately returns that result.
+     * Loaders are asked through {@link DictI18nLoader#getOrNull(String, String, String)}, loaders keeping structured
+     * tables look the item up without building the {@code dictName.code} key.
      *
      * @param language        User language, such as "en-US", "zh-CN"
      * @param defaultLanguage Default language, such as "en-US", "zh-CN"
@@ -59,60 +122,288 @@ public class CompositeDictI18nProvider implements DictI18nProvider {
      * @return The dictionary description in the corresponding language, or returns Optional.empty() if not found.
      */
     @Override
-    public Optional<String> getText(String language, String defaultLanguage, final String dictName, final String code) {
+    public Optional<String> getText(final String language, final String defaultLanguage, final String dictName, final String code) {
+        return Optional.ofNullable(this.find(language, defaultLanguage, dictName, code, 0L));
+    }
 
-        if (null == defaultLanguage) {
-            defaultLanguage = "";
-        }
+    /**
+     * Same search as {@link #getText(String, String, String, String)}, every loader is asked through
+     * {@link DictI18nLoader#getOrNull(String, String, long)} so that loaders indexing integral codes skip building the key.
+     */
+    @Override
+    public Optional<String> getText(final String language, final String defaultLanguage, final String dictName, final long code) {
+        return Optional.ofNullable(this.find(language, defaultLanguage, dictName, null, code));
+    }
+
+    /**
+     * Same search as {@link #getText(String, String, String, String)}, without allocating an {@link Optional}.
+     */
+    @Override
+    public String getTextOrNull(final String language, final String defaultLanguage, final String dictName, final String code) {
+        return this.find(language, defaultLanguage, dictName, code, 0L);
+    }
 
-        if (StringUtils.isBlank(language)) {
-            language = defaultLanguage;
+    @Override
+    public String getTextOrNull(final String language, final String defaultLanguage, final String dictName, final long code) {
+        return this.find(language, defaultLanguage, dictName, null, code);
+    }
+
+    /**
+     * @param code        string code, null to look up the numeric code instead
+     * @param numericCode integral code, used when code is null
+     * @return the text found, or null
+     */
+    private String find(final String language, final String defaultLanguage, final String dictName, final String code, final long numericCode) {
+
+        final Language defaultLang = this.languages.resolve(defaultLanguage);
+        final Language lang = this.resolveLanguage(language, defaultLang);
+
+        final Map<String, Map<String, String>> table = this.getSnapshotTable(lang, defaultLang);
+        if (null != table) {
+            return this.lookup(table, dictName, null == code ? Long.toString(numericCode) : code);
         }
 
-        final List<String> langChain = this.getFallbackLangChain(language);
-        final boolean includeDefaultLang = !langChain.contains(defaultLanguage);
+        final List<String> langChain = lang.getFallbackChain();
+        final boolean includeDefaultLang = !langChain.contains(defaultLang.getTag());
 
         for (DictI18nLoader loader : this.loaders) {
 
             // Search from the fallback chain of the current language
-            Optional<String> dictDesc = this.getTextFromLoader(langChain, dictName, code, loader);
+            String dictDesc = this.getTextFromLoader(langChain, dictName, code, numericCode, loader);
 
             // attempt to search using the configured default language
-            if (!dictDesc.isPresent() && includeDefaultLang) {
-                dictDesc = this.getTextFromLoader(this.getFallbackLangChain(defaultLanguage), dictName, code, loader);
+            if (null == dictDesc && includeDefaultLang) {
+                dictDesc = this.getTextFromLoader(defaultLang.getFallbackChain(), dictName, code, numericCode, loader);
             }
 
             // try looking it up with the special fallback key ("")
-            if (!dictDesc.isPresent() && !FALLBACK_LOCALE_KEY.equals(defaultLanguage)) {
-                dictDesc = this.getTextFromLoader(this.getFallbackLangChain(FALLBACK_LOCALE_KEY), dictName, code, loader);
+            if (null == dictDesc && !defaultLang.isFallback()) {
+                dictDesc = this.getTextFromLoader(this.languages.getFallback().getFallbackChain(), dictName, code, numericCode, loader);
             }
 
-            if (dictDesc.isPresent()) {
+            if (null != dictDesc) {
                 return dictDesc;
             }
         }
-        return Optional.empty();
+        return null;
+    }
+
+    /**
+     * Retrieve internationalized copy of many dictionary items at once.
+     * <p>
+     * Follows exactly the same search order as {@link #getText(String, String, String, String)}, but every loader is
+     * queried with all still unresolved keys of a fallback level in a single {@link DictI18nLoader#getAll} call.
+     * Keys resolved by a loader are not passed on to the following loaders.
+     *
+     * @param language        User language, such as "en-US", "zh-CN"
+     * @param defaultLanguage Default language, such as "en-US", "zh-CN"
+     * @param codesByDictName Codes to resolve, grouped by dictionary name
+     * @return Texts found, grouped by dictionary name and then by code
+     */
+    @Override
+    public Map<String, Map<String, String>> getTexts(final String language, final String defaultLanguage, final Map<String, ? extends Collection<String>> codesByDictName) {
+
+        final Language defaultLang = this.languages.resolve(defaultLanguage);
+        final Language lang = this.resolveLanguage(language, defaultLang);
+
+        final Map<String, Map<String, String>> texts = new HashMap<>();
+        final Map<String, Map<String, String>> table = this.getSnapshotTable(lang, defaultLang);
+        if (null != table) {
+            codesByDictName.forEach((dictName, codes) -> codes.forEach(code -> {
+                final String desc = this.lookup(table, dictName, code);
+                if (null != desc) {
+                    texts.computeIfAbsent(dictName, key -> new HashMap<>()).put(code, desc);
+                }
+            }));
+            return texts;
+        }
+
+        // dictKey -> (dictName, code)
+        final Map<String, String[]> pending = new LinkedHashMap<>();
+        codesByDictName.forEach((dictName, codes) -> codes.forEach(code -> pending.put(this.resolveKey(dictName, code), new String[]{dictName, code})));
+        if (pending.isEmpty()) {
+            return texts;
+        }
+
+        final Set<String> searchLangs = this.getSearchLangs(lang, defaultLang);
+
+        for (final DictI18nLoader loader : this.loaders) {
+            for (final String searchLang : searchLangs) {
+                final Map<String, String> found = loader.getAll(searchLang, new ArrayList<>(pending.keySet()));
+                found.forEach((dictKey, desc) -> {
+                    if (StringUtils.isNotBlank(desc)) {
+                        final String[] item = pending.remove(dictKey);
+                        if (null != item) {
+                            texts.computeIfAbsent(item[0], key -> new HashMap<>()).put(item[1], desc);
+                        }
+                    }
+                });
+                if (pending.isEmpty()) {
+                    return texts;
+                }
+            }
+        }
+        return texts;
+    }
+
+    /**
+     * The requested language, blank languages and the tags folded by the registry search the default language instead.
+     */
+    private Language resolveLanguage(final String language, final Language defaultLang) {
+        final Language lang = this.languages.resolve(language);
+        return lang.isFallback() ? defaultLang : lang;
+    }
+
+    /**
+     * All languages searched within a single loader, in the order used by {@link #getText(String, String, String, String)}.
+     */
+    private Set<String> getSearchLangs(final Language language, final Language defaultLanguage) {
+        final List<String> langChain = language.getFallbackChain();
+        final Set<String> langs = new LinkedHashSet<>(langChain);
+        if (!langChain.contains(defaultLanguage.getTag())) {
+            langs.addAll(defaultLanguage.getFallbackChain());
+        }
+        if (!defaultLanguage.isFallback()) {
+            langs.addAll(this.languages.getFallback().getFallbackChain());
+        }
+        return langs;
+    }
+
+    /**
+     * Get the precomputed table of a language, building it on first use. Tables of registered languages are found by
+     * the id of the language.
+     *
+     * @return the final text of every dictionary item, keyed by dictionary name and then by code, null if lookups have
+     * to ask the loaders: not all loaders are in memory, or tables of too many unregistered languages are held already
+     */
+    private Map<String, Map<String, String>> getSnapshotTable(final Language language, final Language defaultLanguage) {
+        if (!this.snapshotEnabled) {
+            return null;
+        }
+        final long version = this.getVersion();
+        Snapshot current = this.snapshot;
+        if (null == current || current.version != version) {
+            // Readers of the previous snapshot keep using it until they are done
+            current = new Snapshot(version);
+            this.snapshot = current;
+        }
+        final Tables tables = current.tables.computeIfAbsent(defaultLanguage.getTag(), key -> new Tables(this.languages.size()));
+        if (language.isRegistered()) {
+            final Map<String, Map<String, String>> table = tables.registered.get(language.getId());
+            if (null != table) {
+                return table;
+            }
+            tables.registered.compareAndSet(language.getId(), null, this.buildSnapshotTable(this.getSearchLangs(language, defaultLanguage)));
+            return tables.registered.get(language.getId());
+        }
+        Map<String, Map<String, String>> table = tables.aliases.get(language.getTag());
+        if (null != table) {
+            return table;
+        }
+        // Languages come from requests: tags no loader knows ("xx") share the table of the languages actually found,
+        // and the number of distinct tables is bounded
+        final Set<String> searchLangs = this.getSearchLangs(language, defaultLanguage);
+        final List<String> effectiveLangs = this.getEffectiveLangs(searchLangs);
+        table = tables.unregistered.get(effectiveLangs);
+        if (null == table) {
+            if (current.unregisteredSize() >= MAX_SNAPSHOT_LANGUAGES) {
+                return null;
+            }
+            table = tables.unregistered.computeIfAbsent(effectiveLangs, key -> this.buildSnapshotTable(searchLangs));
+        }
+        if (tables.aliases.size() < MAX_SNAPSHOT_ALIASES) {
+            tables.aliases.putIfAbsent(language.getTag(), table);
+        }
+        return table;
+    }
+
+    /**
+     * The search languages some loader holds entries for, in search order. Languages without entries do not change the
+     * table, nor do {@link InMemoryDictI18nLoader#isLanguageIndependent() language independent} loaders, which answer
+     * the same for any language: search languages with the same effective languages have the same table.
+     */
+    private List<String> getEffectiveLangs(final Set<String> searchLangs) {
+        final List<String> effectiveLangs = new ArrayList<>(searchLangs.size());
+        for (final String lang : searchLangs) {
+            for (final DictI18nLoader loader : this.loaders) {
+                final InMemoryDictI18nLoader inMemoryLoader = (InMemoryDictI18nLoader) loader;
+                if (!inMemoryLoader.isLanguageIndependent() && !inMemoryLoader.getEntries(lang).isEmpty()) {
+                    effectiveLangs.add(lang);
+                    break;
+                }
+            }
+        }
+        return effectiveLangs;
+    }
+
+    /**
+     * Apply the search order of {@link #getText(String, String, String, String)} to the content of all loaders: the
+     * first text found for an item, loader by loader and language by language, wins.
+     */
+    private Map<String, Map<String, String>> buildSnapshotTable(final Set<String> langs) {
+        final Map<String, Map<String, String>> table = new HashMap<>();
+        for (final DictI18nLoader loader : this.loaders) {
+            for (final String lang : langs) {
+                ((InMemoryDictI18nLoader) loader).getEntries(lang).forEach((dictName, descs) -> descs.forEach((code, desc) -> {
+                    if (StringUtils.isNotBlank(desc)) {
+                        table.computeIfAbsent(dictName, key -> new HashMap<>()).putIfAbsent(code, desc);
+                    }
+                }));
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Look an item up in a precomputed table, normalized the same way as the loaders store their keys.
+     */
+    private String lookup(final Map<String, Map<String, String>> table, final String dictName, final String code) {
+        final DictKey key = DictKey.isSplitAmbiguous(code) ? DictKey.parse(this.normalizeKey(this.resolveKey(dictName, code))) : null;
+        final Map<String, String> descs = table.get(null == key ? this.normalizeKey(dictName) : key.getDictName());
+        if (null == descs) {
+            return null;
+        }
+        return descs.get(null == key ? this.normalizeKey(code) : key.getCode());
+    }
+
+    private String normalizeKey(final String key) {
+        return this.ignoreCase ? key.toLowerCase() : key;
     }
 
     /**
      * From the given language chain, sequentially attempt to retrieve the internationalized description of the specified dictionary item from the loader.
      * <p>
-     * Once a non-empty description is found in any language, return it immediately; if no descriptions are found or the result is blank across all languages, return Optional.empty.
+     * Once a non-empty description is found in any language, return it immediately; if no descriptions are found or the result is blank across all languages, return null.
      *
-     * @param langChain Language fallback chains, such as ["zh-CN", "zh"]
-     * @param dictName  Dictionary name, such as "order_status"
-     * @param code      Dictionary key-value, such as "pending"
-     * @param loader    The DictI18nLoader currently being attempted to query
-     * @return Description of successful retrieval; returns Optional.empty if none match.
-     */
-    private Optional<String> getTextFromLoader(final List<String> langChain, final String dictName, final String code, final DictI18nLoader loader) {
-        for (final String lang : langChain) {
-            final Optional<String> result = loader.get(lang, this.resolveKey(dictName, code)).filter(StringUtils::isNotBlank);
-            if (result.isPresent()) {
+     * @param langChain   Language fallback chains, such as ["zh-CN", "zh"]
+     * @param dictName    Dictionary name, such as "order_status"
+     * @param code        Dictionary key-value, such as "pending", null to look up the numeric code
+     * @param numericCode Integral code, such as 1, used when code is null
+     * @param loader      The DictI18nLoader currently being attempted to query
+     * @return Description of successful retrieval; returns null if none match.
+     */
+    private String getTextFromLoader(final List<String> langChain, final String dictName, final String code, final long numericCode, final DictI18nLoader loader) {
+        // Indexed loop, the chains are random access lists and iterating them must not allocate
+        for (int i = 0; i < langChain.size(); i++) {
+            final String lang = langChain.get(i);
+            final String result = null == code ? loader.getOrNull(lang, dictName, numericCode) : loader.getOrNull(lang, dictName, code);
+            if (StringUtils.isNotBlank(result)) {
                 return result;
             }
         }
-        return Optional.empty();
+        return null;
+    }
+
+    /**
+     * The version changes whenever the version of any loader changes.
+     */
+    @Override
+    public long getVersion() {
+        long version = 0L;
+        for (final DictI18nLoader loader : this.loaders) {
+            version = 31 * version + loader.getVersion();
+        }
+        return version;
     }
 
     /**
@@ -129,12 +420,40 @@ public class CompositeDictI18nProvider implements DictI18nProvider {
     }
 
     /**
-     * Get the downgrade chain for the specified language, e.g. zh-CN → zh.
-     *
-     * @param language Original language string
-     * @return List of downgraded language chains
+     * Precomputed tables of one version of the loaders, keyed by default language and language.
+     */
+    private static final class Snapshot {
+
+        private final long version;
+        private final ConcurrentMap<String, Tables> tables = new ConcurrentHashMap<>();
+
+        private Snapshot(final long version) {
+            this.version = version;
+        }
+
+        private int unregisteredSize() {
+            int size = 0;
+            for (final Tables byLanguage : this.tables.values()) {
+                size += byLanguage.unregistered.size();
+            }
+            return size;
+        }
+    }
+
+    /**
+     * Precomputed tables of one default language.
      */
-    private List<String> getFallbackLangChain(final String language) {
-        return this.fallbackLangChainCache.computeIfAbsent(language, LangFallbackUtils::fallbackLangChain);
+    private static final class Tables {
+
+        // Indexed by the id of the language
+        private final AtomicReferenceArray<Map<String, Map<String, String>>> registered;
+        // Keyed by the effective search languages
+        private final ConcurrentMap<List<String>, Map<String, Map<String, String>>> unregistered = new ConcurrentHashMap<>();
+        // Tag of an unregistered language -> its table
+        private final ConcurrentMap<String, Map<String, Map<String, String>>> aliases = new ConcurrentHashMap<>();
+
+        private Tables(final int registeredLanguages) {
+            this.registered = new AtomicReferenceArray<>(registeredLanguages);
+        }
     }
-}
\ No newline at end of file
+}
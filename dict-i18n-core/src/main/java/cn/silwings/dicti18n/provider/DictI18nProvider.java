@@ -1,5 +1,8 @@
 package cn.silwings.dicti18n.provider;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 public interface DictI18nProvider {
@@ -7,4 +10,66 @@ public interface DictI18nProvider {
      * Get internationalized copywriting
      */
     Optional<String> getText(String language, String defaultLanguage, String dictName, String code);
-}
\ No newline at end of file
+
+    /**
+     * Get internationalized copywriting of an integral code, such as the {@code 1} of an {@code Integer status} field.
+     * <p>
+     * Resolves the same text as {@link #getText(String, String, String, String)} with the decimal form of the code,
+     * which is what the default implementation does. Providers whose loaders index integral codes should override it
+     * to look the code up without formatting it.
+     */
+    default Optional<String> getText(final String language, final String defaultLanguage, final String dictName, final long code) {
+        return this.getText(language, defaultLanguage, dictName, Long.toString(code));
+    }
+
+    /**
+     * Same lookup as {@link #getText(String, String, String, String)}, returning null instead of an empty
+     * {@link Optional}.
+     * <p>
+     * This is the method used by the processor for single lookups. The default implementation unwraps
+     * {@link #getText(String, String, String, String)}, providers should implement it natively and make the
+     * {@link Optional} variant wrap it.
+     */
+    default String getTextOrNull(final String language, final String defaultLanguage, final String dictName, final String code) {
+        return this.getText(language, defaultLanguage, dictName, code).orElse(null);
+    }
+
+    /**
+     * Same lookup as {@link #getText(String, String, String, long)}, returning null instead of an empty
+     * {@link Optional}.
+     */
+    default String getTextOrNull(final String language, final String defaultLanguage, final String dictName, final long code) {
+        return this.getText(language, defaultLanguage, dictName, code).orElse(null);
+    }
+
+    /**
+     * Get internationalized copywriting for many codes at once.
+     * <p>
+     * The default implementation calls {@link #getText} for every code, providers backed by remote stores should
+     * override it to resolve all codes in as few round trips as possible.
+     *
+     * @param language         User language, such as "en-US", "zh-CN"
+     * @param defaultLanguage  Default language, such as "en-US", "zh-CN"
+     * @param codesByDictName  Distinct codes to resolve, grouped by dictionary name
+     * @return Texts found, grouped by dictionary name and then by code. Codes without text are absent.
+     */
+    default Map<String, Map<String, String>> getTexts(final String language, final String defaultLanguage, final Map<String, ? extends Collection<String>> codesByDictName) {
+        final Map<String, Map<String, String>> texts = new HashMap<>();
+        codesByDictName.forEach((dictName, codes) -> {
+            for (final String code : codes) {
+                this.getText(language, defaultLanguage, dictName, code)
+                        .ifPresent(text -> texts.computeIfAbsent(dictName, key -> new HashMap<>()).put(code, text));
+            }
+        });
+        return texts;
+    }
+
+    /**
+     * Version of the translations served by this provider, changes whenever any of the underlying translations change.
+     *
+     * @return current version, 0 if the translations never change
+     */
+    default long getVersion() {
+        return 0L;
+    }
+}
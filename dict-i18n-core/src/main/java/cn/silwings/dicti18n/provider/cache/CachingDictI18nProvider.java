@@ -0,0 +1,315 @@
+package cn.silwings.dicti18n.provider.cache;
+
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Caches the final outcome of a lookup through the whole loader and language fallback chain of the delegate, keyed by
+ * language, default language, dictionary name and code. Codes without any text are cached as well, so a miss costs the
+ * loaders (possibly several remote round trips) only once per expiry.
+ * <p>
+ * The cache is bounded: once the maximum size is reached, expired entries are dropped first, then arbitrary entries
+ * until a tenth of the room is free again. Entries written before the {@link DictI18nProvider#getVersion() version} of
+ * the delegate changed, e.g. before a loader reloaded its dictionaries, are ignored and resolved again. Explicit
+ * invalidation changes the version of this provider, so memoized translations (see {@code ShadowCopyProcessor}) are
+ * computed again. Lookups capture the invalidation stamps before asking the delegate, so a text read while an
+ * invalidation runs is never served afterwards.
+ */
+public class CachingDictI18nProvider implements DictI18nProvider {
+
+    private final DictI18nProvider delegate;
+    private final int maximumSize;
+    private final long expireAfterWriteNanos;
+
+    private final Map<TextKey, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    // Bumped by invalidateAll, entries of older generations are stale
+    private volatile long generation;
+    // Bumped by invalidate(dictName), entries of a dictionary written with an older stamp are stale
+    private final Map<String, Long> dictStamps = new ConcurrentHashMap<>();
+    // Bumped by every invalidation, part of the version
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CachingDictI18nProvider(final DictI18nProvider delegate, final DictI18nProperties.TextCache config) {
+        if (config.getMaximumSize() <= 0) {
+            throw new IllegalArgumentException("[DictI18n] Text cache maximum size must be positive: " + config.getMaximumSize());
+        }
+        this.delegate = delegate;
+        this.maximumSize = config.getMaximumSize();
+        this.expireAfterWriteNanos = config.getExpireAfterWriteSeconds() > 0 ? TimeUnit.SECONDS.toNanos(config.getExpireAfterWriteSeconds()) : Long.MAX_VALUE;
+    }
+
+    @Override
+    public Optional<String> getText(final String language, final String defaultLanguage, final String dictName, final String code) {
+        return Optional.ofNullable(this.getTextOrNull(language, defaultLanguage, dictName, code));
+    }
+
+    @Override
+    public Optional<String> getText(final String language, final String defaultLanguage, final String dictName, final long code) {
+        return Optional.ofNullable(this.getTextOrNull(language, defaultLanguage, dictName, code));
+    }
+
+    @Override
+    public String getTextOrNull(final String language, final String defaultLanguage, final String dictName, final String code) {
+        final TextKey key = new TextKey(language, defaultLanguage, dictName, code);
+        final long delegateVersion = this.delegate.getVersion();
+        final long generation = this.generation;
+        final long dictStamp = this.dictStamp(dictName);
+        final Optional<String> cached = this.lookup(key, delegateVersion, generation, dictStamp);
+        if (null != cached) {
+            return cached.orElse(null);
+        }
+        final String text = this.delegate.getTextOrNull(language, defaultLanguage, dictName, code);
+        this.store(key, Optional.ofNullable(text), delegateVersion, generation, dictStamp);
+        return text;
+    }
+
+    @Override
+    public String getTextOrNull(final String language, final String defaultLanguage, final String dictName, final long code) {
+        final TextKey key = new TextKey(language, defaultLanguage, dictName, code);
+        final long delegateVersion = this.delegate.getVersion();
+        final long generation = this.generation;
+        final long dictStamp = this.dictStamp(dictName);
+        final Optional<String> cached = this.lookup(key, delegateVersion, generation, dictStamp);
+        if (null != cached) {
+            return cached.orElse(null);
+        }
+        final String text = this.delegate.getTextOrNull(language, defaultLanguage, dictName, code);
+        this.store(key, Optional.ofNullable(text), delegateVersion, generation, dictStamp);
+        return text;
+    }
+
+    /**
+     * Only the codes not cached yet are passed on to the delegate, in a single call.
+     */
+    @Override
+    public Map<String, Map<String, String>> getTexts(final String language, final String defaultLanguage, final Map<String, ? extends Collection<String>> codesByDictName) {
+        final long delegateVersion = this.delegate.getVersion();
+        final long generation = this.generation;
+        final Map<String, Long> dictStamps = new HashMap<>();
+        final Map<String, Map<String, String>> texts = new HashMap<>();
+        final Map<String, List<String>> missing = new HashMap<>();
+        codesByDictName.forEach((dictName, codes) -> {
+            final long dictStamp = this.dictStamp(dictName);
+            dictStamps.put(dictName, dictStamp);
+            for (final String code : codes) {
+                final Optional<String> text = this.lookup(new TextKey(language, defaultLanguage, dictName, code), delegateVersion, generation, dictStamp);
+                if (null == text) {
+                    missing.computeIfAbsent(dictName, key -> new ArrayList<>()).add(code);
+                } else if (text.isPresent()) {
+                    texts.computeIfAbsent(dictName, key -> new HashMap<>()).put(code, text.get());
+                }
+            }
+        });
+        if (missing.isEmpty()) {
+            return texts;
+        }
+
+        final Map<String, Map<String, String>> resolved = this.delegate.getTexts(language, defaultLanguage, missing);
+        missing.forEach((dictName, codes) -> {
+            final Map<String, String> dictTexts = resolved.get(dictName);
+            final long dictStamp = dictStamps.get(dictName);
+            for (final String code : codes) {
+                final String text = null == dictTexts ? null : dictTexts.get(code);
+                this.store(new TextKey(language, defaultLanguage, dictName, code), Optional.ofNullable(text), delegateVersion, generation, dictStamp);
+                if (null != text) {
+                    texts.computeIfAbsent(dictName, key -> new HashMap<>()).put(code, text);
+                }
+            }
+        });
+        return texts;
+    }
+
+    /**
+     * Changes with the version of the delegate and with every invalidation.
+     */
+    @Override
+    public long getVersion() {
+        return 31 * this.delegate.getVersion() + this.invalidations.get();
+    }
+
+    /**
+     * Drop all cached texts.
+     */
+    public synchronized void invalidateAll() {
+        this.generation++;
+        this.entries.clear();
+        this.invalidations.incrementAndGet();
+    }
+
+    /**
+     * Drop the cached texts of a dictionary in all languages.
+     */
+    public void invalidate(final String dictName) {
+        // Stamp first: texts read before are rejected whether they are stored before or after the removal
+        this.dictStamps.merge(Objects.toString(dictName, ""), 1L, Long::sum);
+        this.entries.keySet().removeIf(key -> Objects.equals(key.dictName, dictName));
+        this.invalidations.incrementAndGet();
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    public long getHitCount() {
+        return this.hits.sum();
+    }
+
+    public long getMissCount() {
+        return this.misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return this.evictions.sum();
+    }
+
+    /**
+     * Share of the lookups answered from the cache, 0 before the first lookup.
+     */
+    public double getHitRatio() {
+        final long hitCount = this.hits.sum();
+        final long total = hitCount + this.misses.sum();
+        return 0 == total ? 0D : (double) hitCount / total;
+    }
+
+    /**
+     * @return the cached text (empty for a cached miss), null if the key has to be resolved by the delegate
+     */
+    private Optional<String> lookup(final TextKey key, final long delegateVersion, final long generation, final long dictStamp) {
+        final Entry entry = this.entries.get(key);
+        if (null != entry
+                && entry.delegateVersion == delegateVersion
+                && entry.generation == generation
+                && entry.dictStamp == dictStamp
+                && System.nanoTime() - entry.writtenAt < this.expireAfterWriteNanos) {
+            this.hits.increment();
+            return entry.text;
+        }
+        this.misses.increment();
+        return null;
+    }
+
+    /**
+     * The generation and the stamp of the dictionary are the ones captured before the delegate was asked, the text is
+     * dropped if an invalidation happened since.
+     */
+    private void store(final TextKey key, final Optional<String> text, final long delegateVersion, final long generation, final long dictStamp) {
+        if (generation != this.generation || dictStamp != this.dictStamp(key.dictName)) {
+            return;
+        }
+        if (this.entries.size() >= this.maximumSize) {
+            this.evict();
+        }
+        this.entries.put(key, new Entry(text, delegateVersion, generation, dictStamp, System.nanoTime()));
+    }
+
+    private long dictStamp(final String dictName) {
+        final Long stamp = this.dictStamps.get(Objects.toString(dictName, ""));
+        return null == stamp ? 0L : stamp;
+    }
+
+    /**
+     * Make room for a tenth of the maximum size, a single thread evicts while the others keep writing.
+     */
+    private void evict() {
+        if (!this.evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final int target = this.maximumSize - Math.max(1, this.maximumSize / 10);
+            final long now = System.nanoTime();
+            this.entries.values().removeIf(entry -> {
+                final boolean stale = entry.generation != this.generation || now - entry.writtenAt >= this.expireAfterWriteNanos;
+                if (stale) {
+                    this.evictions.increment();
+                }
+                return stale;
+            });
+            final Iterator<TextKey> iterator = this.entries.keySet().iterator();
+            while (this.entries.size() > target && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+                this.evictions.increment();
+            }
+        } finally {
+            this.evicting.set(false);
+        }
+    }
+
+    private static final class Entry {
+
+        private final Optional<String> text;
+        private final long delegateVersion;
+        private final long generation;
+        private final long dictStamp;
+        private final long writtenAt;
+
+        private Entry(final Optional<String> text, final long delegateVersion, final long generation, final long dictStamp, final long writtenAt) {
+            this.text = text;
+            this.delegateVersion = delegateVersion;
+            this.generation = generation;
+            this.dictStamp = dictStamp;
+            this.writtenAt = writtenAt;
+        }
+    }
+
+    /**
+     * The code is a String or, for integral codes, a Long, so both overloads of getText never share an entry.
+     */
+    private static final class TextKey {
+
+        private final String language;
+        private final String defaultLanguage;
+        private final String dictName;
+        private final Object code;
+        private final int hash;
+
+        private TextKey(final String language, final String defaultLanguage, final String dictName, final Object code) {
+            this.language = language;
+            this.defaultLanguage = defaultLanguage;
+            this.dictName = dictName;
+            this.code = code;
+            this.hash = Objects.hash(language, defaultLanguage, dictName, code);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TextKey)) {
+                return false;
+            }
+            final TextKey other = (TextKey) o;
+            return this.hash == other.hash
+                    && Objects.equals(this.code, other.code)
+                    && Objects.equals(this.dictName, other.dictName)
+                    && Objects.equals(this.language, other.language)
+                    && Objects.equals(this.defaultLanguage, other.defaultLanguage);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
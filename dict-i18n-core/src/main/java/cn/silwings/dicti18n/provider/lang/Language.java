@@ -0,0 +1,63 @@
+package cn.silwings.dicti18n.provider.lang;
+
+import java.util.List;
+
+/**
+ * A language resolved by a {@link LanguageRegistry}: its canonical tag, its fallback chain and, for registered
+ * languages, a small integer id usable as an index into per-language tables.
+ */
+public final class Language {
+
+    /**
+     * Id of languages that are not registered
+     */
+    public static final int UNREGISTERED = -1;
+
+    private final int id;
+    private final String tag;
+    private final List<String> fallbackChain;
+
+    Language(final int id, final String tag, final List<String> fallbackChain) {
+        this.id = id;
+        this.tag = tag;
+        this.fallbackChain = fallbackChain;
+    }
+
+    /**
+     * @return the id, between 0 and {@link LanguageRegistry#size()} - 1, or {@link #UNREGISTERED}
+     */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * @return the canonical tag, lowercase with '-' separators, e.g. "zh-cn". Empty for the fallback language.
+     */
+    public String getTag() {
+        return this.tag;
+    }
+
+    /**
+     * @return the languages searched for this language, e.g. ["zh-cn", "zh"]. Must not be modified.
+     */
+    public List<String> getFallbackChain() {
+        return this.fallbackChain;
+    }
+
+    public boolean isRegistered() {
+        return this.id != UNREGISTERED;
+    }
+
+    /**
+     * Whether this is the fallback language (""), which stands for blank tags and for the tags a closed registry does
+     * not know: lookups in it search the default language instead.
+     */
+    public boolean isFallback() {
+        return this.tag.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return this.tag;
+    }
+}
@@ -0,0 +1,138 @@
+package cn.silwings.dicti18n.provider.lang;
+
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.utils.LangFallbackUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the language tags of requests (e.g. "zh-CN", "zh_cn", "en-US") to canonical {@link Language}s.
+ * <p>
+ * The configured languages, the default language and the members of their fallback chains are registered up front:
+ * each gets a small id and a precomputed fallback chain. Any other tag is resolved once and remembered in a bounded
+ * cache, tags arriving once the cache is full are resolved on every call but never retained, so tags chosen by clients
+ * (request parameters, {@code Accept-Language}) cannot grow memory without limit.
+ * <p>
+ * Without configured languages the registry is open: unknown tags keep their own fallback chain, exactly as if no
+ * registry was used. With configured languages it is closed, the configuration promises that loaders hold no other
+ * languages: an unknown tag is folded onto the first registered language of its chain ("zh-hk" onto "zh"), or onto
+ * the fallback language, for which lookups search the default language.
+ */
+public class LanguageRegistry {
+
+    private final Map<String, Language> registered;
+    private final Language fallback;
+    private final boolean closed;
+    private final int maxCachedTags;
+    private final Map<String, Language> cachedTags = new ConcurrentHashMap<>();
+
+    /**
+     * An open registry with the default limits.
+     */
+    public LanguageRegistry() {
+        this(new DictI18nProperties.Languages(), "");
+    }
+
+    /**
+     * @param config      languages to register and cache limit
+     * @param defaultLang default language, registered as well when languages are configured
+     */
+    public LanguageRegistry(final DictI18nProperties.Languages config, final String defaultLang) {
+        if (config.getMaxCachedTags() < 0) {
+            throw new IllegalArgumentException("[DictI18n] Maximum number of cached language tags must not be negative: " + config.getMaxCachedTags());
+        }
+        final Map<String, Language> registered = new HashMap<>();
+        this.fallback = this.register(registered, "");
+        final List<String> tags = new ArrayList<>(config.getKnown());
+        if (!tags.isEmpty()) {
+            tags.add(defaultLang);
+        }
+        for (final String tag : tags) {
+            if (StringUtils.isNotBlank(tag)) {
+                for (final String lang : LangFallbackUtils.fallbackLangChain(tag)) {
+                    this.register(registered, lang);
+                }
+            }
+        }
+        this.registered = registered;
+        this.closed = registered.size() > 1;
+        this.maxCachedTags = config.getMaxCachedTags();
+    }
+
+    private Language register(final Map<String, Language> registered, final String lang) {
+        return registered.computeIfAbsent(lang, key -> new Language(registered.size(), key, Collections.unmodifiableList(LangFallbackUtils.fallbackLangChain(key))));
+    }
+
+    /**
+     * @param tag language tag as sent by the client, may be null or blank
+     * @return the language, the {@link #getFallback() fallback language} for blank tags
+     */
+    public Language resolve(final String tag) {
+        if (null == tag) {
+            return this.fallback;
+        }
+        Language language = this.registered.get(tag);
+        if (null != language) {
+            return language;
+        }
+        language = this.cachedTags.get(tag);
+        if (null != language) {
+            return language;
+        }
+        language = this.canonicalize(tag);
+        // Full: keep resolving new tags without retaining them
+        if (this.cachedTags.size() < this.maxCachedTags) {
+            this.cachedTags.putIfAbsent(tag, language);
+        }
+        return language;
+    }
+
+    private Language canonicalize(final String tag) {
+        final List<String> chain = LangFallbackUtils.fallbackLangChain(tag);
+        if (!this.closed) {
+            final Language language = this.registered.get(chain.get(0));
+            return null == language ? new Language(Language.UNREGISTERED, chain.get(0), Collections.unmodifiableList(chain)) : language;
+        }
+        for (final String lang : chain) {
+            final Language language = this.registered.get(lang);
+            if (null != language) {
+                return language;
+            }
+        }
+        return this.fallback;
+    }
+
+    /**
+     * @return the language with the empty tag, whose id is 0
+     */
+    public Language getFallback() {
+        return this.fallback;
+    }
+
+    /**
+     * @return the number of registered languages, the ids range from 0 to size - 1
+     */
+    public int size() {
+        return this.registered.size();
+    }
+
+    /**
+     * @return whether languages are configured, unknown tags are then folded onto registered languages
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    /**
+     * @return the number of tags remembered besides the registered languages
+     */
+    public int getCachedTagCount() {
+        return this.cachedTags.size();
+    }
+}
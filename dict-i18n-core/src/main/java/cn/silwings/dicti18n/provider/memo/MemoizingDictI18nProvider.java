@@ -0,0 +1,113 @@
+package cn.silwings.dicti18n.provider.memo;
+
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Answers lookups from the {@link TranslationMemo} bound to the current thread and remembers the results of the
+ * lookups it forwards to the delegate. Without a bound memo every call is simply forwarded.
+ * <p>
+ * The memo is keyed by the requested language only: callers passing different default languages for the same language
+ * within one unit of work share the first result.
+ */
+public class MemoizingDictI18nProvider implements DictI18nProvider {
+
+    private final DictI18nProvider delegate;
+
+    public MemoizingDictI18nProvider(final DictI18nProvider delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Optional<String> getText(final String language, final String defaultLanguage, final String dictName, final String code) {
+        return Optional.ofNullable(this.getTextOrNull(language, defaultLanguage, dictName, code));
+    }
+
+    @Override
+    public Optional<String> getText(final String language, final String defaultLanguage, final String dictName, final long code) {
+        return Optional.ofNullable(this.getTextOrNull(language, defaultLanguage, dictName, code));
+    }
+
+    @Override
+    public String getTextOrNull(final String language, final String defaultLanguage, final String dictName, final String code) {
+        final TranslationMemo memo = TranslationMemo.current();
+        if (null == memo) {
+            return this.delegate.getTextOrNull(language, defaultLanguage, dictName, code);
+        }
+        final Optional<String> remembered = memo.get(language, dictName, code);
+        if (null != remembered) {
+            return remembered.orElse(null);
+        }
+        final String text = this.delegate.getTextOrNull(language, defaultLanguage, dictName, code);
+        memo.put(language, dictName, code, Optional.ofNullable(text));
+        return text;
+    }
+
+    @Override
+    public String getTextOrNull(final String language, final String defaultLanguage, final String dictName, final long code) {
+        final TranslationMemo memo = TranslationMemo.current();
+        if (null == memo) {
+            return this.delegate.getTextOrNull(language, defaultLanguage, dictName, code);
+        }
+        // Small codes are cached by Long.valueOf, remembering them does not allocate a key
+        final Long key = code;
+        final Optional<String> remembered = memo.get(language, dictName, key);
+        if (null != remembered) {
+            return remembered.orElse(null);
+        }
+        final String text = this.delegate.getTextOrNull(language, defaultLanguage, dictName, code);
+        memo.put(language, dictName, key, Optional.ofNullable(text));
+        return text;
+    }
+
+    /**
+     * Only the codes not remembered yet are passed on to the delegate, in a single call.
+     */
+    @Override
+    public Map<String, Map<String, String>> getTexts(final String language, final String defaultLanguage, final Map<String, ? extends Collection<String>> codesByDictName) {
+        final TranslationMemo memo = TranslationMemo.current();
+        if (null == memo) {
+            return this.delegate.getTexts(language, defaultLanguage, codesByDictName);
+        }
+
+        final Map<String, Map<String, String>> texts = new HashMap<>();
+        final Map<String, List<String>> missing = new HashMap<>();
+        codesByDictName.forEach((dictName, codes) -> {
+            for (final String code : codes) {
+                final Optional<String> text = memo.get(language, dictName, code);
+                if (null == text) {
+                    missing.computeIfAbsent(dictName, key -> new ArrayList<>()).add(code);
+                } else if (text.isPresent()) {
+                    texts.computeIfAbsent(dictName, key -> new HashMap<>()).put(code, text.get());
+                }
+            }
+        });
+        if (missing.isEmpty()) {
+            return texts;
+        }
+
+        final Map<String, Map<String, String>> resolved = this.delegate.getTexts(language, defaultLanguage, missing);
+        missing.forEach((dictName, codes) -> {
+            final Map<String, String> dictTexts = resolved.get(dictName);
+            for (final String code : codes) {
+                final String text = null == dictTexts ? null : dictTexts.get(code);
+                memo.put(language, dictName, code, Optional.ofNullable(text));
+                if (null != text) {
+                    texts.computeIfAbsent(dictName, key -> new HashMap<>()).put(code, text);
+                }
+            }
+        });
+        return texts;
+    }
+
+    @Override
+    public long getVersion() {
+        return this.delegate.getVersion();
+    }
+}
@@ -0,0 +1,89 @@
+package cn.silwings.dicti18n.provider.memo;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Texts already resolved within a unit of work such as an HTTP request, keyed by language, dictionary name and code.
+ * <p>
+ * A memo is bound to the current thread with {@link #bind()} and removed with {@link #unbind()}, typically by a servlet
+ * filter around the request. While it is bound, {@link MemoizingDictI18nProvider} answers repeated lookups from it, so
+ * the service layer, the response advice and an audit log writer resolving the same codes hit the loaders only once.
+ * Missing texts are remembered as well. A memo is only used by the thread it is bound to and is not thread-safe.
+ */
+public final class TranslationMemo {
+
+    private static final ThreadLocal<TranslationMemo> CURRENT = new ThreadLocal<>();
+
+    // language -> dictName -> code (String or Long) -> text
+    private final Map<String, Map<String, Map<Object, Optional<String>>>> texts = new HashMap<>();
+    private int size;
+
+    private TranslationMemo() {
+    }
+
+    /**
+     * Bind a new memo to the current thread unless one is bound already.
+     *
+     * @return the memo bound to the current thread
+     */
+    public static TranslationMemo bind() {
+        TranslationMemo memo = CURRENT.get();
+        if (null == memo) {
+            memo = new TranslationMemo();
+            CURRENT.set(memo);
+        }
+        return memo;
+    }
+
+    /**
+     * Remove the memo bound to the current thread, if any.
+     */
+    public static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the memo bound to the current thread, null if none is bound
+     */
+    public static TranslationMemo current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return the remembered result of the lookup, null if the lookup was not made yet
+     */
+    Optional<String> get(final String language, final String dictName, final Object code) {
+        final Map<String, Map<Object, Optional<String>>> dictTexts = this.texts.get(language);
+        if (null == dictTexts) {
+            return null;
+        }
+        final Map<Object, Optional<String>> codeTexts = dictTexts.get(dictName);
+        return null == codeTexts ? null : codeTexts.get(code);
+    }
+
+    void put(final String language, final String dictName, final Object code, final Optional<String> text) {
+        final Optional<String> previous = this.texts.computeIfAbsent(language, key -> new HashMap<>())
+                .computeIfAbsent(dictName, key -> new HashMap<>())
+                .put(code, text);
+        if (null == previous) {
+            this.size++;
+        }
+    }
+
+    /**
+     * Number of remembered lookups.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Forget all remembered texts, e.g. after the dictionaries were changed within the request.
+     */
+    public void clear() {
+        this.texts.clear();
+        this.size = 0;
+    }
+}
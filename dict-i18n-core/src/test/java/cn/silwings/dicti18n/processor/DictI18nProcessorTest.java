@@ -4,28 +4,45 @@ import cn.silwings.dicti18n.annotation.DictDesc;
 import cn.silwings.dicti18n.annotation.DictModel;
 import cn.silwings.dicti18n.config.DictI18nProperties;
 import cn.silwings.dicti18n.dict.Dict;
+import cn.silwings.dicti18n.processor.accessor.ReflectiveFieldAccessorFactory;
+import cn.silwings.dicti18n.processor.budget.BudgetExhaustedEvent;
+import cn.silwings.dicti18n.processor.plan.DictDescBinding;
+import cn.silwings.dicti18n.processor.plan.TranslationPlan;
 import cn.silwings.dicti18n.provider.DictI18nProvider;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.eq;
@@ -65,7 +82,7 @@ public class DictI18nProcessorTest {
         final List<TestModel> models = Arrays.asList(new TestModel().setOrderStatus(OrderStatus.SHIPPED.name()), new TestModel().setOrderStatus(OrderStatus.PROCESSING.name()));
         processor.process(models, "zh-CN");
 
-        verify(provider, times(2)).getText(eq("zh-CN"), any(), any(), any());
+        verify(provider, times(2)).getTextOrNull(eq("zh-CN"), any(), any(), any());
     }
 
     @Test
@@ -81,7 +98,7 @@ public class DictI18nProcessorTest {
         modelMap.put("key2", new TestModel().setOrderStatus(OrderStatus.PROCESSING.name()));
         processor.process(modelMap, "zh-CN");
 
-        verify(provider, times(2)).getText(eq("zh-CN"), any(), any(), any());
+        verify(provider, times(2)).getTextOrNull(eq("zh-CN"), any(), any(), any());
     }
 
     @Test
@@ -89,7 +106,7 @@ public class DictI18nProcessorTest {
         // 测试处理带有DictDesc注解的对象
         // Test processing object with DictDesc annotation
         final DictI18nProvider provider = mock(DictI18nProvider.class);
-        when(provider.getText(any(), any(), any(), any())).thenReturn(Optional.of("测试值"));
+        when(provider.getTextOrNull(any(), any(), any(), any())).thenReturn("测试值");
 
         final DictI18nProperties properties = new DictI18nProperties();
         final DictI18nProcessor processor = new DictI18nProcessor(provider, properties);
@@ -113,7 +130,7 @@ public class DictI18nProcessorTest {
         nestedModel.setModel(new TestModel().setOrderStatus(OrderStatus.PENDING.name()));
         processor.process(nestedModel, "zh-CN");
 
-        verify(provider, atLeastOnce()).getText(eq("zh-CN"), any(), any(), any());
+        verify(provider, atLeastOnce()).getTextOrNull(eq("zh-CN"), any(), any(), any());
     }
 
     @Test
@@ -199,6 +216,561 @@ public class DictI18nProcessorTest {
         assertTrue((boolean) shouldProcessType.invoke(processor, Map.class, 0));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTranslationPlanIsBuiltOncePerClass() throws NoSuchFieldException, IllegalAccessException {
+        // 测试每个类的翻译计划只构建一次
+        // Test translation plan is built only once per class
+        final DictI18nProcessor processor = new DictI18nProcessor(mock(DictI18nProvider.class), new DictI18nProperties());
+        final Field plansField = processor.getClass().getDeclaredField("plans");
+        plansField.setAccessible(true);
+        final ClassValue<TranslationPlan> plans = (ClassValue<TranslationPlan>) plansField.get(processor);
+
+        final TranslationPlan plan = plans.get(TestNestedModel.class);
+        assertSame(plan, plans.get(TestNestedModel.class));
+        assertTrue(plan.getDescBindings().isEmpty());
+        assertEquals(1, plan.getNestedFields().size());
+
+        final TranslationPlan modelPlan = plans.get(TestModel.class);
+        assertEquals(1, modelPlan.getDescBindings().size());
+        assertEquals("order_status", modelPlan.getDescBindings().get(0).getDictName());
+        assertEquals("orderStatus", modelPlan.getDescBindings().get(0).getBaseFieldName());
+    }
+
+    @Test
+    public void testProcessObjectWithInheritedBaseField() {
+        // 测试基础字段声明在父类中的情况
+        // Test base field declared in the superclass
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        when(provider.getTextOrNull(any(), any(), any(), any())).thenReturn("已发货");
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, new DictI18nProperties());
+
+        final InheritedDescModel model = new InheritedDescModel();
+        model.setOrderStatus(OrderStatus.SHIPPED.name());
+        processor.process(Arrays.asList(model, model), "zh-CN");
+
+        assertEquals("已发货", model.getOrderStatusDesc());
+        verify(provider, times(1)).getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("SHIPPED"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testBatchResolveCollectsDistinctCodes() {
+        // 测试批量模式下先收集去重后的编码, 再通过一次调用解析并回写
+        // Test batch mode collects distinct codes first, then resolves them with one call and writes them back
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        final Map<String, Map<String, String>> texts = new HashMap<>();
+        texts.put("order_status", new HashMap<>());
+        texts.get("order_status").put("SHIPPED", "已发货");
+        when(provider.getTexts(eq("zh-CN"), any(), any())).thenReturn(texts);
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.setBatchResolve(true);
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, properties);
+
+        final List<TestModel> models = Arrays.asList(
+                new TestModel().setOrderStatus(OrderStatus.SHIPPED.name()),
+                new TestModel().setOrderStatus(OrderStatus.SHIPPED.name()),
+                new TestModel().setOrderStatus(OrderStatus.PENDING.name()));
+        final TestNestedModel nestedModel = new TestNestedModel().setModel(new TestModel().setOrderStatus(OrderStatus.SHIPPED.name()));
+        processor.process(Arrays.asList(models.get(0), models.get(1), models.get(2), nestedModel), "zh-CN");
+
+        final ArgumentCaptor<Map<String, ? extends Collection<String>>> codes = ArgumentCaptor.forClass((Class) Map.class);
+        verify(provider, times(1)).getTexts(eq("zh-CN"), any(), codes.capture());
+        verify(provider, times(0)).getTextOrNull(any(), any(), any(), any());
+        assertEquals(1, codes.getValue().size());
+        assertEquals(Arrays.asList("SHIPPED", "PENDING"), new ArrayList<>(codes.getValue().get("order_status")));
+
+        assertEquals("已发货", models.get(0).getOrderStatusDesc());
+        assertEquals("已发货", models.get(1).getOrderStatusDesc());
+        assertEquals("已发货", nestedModel.getModel().getOrderStatusDesc());
+        // 未找到的编码按returnKeyIfEmpty回退为key
+        // Codes without text fall back to the key according to returnKeyIfEmpty
+        assertEquals("order_status.PENDING", models.get(2).getOrderStatusDesc());
+    }
+
+    @Test
+    public void testDefaultGetTextsDelegatesToGetText() {
+        // 测试getTexts默认实现逐个调用getText并忽略未找到的编码
+        // Test the default getTexts calls getText for each code and skips codes without text
+        final DictI18nProvider provider = (language, defaultLanguage, dictName, code) ->
+                "SHIPPED".equals(code) ? Optional.of("已发货") : Optional.empty();
+        final Map<String, List<String>> codes = new HashMap<>();
+        codes.put("order_status", Arrays.asList("SHIPPED", "PENDING"));
+
+        final Map<String, Map<String, String>> texts = provider.getTexts("zh-CN", "", codes);
+
+        assertEquals(1, texts.get("order_status").size());
+        assertEquals("已发货", texts.get("order_status").get("SHIPPED"));
+    }
+
+    @Test
+    public void testParallelProcessingOfLargeCollection() {
+        // 测试大集合在专用线程池中并行处理
+        // Test large collections are processed in parallel on the dedicated pool
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final DictI18nProvider provider = (language, defaultLanguage, dictName, code) -> {
+            threads.add(Thread.currentThread().getName());
+            return Optional.of("已发货");
+        };
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.getParallel().setEnabled(true);
+        properties.getParallel().setThreshold(1000);
+        properties.getParallel().setPool(DictI18nProperties.Parallel.PoolType.DEDICATED);
+        properties.getParallel().setParallelism(2);
+
+        final List<TestModel> models = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            models.add(new TestModel().setOrderStatus(OrderStatus.SHIPPED.name()));
+        }
+
+        try (DictI18nProcessor processor = new DictI18nProcessor(provider, properties)) {
+            processor.process(new TestListHolder().setModels(models), "zh-CN");
+        }
+
+        assertTrue(models.stream().allMatch(model -> "已发货".equals(model.getOrderStatusDesc())));
+        assertTrue(threads.stream().allMatch(name -> name.startsWith("dict-i18n-worker-")));
+    }
+
+    @Test
+    public void testParallelProcessingKeepsCycleDetection() {
+        // 测试并行处理时每个任务的循环检测仍然有效
+        // Test cycle detection still works within every parallel task
+        final DictI18nProvider provider = (language, defaultLanguage, dictName, code) -> Optional.of("处理中");
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.getParallel().setEnabled(true);
+        properties.getParallel().setThreshold(100);
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, properties);
+
+        final TestCyclicModel root = new TestCyclicModel();
+        root.setOrderStatus(OrderStatus.PROCESSING.name());
+        for (int i = 0; i < 3000; i++) {
+            final TestCyclicModel child = new TestCyclicModel();
+            child.setOrderStatus(OrderStatus.PROCESSING.name());
+            // 每个子节点都指回根节点
+            // Every child points back to the root
+            child.setParent(root);
+            root.getChildren().add(child);
+        }
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> processor.process(root, "zh-CN"));
+        assertEquals("处理中", root.getOrderStatusDesc());
+        assertTrue(root.getChildren().stream().allMatch(child -> "处理中".equals(child.getOrderStatusDesc())));
+    }
+
+    @Test
+    public void testParallelProcessingWithBatchResolve() {
+        // 测试并行处理与批量解析组合时只调用一次批量接口
+        // Test parallel processing combined with batch mode still resolves with a single batched call
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        final Map<String, Map<String, String>> texts = new HashMap<>();
+        texts.put("order_status", new HashMap<>());
+        texts.get("order_status").put("SHIPPED", "已发货");
+        texts.get("order_status").put("PENDING", "待处理");
+        when(provider.getTexts(eq("zh-CN"), any(), any())).thenReturn(texts);
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.setBatchResolve(true);
+        properties.getParallel().setEnabled(true);
+        properties.getParallel().setThreshold(500);
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, properties);
+
+        final List<TestModel> models = new ArrayList<>();
+        for (int i = 0; i < 4000; i++) {
+            models.add(new TestModel().setOrderStatus(i % 2 == 0 ? OrderStatus.SHIPPED.name() : OrderStatus.PENDING.name()));
+        }
+        processor.process(models, "zh-CN");
+
+        verify(provider, times(1)).getTexts(eq("zh-CN"), any(), any());
+        for (int i = 0; i < models.size(); i++) {
+            assertEquals(i % 2 == 0 ? "已发货" : "待处理", models.get(i).getOrderStatusDesc());
+        }
+    }
+
+    @Test
+    public void testWarmUpResolvesGenericReturnTypes() throws NoSuchMethodException {
+        // 测试预热时解析泛型返回类型并收集引用的字典, 且不访问字典提供者
+        // Test warm-up resolves generic return types, collects the referenced dictionaries and does not touch the provider
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, new DictI18nProperties());
+
+        final Method method = DictI18nProcessorTest.class.getDeclaredMethod("warmUpSample");
+        assertEquals(Collections.singleton("order_status"), processor.warmUp(method.getGenericReturnType()));
+        assertTrue(processor.warmUp(TestPage.class).isEmpty());
+        assertTrue(processor.warmUp(String.class).isEmpty());
+        verifyNoInteractions(provider);
+
+        // 预热后的处理结果不变
+        // Processing after warm-up gives the same result
+        when(provider.getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("SHIPPED"))).thenReturn("已发货");
+        final TestPage<TestModel> page = new TestPage<>();
+        page.setRows(Arrays.asList(new TestModel().setOrderStatus(OrderStatus.SHIPPED.name())));
+        processor.process(page, "zh-CN");
+        assertEquals("已发货", page.getRows().get(0).getOrderStatusDesc());
+    }
+
+    @Test
+    public void testTranslateDoesNotModifyTarget() {
+        // 测试translate返回与process相同的描述且不修改对象
+        // Test translate returns the description process would write without modifying the object
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        when(provider.getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("SHIPPED"))).thenReturn("已发货");
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, new DictI18nProperties());
+
+        final TestModel model = new TestModel().setOrderStatus(OrderStatus.SHIPPED.name());
+        final TranslationPlan plan = processor.getPlan(TestModel.class);
+        assertEquals(Optional.of("已发货"), processor.translate(model, plan.getDescBindings().get(0), "zh-CN"));
+        assertEquals(Optional.of("order_status.PENDING"), processor.translate(new TestModel().setOrderStatus(OrderStatus.PENDING.name()), plan.getDescBindings().get(0), "zh-CN"));
+        assertEquals(Optional.empty(), processor.translate(new TestModel(), plan.getDescBindings().get(0), "zh-CN"));
+        assertNull(model.getOrderStatusDesc());
+    }
+
+    @Test
+    public void testSkipsLazyAssociationsThatAreNotLoaded() {
+        // 测试跳过未加载的延迟关联对象和集合, 并统计跳过的数量
+        // Test lazy proxies and collections that are not loaded are skipped and counted
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        when(provider.getTextOrNull(any(), any(), eq("order_status"), eq("SHIPPED"))).thenReturn("已发货");
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, new DictI18nProperties(), new ReflectiveFieldAccessorFactory(), value -> !(value instanceof LazyProxy));
+
+        final TestModel loaded = new TestModel().setOrderStatus(OrderStatus.SHIPPED.name());
+        final TestModel proxied = new LazyTestModel().setOrderStatus(OrderStatus.SHIPPED.name());
+        final LazyList<TestModel> lazyModels = new LazyList<>();
+        lazyModels.add(new TestModel().setOrderStatus(OrderStatus.SHIPPED.name()));
+
+        processor.process(new TestListHolder().setModels(Arrays.asList(loaded, proxied)), "zh-CN");
+        processor.process(new TestListHolder().setModels(lazyModels), "zh-CN");
+        processor.process(lazyModels, "zh-CN");
+
+        assertEquals("已发货", loaded.getOrderStatusDesc());
+        assertNull(proxied.getOrderStatusDesc());
+        assertNull(lazyModels.get(0).getOrderStatusDesc());
+        assertEquals(3, processor.getSkippedLazyAssociations());
+    }
+
+    @Test
+    public void testLookupBudgetStopsTranslation() {
+        // 测试查询次数预算耗尽后停止翻译并发布事件
+        // Test translation stops once the lookup budget is exhausted and an event is emitted
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        when(provider.getTextOrNull(any(), any(), eq("order_status"), eq("SHIPPED"))).thenReturn("已发货");
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.getBudget().setMaxLookups(2);
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, properties);
+        final List<BudgetExhaustedEvent> events = new ArrayList<>();
+        processor.addBudgetExhaustedListener(events::add);
+
+        final List<TestModel> models = this.newShippedModels(5);
+        processor.process(new TestListHolder().setModels(models), "zh-CN");
+
+        assertEquals(Arrays.asList("已发货", "已发货", null, null, null), models.stream().map(TestModel::getOrderStatusDesc).collect(Collectors.toList()));
+        verify(provider, times(2)).getTextOrNull(any(), any(), any(), any());
+        assertEquals(1, events.size());
+        assertEquals(BudgetExhaustedEvent.Reason.MAX_LOOKUPS, events.get(0).getReason());
+        assertSame(TestListHolder.class, events.get(0).getRootType());
+        assertEquals(1, processor.getBudgetExhaustions());
+    }
+
+    @Test
+    public void testObjectBudgetFillsKeys() {
+        // 测试对象数量预算耗尽后剩余描述字段填充字典键
+        // Test the remaining desc fields are filled with the dictionary key once the object budget is exhausted
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        when(provider.getTextOrNull(any(), any(), eq("order_status"), eq("SHIPPED"))).thenReturn("已发货");
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.getBudget().setMaxObjects(3);
+        properties.getBudget().setFillKeyOnExhaustion(true);
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, properties);
+
+        final List<TestModel> models = this.newShippedModels(5);
+        processor.process(models, "zh-CN");
+
+        assertEquals(Arrays.asList("已发货", "已发货", "已发货", "order_status.SHIPPED", "order_status.SHIPPED"), models.stream().map(TestModel::getOrderStatusDesc).collect(Collectors.toList()));
+        verify(provider, times(3)).getTextOrNull(any(), any(), any(), any());
+    }
+
+    @Test
+    public void testDeadlineStopsTranslation() {
+        // 测试超过时间预算后停止翻译
+        // Test translation stops once the deadline has passed
+        final DictI18nProvider provider = (language, defaultLanguage, dictName, code) -> {
+            try {
+                Thread.sleep(30);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Optional.of("已发货");
+        };
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.getBudget().setTimeoutMillis(10);
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, properties);
+        final List<BudgetExhaustedEvent> events = new ArrayList<>();
+        processor.addBudgetExhaustedListener(events::add);
+
+        final List<TestModel> models = this.newShippedModels(5);
+        processor.process(models, "zh-CN");
+
+        assertEquals("已发货", models.get(0).getOrderStatusDesc());
+        assertNull(models.get(4).getOrderStatusDesc());
+        assertEquals(BudgetExhaustedEvent.Reason.DEADLINE, events.get(0).getReason());
+    }
+
+    @Test
+    public void testWarmTraversalDoesNotAllocate() {
+        // 测试预热后的遍历对每个翻译对象几乎不分配内存
+        // Test a warm traversal allocates next to nothing per translated object
+        final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported());
+        final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threadBean;
+
+        final Optional<String> text = Optional.of("处理中");
+        final DictI18nProcessor processor = new DictI18nProcessor((language, defaultLanguage, dictName, code) -> text, new DictI18nProperties());
+        final List<TestCyclicModel> roots = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final TestCyclicModel root = new TestCyclicModel();
+            root.setOrderStatus(OrderStatus.PROCESSING.name());
+            for (int j = 0; j < 4; j++) {
+                final TestCyclicModel child = new TestCyclicModel();
+                child.setOrderStatus(OrderStatus.PROCESSING.name());
+                child.setParent(root);
+                root.getChildren().add(child);
+            }
+            roots.add(root);
+        }
+        final int objects = roots.size() * 5;
+
+        for (int i = 0; i < 500; i++) {
+            processor.process(roots, "zh-CN");
+        }
+        final long threadId = Thread.currentThread().getId();
+        final int rounds = 100;
+        final long before = allocations.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < rounds; i++) {
+            processor.process(roots, "zh-CN");
+        }
+        final long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+
+        final double bytesPerObject = (double) allocated / (rounds * objects);
+        log.info("[DictI18n] Allocated {} bytes for {} translated objects, {} bytes per object", allocated, rounds * objects, bytesPerObject);
+        assertEquals("处理中", roots.get(0).getChildren().get(0).getOrderStatusDesc());
+        assertTrue(bytesPerObject < 1.0, "allocated " + bytesPerObject + " bytes per translated object");
+    }
+
+    @Test
+    public void testResolvesDeclaredElementTypes() {
+        // 测试从字段的泛型声明解析集合元素类型
+        // Test the element types of collection fields are resolved from their generic declaration
+        final DictI18nProcessor processor = new DictI18nProcessor(mock(DictI18nProvider.class), new DictI18nProperties());
+
+        final Map<String, Class<?>> elementTypes = new HashMap<>();
+        processor.getPlan(TestElementTypesModel.class).getNestedFields().forEach(field -> elementTypes.put(field.getFieldName(), field.getElementType()));
+
+        assertEquals(String.class, elementTypes.get("tags"));
+        assertEquals(TestModel.class, elementTypes.get("models"));
+        assertEquals(TestModel.class, elementTypes.get("modelsByCode"));
+        assertEquals(TestModel.class, elementTypes.get("wildcardModels"));
+        assertNull(elementTypes.get("countingTags"));
+    }
+
+    @Test
+    public void testSkipsCollectionsOfBasicTypesWithoutIterating() {
+        // 测试声明为基础类型元素的集合不会被遍历
+        // Test collections declared with basic element types are not iterated at all
+        final DictI18nProvider provider = (language, defaultLanguage, dictName, code) -> Optional.of("已发货");
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, new DictI18nProperties());
+
+        final CountingList<String> tags = new CountingList<>();
+        tags.add("a");
+        tags.add("b");
+        final TestElementTypesModel model = new TestElementTypesModel();
+        model.setTags(tags);
+        model.setModels(this.newShippedModels(2));
+        processor.process(model, "zh-CN");
+
+        assertEquals(0, tags.reads);
+        assertEquals("已发货", model.getModels().get(1).getOrderStatusDesc());
+    }
+
+    @Test
+    public void testPlannedListFallsBackForOtherElementClasses() {
+        // 测试按首元素类型处理的列表中, 其他类型的元素仍被正确翻译
+        // Test elements of another class than the first element are still translated in a list walked with the first element's plan
+        final DictI18nProvider provider = (language, defaultLanguage, dictName, code) -> Optional.of("已发货");
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, new DictI18nProperties());
+
+        final TestModel first = new TestModel().setOrderStatus(OrderStatus.SHIPPED.name());
+        final InheritedDescModel inherited = new InheritedDescModel();
+        inherited.setOrderStatus(OrderStatus.SHIPPED.name());
+        final TestNestedModel nested = new TestNestedModel().setModel(new TestModel().setOrderStatus(OrderStatus.SHIPPED.name()));
+        final List<Object> elements = new ArrayList<>(Arrays.asList(first, "text", null, inherited, nested, first));
+
+        processor.process(elements, "zh-CN");
+
+        assertEquals("已发货", first.getOrderStatusDesc());
+        assertEquals("已发货", inherited.getOrderStatusDesc());
+        assertEquals("已发货", nested.getModel().getOrderStatusDesc());
+    }
+
+    @Test
+    public void testStrictModeOnlyTraversesAllowedTypes() {
+        // 测试严格模式只遍历允许的类型, 未标注且不在包含包内的包装类不会被下钻
+        // Test strict mode only traverses allowed types, unannotated wrappers outside the included packages are not descended into
+        final DictI18nProvider provider = (language, defaultLanguage, dictName, code) -> Optional.of("已发货");
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.getStrict().setEnabled(true);
+
+        final TestWrapper wrapper = new TestWrapper().setNested(new TestNestedModel().setModel(new TestModel().setOrderStatus(OrderStatus.SHIPPED.name())));
+        final List<TestModel> models = this.newShippedModels(2);
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, properties);
+        processor.process(wrapper, "zh-CN");
+        processor.process(models, "zh-CN");
+
+        assertNull(wrapper.getNested().getModel().getOrderStatusDesc());
+        assertEquals("已发货", models.get(0).getOrderStatusDesc());
+
+        properties.getStrict().setIncludePackages(Collections.singletonList("cn.silwings.dicti18n.processor"));
+        new DictI18nProcessor(provider, properties).process(wrapper, "zh-CN");
+
+        assertEquals("已发货", wrapper.getNested().getModel().getOrderStatusDesc());
+    }
+
+    @Test
+    public void testStrictModeTraversesIterableContainers() {
+        // 测试严格模式下未标注的可迭代容器(如Page)的内容仍会被翻译
+        // Test strict mode still translates the content of unannotated iterable containers (e.g. Page)
+        final DictI18nProvider provider = (language, defaultLanguage, dictName, code) -> Optional.of("已发货");
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.getStrict().setEnabled(true);
+        final TestIterablePage page = new TestIterablePage().setContent(this.newShippedModels(2));
+
+        new DictI18nProcessor(provider, properties).process(page, "zh-CN");
+
+        assertEquals("已发货", page.getContent().get(0).getOrderStatusDesc());
+        assertEquals("已发货", page.getContent().get(1).getOrderStatusDesc());
+    }
+
+    @Test
+    public void testTranslatesIntegralCodes() {
+        // 测试整数类型的字典编码通过数值接口查找, 批量模式下以十进制字符串查找
+        // Test integral dictionary codes are looked up through the numeric method, and by their decimal form in batch mode
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        when(provider.getTextOrNull(eq("zh-CN"), any(), eq("user_status"), eq(1L))).thenReturn("启用");
+        when(provider.getTextOrNull(eq("zh-CN"), any(), eq("user_status"), eq(0L))).thenReturn("停用");
+        final DictI18nProperties properties = new DictI18nProperties();
+
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, properties);
+        final TestNumericModel model = new TestNumericModel().setStatus(1).setLevel(0);
+        processor.process(model, "zh-CN");
+
+        assertEquals("启用", model.getStatusDesc());
+        assertEquals("停用", model.getLevelDesc());
+        final DictDescBinding levelBinding = processor.getPlan(TestNumericModel.class).getDescBindings().get(1);
+        assertEquals("user_status.404", processor.translate(new TestNumericModel().setLevel(404), levelBinding, "zh-CN").orElse(null));
+        verify(provider, times(0)).getTextOrNull(any(), any(), any(), any(String.class));
+
+        final Map<String, Map<String, String>> texts = Collections.singletonMap("user_status", Collections.singletonMap("1", "启用"));
+        when(provider.getTexts(eq("zh-CN"), any(), any())).thenReturn(texts);
+        properties.setBatchResolve(true);
+        final TestNumericModel batched = new TestNumericModel().setStatus(1);
+        new DictI18nProcessor(provider, properties).process(batched, "zh-CN");
+
+        assertEquals("启用", batched.getStatusDesc());
+    }
+
+    @Test
+    public void testProcessAllResolvesEveryLanguageInOneWalk() {
+        // 测试一次遍历翻译多种语言, 每种语言只批量查询一次, Map类型的描述字段接收所有语言的文本
+        // Test one walk translates into several languages with one batch lookup per language, Map desc fields receive the texts of all languages
+        final DictI18nProvider provider = mock(DictI18nProvider.class);
+        when(provider.getTexts(eq("zh-CN"), any(), any())).thenReturn(Collections.singletonMap("order_status", Collections.singletonMap("SHIPPED", "已发货")));
+        when(provider.getTexts(eq("en-US"), any(), any())).thenReturn(Collections.singletonMap("order_status", Collections.singletonMap("SHIPPED", "Shipped")));
+        final DictI18nProcessor processor = new DictI18nProcessor(provider, new DictI18nProperties());
+
+        final List<TestModel> models = this.newShippedModels(3);
+        final TestLanguageMapModel mapModel = new TestLanguageMapModel().setOrderStatus(OrderStatus.SHIPPED.name());
+        final List<Object> body = new ArrayList<>(models);
+        body.add(mapModel);
+
+        final MultiLanguageTranslation translation = processor.processAll(body, Arrays.asList("zh-CN", "en-US", "zh-CN"));
+
+        assertEquals(Arrays.asList("zh-CN", "en-US"), new ArrayList<>(translation.getLanguages()));
+        assertEquals(4, translation.size());
+        assertNull(models.get(0).getOrderStatusDesc());
+        assertEquals("已发货", mapModel.getOrderStatusDesc().get("zh-CN"));
+        assertEquals("Shipped", mapModel.getOrderStatusDesc().get("en-US"));
+        verify(provider, times(1)).getTexts(eq("zh-CN"), any(), any());
+        verify(provider, times(1)).getTexts(eq("en-US"), any(), any());
+
+        translation.apply("en-US");
+        assertTrue(models.stream().allMatch(model -> "Shipped".equals(model.getOrderStatusDesc())));
+        translation.apply("zh-CN");
+        assertTrue(models.stream().allMatch(model -> "已发货".equals(model.getOrderStatusDesc())));
+        assertEquals("Shipped", translation.getTexts("en-US").get("order_status").get("SHIPPED"));
+        assertThrows(IllegalArgumentException.class, () -> translation.apply("fr-FR"));
+        verify(provider, times(0)).getTextOrNull(any(), any(), any(), any(String.class));
+
+        // 测试单语言翻译不修改Map类型的描述字段
+        // Test translating into a single language leaves Map desc fields untouched
+        final TestLanguageMapModel untouched = new TestLanguageMapModel().setOrderStatus(OrderStatus.SHIPPED.name());
+        processor.process(untouched, "zh-CN");
+        assertNull(untouched.getOrderStatusDesc());
+    }
+
+    private List<TestModel> newShippedModels(final int size) {
+        final List<TestModel> models = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            models.add(new TestModel().setOrderStatus(OrderStatus.SHIPPED.name()));
+        }
+        return models;
+    }
+
+    private Map<String, TestPage<TestModel>> warmUpSample() {
+        return null;
+    }
+
+    interface LazyProxy {
+    }
+
+    static class LazyTestModel extends TestModel implements LazyProxy {
+    }
+
+    static class LazyList<E> extends ArrayList<E> implements LazyProxy {
+        @Override
+        public Iterator<E> iterator() {
+            throw new IllegalStateException("lazy collection must not be initialized");
+        }
+    }
+
+    static class CountingList<E> extends ArrayList<E> {
+        int reads;
+
+        @Override
+        public E get(final int index) {
+            this.reads++;
+            return super.get(index);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            this.reads++;
+            return super.iterator();
+        }
+    }
+
+    @Getter
+    @Setter
+    static class TestElementTypesModel {
+        private List<String> tags;
+        private List<TestModel> models;
+        private Map<String, TestModel> modelsByCode;
+        private Set<? extends TestModel> wildcardModels;
+        private CountingList<String> countingTags;
+    }
+
+    @Getter
+    @Setter
+    static class TestPage<T> {
+        private List<T> rows;
+    }
+
     @DictModel
     @Getter
     @Setter
@@ -211,6 +783,48 @@ public class DictI18nProcessorTest {
         private String orderStatusDesc;
     }
 
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class TestLanguageMapModel {
+
+        private String orderStatus;
+
+        @DictDesc(value = OrderStatus.class)
+        private Map<String, String> orderStatusDesc;
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class TestNumericModel {
+
+        private Integer status;
+
+        @DictDesc(value = UserStatus.class)
+        private String statusDesc;
+
+        private int level;
+
+        @DictDesc(value = UserStatus.class)
+        private String levelDesc;
+    }
+
+    public enum UserStatus implements Dict {
+        DISABLED,
+        ENABLED;
+
+        @Override
+        public String dictName() {
+            return "user_status";
+        }
+
+        @Override
+        public String code() {
+            return String.valueOf(this.ordinal());
+        }
+    }
+
     public enum OrderStatus implements Dict {
         PENDING,
         PROCESSING,
@@ -237,6 +851,45 @@ public class DictI18nProcessorTest {
         private TestModel model;
     }
 
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class TestWrapper {
+        private TestNestedModel nested;
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class TestIterablePage implements Iterable<TestModel> {
+        private List<TestModel> content;
+
+        @Override
+        public Iterator<TestModel> iterator() {
+            return this.content.iterator();
+        }
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class TestListHolder {
+        private List<TestModel> models;
+    }
+
+    @Getter
+    @Setter
+    static class TestCyclicModel {
+        private String orderStatus;
+
+        @DictDesc(value = OrderStatus.class)
+        private String orderStatusDesc;
+
+        private TestCyclicModel parent;
+
+        private List<TestCyclicModel> children = new ArrayList<>();
+    }
+
     @Getter
     @Setter
     @Accessors(chain = true)
@@ -257,4 +910,11 @@ public class DictI18nProcessorTest {
     static class ChildModel extends ParentModel {
         private String childField;
     }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class InheritedDescModel extends TestModel {
+        private static final String CONSTANT = "ignored";
+    }
 }
@@ -0,0 +1,148 @@
+package cn.silwings.dicti18n.processor.accessor;
+
+import cn.silwings.dicti18n.annotation.DictDesc;
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.dict.Dict;
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 比较反射访问与Lambda访问处理大型List&lt;OrderVO&gt;的耗时
+ * Compare reflective and lambda field access when processing a large List&lt;OrderVO&gt;
+ * <p>
+ * Run with: mvn test -pl dict-i18n-core -Dtest=FieldAccessorBenchmark -Ddict-i18n.benchmark=true
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "dict-i18n.benchmark", matches = "true")
+public class FieldAccessorBenchmark {
+
+    private static final int ROWS = 50_000;
+    private static final int WARMUP_ROUNDS = 20;
+    private static final int MEASURE_ROUNDS = 20;
+
+    @Test
+    public void benchmarkOrderList() {
+        final DictI18nProvider provider = (language, defaultLanguage, dictName, code) -> Optional.of(code);
+        final DictI18nProcessor reflective = new DictI18nProcessor(provider, new DictI18nProperties(), new ReflectiveFieldAccessorFactory());
+        final DictI18nProcessor lambda = new DictI18nProcessor(provider, new DictI18nProperties(), new LambdaFieldAccessorFactory());
+
+        final List<OrderVO> orders = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            final OrderVO order = new OrderVO();
+            order.setOrderStatus(OrderStatus.values()[i % OrderStatus.values().length].code());
+            order.setPaymentType(i % 2 == 0 ? "alipay" : "wechat");
+            order.setAddress(new AddressVO());
+            order.getAddress().setRegionType("city");
+            orders.add(order);
+        }
+
+        // Both processors share the call sites of the walk: warm up and measure them alternately, swapping the order
+        // every round, so that neither runs on a profile built by the other alone
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            reflective.process(orders, "zh-CN");
+            lambda.process(orders, "zh-CN");
+        }
+        long reflectiveNanos = 0L;
+        long lambdaNanos = 0L;
+        for (int i = 0; i < MEASURE_ROUNDS; i++) {
+            if (i % 2 == 0) {
+                reflectiveNanos += measure(reflective, orders);
+                lambdaNanos += measure(lambda, orders);
+            } else {
+                lambdaNanos += measure(lambda, orders);
+                reflectiveNanos += measure(reflective, orders);
+            }
+        }
+
+        log.info("[DictI18n] {} rows, reflective: {} ms/op, lambda: {} ms/op, speedup: {}x",
+                ROWS,
+                String.format("%.2f", reflectiveNanos / MEASURE_ROUNDS / 1_000_000.0),
+                String.format("%.2f", lambdaNanos / MEASURE_ROUNDS / 1_000_000.0),
+                String.format("%.2f", (double) reflectiveNanos / lambdaNanos));
+    }
+
+    private static long measure(final DictI18nProcessor processor, final List<OrderVO> orders) {
+        final long start = System.nanoTime();
+        processor.process(orders, "zh-CN");
+        return System.nanoTime() - start;
+    }
+
+    @Getter
+    @Setter
+    public static class OrderVO {
+        private String orderStatus;
+
+        @DictDesc(OrderStatus.class)
+        private String orderStatusDesc;
+
+        @DictDesc(value = OrderStatus.class, field = "orderStatus")
+        private String status;
+
+        private String paymentType;
+
+        @DictDesc(PaymentType.class)
+        private String paymentTypeDesc;
+
+        private AddressVO address;
+    }
+
+    @Getter
+    @Setter
+    public static class AddressVO {
+        private String regionType;
+
+        @DictDesc(RegionType.class)
+        private String regionTypeDesc;
+    }
+
+    public enum OrderStatus implements Dict {
+        PENDING, PAID, SHIPPED, DELIVERED;
+
+        @Override
+        public String dictName() {
+            return "order_status";
+        }
+
+        @Override
+        public String code() {
+            return this.name();
+        }
+    }
+
+    public enum PaymentType implements Dict {
+        ALIPAY, WECHAT;
+
+        @Override
+        public String dictName() {
+            return "payment_type";
+        }
+
+        @Override
+        public String code() {
+            return this.name().toLowerCase();
+        }
+    }
+
+    public enum RegionType implements Dict {
+        CITY;
+
+        @Override
+        public String dictName() {
+            return "region_type";
+        }
+
+        @Override
+        public String code() {
+            return this.name().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package cn.silwings.dicti18n.processor.accessor;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 测试LambdaFieldAccessorFactory类中的方法
+ * Test methods in LambdaFieldAccessorFactory class
+ */
+public class LambdaFieldAccessorFactoryTest {
+
+    private final LambdaFieldAccessorFactory factory = new LambdaFieldAccessorFactory();
+
+    @Test
+    public void testLombokAccessorsAreBoundThroughLambda() throws Exception {
+        // 测试Lombok生成的getter/setter通过LambdaMetafactory绑定
+        // Test Lombok generated getter/setter are bound through LambdaMetafactory
+        final Field statusField = field(PublicBean.class, "status");
+        final Field statusDescField = field(PublicBean.class, "statusDesc");
+
+        final FieldGetter getter = this.factory.createGetter(statusField);
+        final FieldSetter setter = this.factory.createSetter(statusDescField);
+        assertTrue(isLambda(getter));
+        assertTrue(isLambda(setter));
+
+        final PublicBean bean = new PublicBean().setStatus("paid");
+        assertEquals("paid", getter.get(bean));
+        setter.set(bean, "Paid");
+        assertEquals("Paid", bean.getStatusDesc());
+    }
+
+    @Test
+    public void testPrimitiveGetterIsBoxed() throws Exception {
+        // 测试基本类型getter返回装箱值
+        // Test primitive getter returns boxed value
+        final FieldGetter getter = this.factory.createGetter(field(PublicBean.class, "count"));
+        assertEquals(3, getter.get(new PublicBean().setCount(3)));
+    }
+
+    @Test
+    public void testFieldWithoutAccessorsFallsBackToMethodHandle() throws Exception {
+        // 测试没有getter/setter的字段回退到MethodHandle
+        // Test field without getter/setter falls back to MethodHandle
+        final Field hiddenField = field(PublicBean.class, "hidden");
+        final FieldGetter getter = this.factory.createGetter(hiddenField);
+        final FieldSetter setter = this.factory.createSetter(hiddenField);
+        assertFalse(isLambda(getter));
+
+        final PublicBean bean = new PublicBean();
+        setter.set(bean, "value");
+        assertEquals("value", getter.get(bean));
+    }
+
+    @Test
+    public void testNonPublicClassFallsBackToMethodHandle() throws Exception {
+        // 测试非public类回退到MethodHandle
+        // Test non-public class falls back to MethodHandle
+        final Field nameField = field(PackagePrivateBean.class, "name");
+        final FieldGetter getter = this.factory.createGetter(nameField);
+        assertFalse(isLambda(getter));
+
+        final PackagePrivateBean bean = new PackagePrivateBean();
+        bean.setName("name");
+        assertEquals("name", getter.get(bean));
+    }
+
+    @Test
+    public void testFinalFieldSetterFallsBackToReflection() throws Exception {
+        // 测试final字段的setter回退到反射
+        // Test setter of final field falls back to reflection
+        final FieldSetter setter = this.factory.createSetter(field(PublicBean.class, "constant"));
+        final PublicBean bean = new PublicBean();
+        setter.set(bean, "changed");
+        assertEquals("changed", field(PublicBean.class, "constant").get(bean));
+    }
+
+    private static Field field(final Class<?> clazz, final String name) throws NoSuchFieldException {
+        final Field field = clazz.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+    private static boolean isLambda(final Object accessor) {
+        return accessor.getClass().isSynthetic() || accessor.getClass().getName().contains("$$Lambda");
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    public static class PublicBean {
+        private String status;
+        private String statusDesc;
+        private int count;
+        @Getter(lombok.AccessLevel.NONE)
+        @Setter(lombok.AccessLevel.NONE)
+        private String hidden;
+        @Setter(lombok.AccessLevel.NONE)
+        private final String constant = new String("constant");
+    }
+
+    @Getter
+    @Setter
+    static class PackagePrivateBean {
+        private String name;
+    }
+}
@@ -0,0 +1,147 @@
+package cn.silwings.dicti18n.processor.cost;
+
+import cn.silwings.dicti18n.annotation.DictDesc;
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.dict.Dict;
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 测试TranslationCostAnalyzer类中的方法
+ * Test methods in TranslationCostAnalyzer class
+ */
+public class TranslationCostAnalyzerTest {
+
+    private final DictI18nProvider provider = (language, defaultLanguage, dictName, code) -> Optional.of("已支付");
+
+    @Test
+    public void testReportsCostPerRootType() {
+        // 测试采样的调用按根类型汇总访问对象数, 字段数, 查找次数与不含@DictDesc的子树
+        // Test sampled calls are aggregated per root type with visited objects, fields, lookups and subtrees without @DictDesc
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.getCostAnalysis().setEnabled(true);
+        properties.getCostAnalysis().setSampleRate(1);
+        final DictI18nProcessor processor = new DictI18nProcessor(this.provider, properties);
+
+        processor.process(this.newPage(), "zh-CN");
+        processor.process(this.newPage(), "zh-CN");
+
+        final List<TypeCostReport> reports = processor.getCostAnalyzer().getReports();
+        assertEquals(1, reports.size());
+        final TypeCostReport report = reports.get(0);
+        assertEquals(CostPage.class.getName(), report.getRootType());
+        assertEquals(2, report.getSampledCalls());
+        // page, 2 orders and meta, tags have nothing to translate and are skipped without being visited
+        assertEquals(4, report.getAverageObjects(), 0.001);
+        assertEquals(2, report.getAverageLookups(), 0.001);
+        // the subtree of meta held no desc field
+        assertEquals(1, report.getAverageEmptySubtrees(), 0.001);
+        assertTrue(report.getAverageMillis() >= 0);
+
+        final Map<String, NestedTypeCost> nestedTypes = report.getNestedTypes().stream().collect(Collectors.toMap(NestedTypeCost::getType, Function.identity()));
+        assertEquals(4, nestedTypes.get(CostOrder.class.getName()).getVisits());
+        assertEquals(NestedTypeCost.Suggestion.DICT_MODEL, nestedTypes.get(CostOrder.class.getName()).getSuggestion());
+        assertEquals(NestedTypeCost.Suggestion.EXCLUDE, nestedTypes.get(CostMeta.class.getName()).getSuggestion());
+
+        processor.getCostAnalyzer().reset();
+        assertTrue(processor.getCostAnalyzer().getReports().isEmpty());
+    }
+
+    @Test
+    public void testSamplesNothingWhenDisabled() {
+        // 测试未启用时不采样
+        // Test nothing is sampled while the analysis is disabled
+        final DictI18nProperties properties = new DictI18nProperties();
+        properties.getCostAnalysis().setSampleRate(1);
+        final DictI18nProcessor processor = new DictI18nProcessor(this.provider, properties);
+
+        processor.process(this.newPage(), "zh-CN");
+
+        assertNull(processor.getCostAnalyzer().startSample(CostPage.class));
+        assertTrue(processor.getCostAnalyzer().getReports().isEmpty());
+    }
+
+    @Test
+    public void testLimitsTrackedRootTypes() {
+        // 测试超过最大根类型数量后新类型的样本被丢弃
+        // Test samples of new root types are dropped once the maximum number of root types is tracked
+        final DictI18nProperties.CostAnalysis config = new DictI18nProperties.CostAnalysis();
+        config.setEnabled(true);
+        config.setSampleRate(1);
+        config.setMaxRootTypes(1);
+        final TranslationCostAnalyzer analyzer = new TranslationCostAnalyzer(config);
+
+        analyzer.record(analyzer.startSample(CostPage.class));
+        analyzer.record(analyzer.startSample(CostOrder.class));
+        analyzer.record(analyzer.startSample(CostPage.class));
+
+        assertEquals(1, analyzer.getReports().size());
+        assertEquals(2, analyzer.getReports().get(0).getSampledCalls());
+    }
+
+    private CostPage newPage() {
+        return new CostPage()
+                .setOrders(Arrays.asList(new CostOrder().setStatus("PAID"), new CostOrder().setStatus("PAID")))
+                .setMeta(new CostMeta().setExtras(new ArrayList<>(Arrays.asList(new CostTag()))));
+    }
+
+    public enum PayStatus implements Dict {
+        PAID;
+
+        @Override
+        public String dictName() {
+            return "pay_status";
+        }
+
+        @Override
+        public String code() {
+            return this.name();
+        }
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class CostPage {
+        private List<CostOrder> orders;
+        private CostMeta meta;
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class CostOrder {
+        private String status;
+        @DictDesc(PayStatus.class)
+        private String statusDesc;
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class CostMeta {
+        private List<CostTag> extras;
+    }
+
+    @Getter
+    @Setter
+    static class CostTag {
+        private String name;
+    }
+}
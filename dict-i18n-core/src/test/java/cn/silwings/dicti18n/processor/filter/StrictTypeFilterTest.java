@@ -0,0 +1,121 @@
+package cn.silwings.dicti18n.processor.filter;
+
+import cn.silwings.dicti18n.annotation.DictDesc;
+import cn.silwings.dicti18n.annotation.DictModel;
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.dict.Dict;
+import org.junit.jupiter.api.Test;
+
+import javax.net.SocketFactory;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 测试StrictTypeFilter类中的方法
+ * Test methods in StrictTypeFilter class
+ */
+public class StrictTypeFilterTest {
+
+    @Test
+    public void testBuiltInExclusions() {
+        // 测试内置排除的包不会被遍历, 集合与Map始终被遍历
+        // Test the built-in excluded packages are never traversed while collections and maps always are
+        final StrictTypeFilter filter = new StrictTypeFilter(new DictI18nProperties.Strict());
+
+        assertFalse(filter.isTraversable(LocalDateTime.class));
+        assertFalse(filter.isTraversable(Optional.class));
+        assertFalse(filter.isTraversable(SocketFactory.class));
+        assertTrue(filter.isTraversable(ArrayList.class));
+        assertTrue(filter.isTraversable(HashMap.class));
+    }
+
+    @Test
+    public void testAnnotatedAndDeclaringClassesAreTraversed() {
+        // 测试标注@DictModel或声明@DictDesc字段的类被遍历, 其他类不被遍历
+        // Test classes annotated with @DictModel or declaring @DictDesc fields are traversed, other classes are not
+        final StrictTypeFilter filter = new StrictTypeFilter(new DictI18nProperties.Strict());
+
+        assertTrue(filter.isTraversable(AnnotatedModel.class));
+        assertTrue(filter.isTraversable(DeclaringModel.class));
+        assertTrue(filter.isTraversable(InheritingModel.class));
+        assertFalse(filter.isTraversable(PlainWrapper.class));
+    }
+
+    @Test
+    public void testIncludeAndExcludePackages() {
+        // 测试包含与排除的包配置, 排除优先于包含, @DictModel优先于排除
+        // Test included and excluded packages, exclusion wins over inclusion and @DictModel wins over exclusion
+        final DictI18nProperties.Strict config = new DictI18nProperties.Strict();
+        config.setIncludePackages(Arrays.asList("cn.silwings.dicti18n.processor.*"));
+        assertTrue(new StrictTypeFilter(config).isTraversable(PlainWrapper.class));
+
+        config.setExcludePackages(Arrays.asList("cn.silwings.dicti18n.processor.filter"));
+        final StrictTypeFilter filter = new StrictTypeFilter(config);
+        assertFalse(filter.isTraversable(PlainWrapper.class));
+        assertFalse(filter.isTraversable(DeclaringModel.class));
+        assertTrue(filter.isTraversable(AnnotatedModel.class));
+    }
+
+    @Test
+    public void testIterableContainersAreTraversed() {
+        // 测试JDK之外的可迭代容器(如Page)与集合一样被遍历, 即使位于排除的包中, JDK的可迭代类型不被遍历
+        // Test iterable containers outside the JDK (e.g. Page) are traversed like collections even in excluded packages, JDK iterables are not
+        final DictI18nProperties.Strict config = new DictI18nProperties.Strict();
+        config.setExcludePackages(Arrays.asList("cn.silwings.dicti18n.processor.filter"));
+        final StrictTypeFilter filter = new StrictTypeFilter(config);
+
+        assertTrue(filter.isTraversable(ModelPage.class));
+        assertFalse(filter.isTraversable(Path.class));
+    }
+
+    public enum Status implements Dict {
+        ACTIVE;
+
+        @Override
+        public String dictName() {
+            return "status";
+        }
+
+        @Override
+        public String code() {
+            return this.name();
+        }
+    }
+
+    @DictModel
+    static class AnnotatedModel {
+        private PlainWrapper wrapper;
+    }
+
+    static class DeclaringModel {
+        private String status;
+
+        @DictDesc(Status.class)
+        private String statusDesc;
+    }
+
+    static class InheritingModel extends DeclaringModel {
+    }
+
+    static class PlainWrapper {
+        private DeclaringModel model;
+    }
+
+    static class ModelPage implements Iterable<DeclaringModel> {
+        private final List<DeclaringModel> content = new ArrayList<>();
+
+        @Override
+        public Iterator<DeclaringModel> iterator() {
+            return this.content.iterator();
+        }
+    }
+}
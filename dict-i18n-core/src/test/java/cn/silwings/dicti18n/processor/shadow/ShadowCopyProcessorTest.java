@@ -0,0 +1,186 @@
+package cn.silwings.dicti18n.processor.shadow;
+
+import cn.silwings.dicti18n.annotation.DictDesc;
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.dict.Dict;
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 测试ShadowCopyProcessor类中的方法
+ * Test methods in ShadowCopyProcessor class
+ */
+public class ShadowCopyProcessorTest {
+
+    private final DictI18nProvider provider = mock(DictI18nProvider.class);
+    private final ShadowCopyProcessor shadowCopyProcessor = new ShadowCopyProcessor(new DictI18nProcessor(this.provider, new DictI18nProperties()), this.provider);
+
+    @Test
+    public void testTranslatesCopyWithoutModifyingSource() {
+        // 测试翻译写入副本, 原对象保持不变, 不需要翻译的对象被共享
+        // Test descriptions are written into the copy, the source stays untouched and objects without translations are shared
+        when(this.provider.getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("PAID"))).thenReturn("已支付");
+        final OrderPage source = this.newPage();
+
+        final OrderPage copy = this.shadowCopyProcessor.process(source, "zh-CN");
+
+        assertNotSame(source, copy);
+        assertEquals("已支付", copy.getOrders().get(0).getStatusDesc());
+        assertEquals("已支付", copy.getOrders().get(0).getItems().get(0).getStatusDesc());
+        assertNull(source.getOrders().get(0).getStatusDesc());
+        assertNull(source.getOrders().get(0).getItems().get(0).getStatusDesc());
+        assertSame(source.getCreatedAt(), copy.getCreatedAt());
+        assertEquals(3, copy.getTotal());
+    }
+
+    @Test
+    public void testMemoizesCopyPerLanguage() {
+        // 测试同一对象同一语言只翻译一次, 不同语言得到不同的副本
+        // Test the same object is translated once per language and different languages get different copies
+        when(this.provider.getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("PAID"))).thenReturn("已支付");
+        when(this.provider.getTextOrNull(eq("en-US"), any(), eq("order_status"), eq("PAID"))).thenReturn("Paid");
+        final OrderPage source = this.newPage();
+
+        final OrderPage zh = this.shadowCopyProcessor.process(source, "zh-CN");
+        assertSame(zh, this.shadowCopyProcessor.process(source, "zh-CN"));
+        final OrderPage en = this.shadowCopyProcessor.process(source, "en-US");
+
+        assertNotSame(zh, en);
+        assertEquals("已支付", zh.getOrders().get(0).getStatusDesc());
+        assertEquals("Paid", en.getOrders().get(0).getStatusDesc());
+        verify(this.provider, times(2)).getTextOrNull(eq("zh-CN"), any(), any(), any());
+        assertEquals(1, this.shadowCopyProcessor.size());
+    }
+
+    @Test
+    public void testRetranslatesWhenVersionChanges() {
+        // 测试字典版本变化后重新翻译
+        // Test the copy is translated again after the dictionary version changed
+        when(this.provider.getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("PAID"))).thenReturn("已支付", "已付款");
+        final Order source = new Order().setStatus("PAID");
+
+        assertEquals("已支付", this.shadowCopyProcessor.process(source, "zh-CN").getStatusDesc());
+        assertEquals("已支付", this.shadowCopyProcessor.process(source, "zh-CN").getStatusDesc());
+        when(this.provider.getVersion()).thenReturn(1L);
+        assertEquals("已付款", this.shadowCopyProcessor.process(source, "zh-CN").getStatusDesc());
+    }
+
+    @Test
+    public void testCopiesImmutableCollections() {
+        // 测试不可变集合被复制为普通集合
+        // Test unmodifiable collections are copied into modifiable ones
+        when(this.provider.getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("PAID"))).thenReturn("已支付");
+        final List<Order> source = Collections.unmodifiableList(Arrays.asList(new Order().setStatus("PAID")));
+
+        final List<Order> copy = this.shadowCopyProcessor.process(source, "zh-CN");
+
+        assertEquals("已支付", copy.get(0).getStatusDesc());
+        assertNull(source.get(0).getStatusDesc());
+    }
+
+    @Test
+    public void testDoesNotMemoizeUncopiedBodies() {
+        // 测试没有需要翻译内容的对象原样返回且不被缓存, 避免副本引用原对象导致无法回收
+        // Test objects without anything to translate are returned as is and not memoized, a memoized copy referencing its source would never be collected
+        final String text = "text";
+        final LocalDateTime time = LocalDateTime.now();
+
+        assertSame(text, this.shadowCopyProcessor.process(text, "zh-CN"));
+        assertSame(time, this.shadowCopyProcessor.process(time, "zh-CN"));
+        assertEquals(0, this.shadowCopyProcessor.size());
+    }
+
+    @Test
+    public void testReturnsUncopyableBodyUntranslated() {
+        // 测试无法复制的对象原样返回且不被翻译, 避免不同语言的请求同时写入共享对象
+        // Test objects that cannot be copied are returned untranslated, requests in different languages must not write into the shared object
+        when(this.provider.getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("PAID"))).thenReturn("已支付");
+        final Uncopyable source = new Uncopyable("PAID");
+
+        assertSame(source, this.shadowCopyProcessor.process(source, "zh-CN"));
+        assertSame(source, this.shadowCopyProcessor.process(source, "zh-CN"));
+        assertNull(source.getStatusDesc());
+        assertEquals(0, this.shadowCopyProcessor.size());
+    }
+
+    private OrderPage newPage() {
+        final Order order = new Order().setStatus("PAID");
+        order.getItems().add(new Item().setStatus("PAID"));
+        return new OrderPage().setOrders(new ArrayList<>(Arrays.asList(order))).setCreatedAt(LocalDateTime.now()).setTotal(3);
+    }
+
+    public enum OrderStatus implements Dict {
+        PAID;
+
+        @Override
+        public String dictName() {
+            return "order_status";
+        }
+
+        @Override
+        public String code() {
+            return this.name();
+        }
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class OrderPage {
+        private List<Order> orders;
+        private LocalDateTime createdAt;
+        private int total;
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class Order {
+        private String status;
+        @DictDesc(OrderStatus.class)
+        private String statusDesc;
+        private final List<Item> items = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class Item {
+        private String status;
+        @DictDesc(OrderStatus.class)
+        private String statusDesc;
+    }
+
+    @Getter
+    @Setter
+    static class Uncopyable {
+        private final String status;
+        @DictDesc(OrderStatus.class)
+        private String statusDesc;
+
+        Uncopyable(final String status) {
+            this.status = status;
+        }
+    }
+}
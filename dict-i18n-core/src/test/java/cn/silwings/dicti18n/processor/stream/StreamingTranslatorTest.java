@@ -0,0 +1,119 @@
+package cn.silwings.dicti18n.processor.stream;
+
+import cn.silwings.dicti18n.annotation.DictDesc;
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.dict.Dict;
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 测试StreamingTranslator类中的方法
+ * Test methods in StreamingTranslator class
+ */
+public class StreamingTranslatorTest {
+
+    private final DictI18nProvider provider = mock(DictI18nProvider.class);
+    private final StreamingTranslator translator = new StreamingTranslator(new DictI18nProcessor(this.provider, new DictI18nProperties()), 2);
+
+    @Test
+    public void testTranslatesStreamLazilyChunkByChunk() {
+        // 测试流按块惰性读取, 每块只批量查询一次
+        // Test the stream is pulled lazily one chunk at a time, with one batched lookup per chunk
+        when(this.provider.getTexts(eq("zh-CN"), any(), any())).thenReturn(Collections.singletonMap("row_status", Collections.singletonMap("DONE", "已完成")));
+        final AtomicInteger pulled = new AtomicInteger();
+        final Stream<Row> source = IntStream.range(0, 5).mapToObj(i -> new Row().setStatus("DONE")).peek(row -> pulled.incrementAndGet());
+
+        final Iterator<Row> translated = this.translator.translate(source, "zh-CN").iterator();
+
+        assertEquals("已完成", translated.next().getStatusDesc());
+        assertEquals(2, pulled.get());
+        final List<Row> rest = new ArrayList<>();
+        translated.forEachRemaining(rest::add);
+        assertEquals(4, rest.size());
+        assertTrue(rest.stream().allMatch(row -> "已完成".equals(row.getStatusDesc())));
+        verify(this.provider, times(3)).getTexts(eq("zh-CN"), any(), any());
+        verify(this.provider, never()).getTextOrNull(any(), any(), any(), any(String.class));
+    }
+
+    @Test
+    public void testGroupsElementsIntoTranslatedChunks() {
+        // 测试按配置的大小分块, 最后一块可以不满
+        // Test elements are grouped by the configured size, the last chunk may be smaller
+        when(this.provider.getTexts(eq("en-US"), any(), any())).thenReturn(Collections.singletonMap("row_status", Collections.singletonMap("DONE", "Done")));
+        final List<Row> rows = Arrays.asList(new Row().setStatus("DONE"), new Row().setStatus("DONE"), new Row().setStatus("DONE"));
+
+        final List<Integer> sizes = new ArrayList<>();
+        this.translator.translateChunks(rows.iterator(), "en-US").forEachRemaining(chunk -> sizes.add(chunk.size()));
+
+        assertEquals(Arrays.asList(2, 1), sizes);
+        assertEquals(Arrays.asList("Done", "Done", "Done"), rows.stream().map(Row::getStatusDesc).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testClosingTranslatedStreamClosesSource() {
+        // 测试关闭翻译后的流会关闭源流
+        // Test closing the translated stream closes the source
+        final AtomicBoolean closed = new AtomicBoolean();
+
+        this.translator.translate(Stream.<Row>empty().onClose(() -> closed.set(true)), "zh-CN").close();
+
+        assertTrue(closed.get());
+        verify(this.provider, never()).getTexts(any(), any(), any());
+    }
+
+    @Test
+    public void testRejectsNonPositiveChunkSize() {
+        // 测试块大小必须为正数
+        // Test the chunk size must be positive
+        assertThrows(IllegalArgumentException.class, () -> new StreamingTranslator(new DictI18nProcessor(this.provider, new DictI18nProperties()), 0));
+    }
+
+    public enum RowStatus implements Dict {
+        DONE;
+
+        @Override
+        public String dictName() {
+            return "row_status";
+        }
+
+        @Override
+        public String code() {
+            return this.name();
+        }
+    }
+
+    @Getter
+    @Setter
+    @Accessors(chain = true)
+    static class Row {
+        private String status;
+        @DictDesc(RowStatus.class)
+        private String statusDesc;
+    }
+}
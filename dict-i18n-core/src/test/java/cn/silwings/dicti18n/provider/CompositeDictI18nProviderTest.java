@@ -1,19 +1,27 @@
 package cn.silwings.dicti18n.provider;
 
+import cn.silwings.dicti18n.config.DictI18nProperties;
 import cn.silwings.dicti18n.loader.DictI18nLoader;
+import cn.silwings.dicti18n.loader.DictKey;
+import cn.silwings.dicti18n.loader.InMemoryDictI18nLoader;
+import cn.silwings.dicti18n.provider.lang.LanguageRegistry;
 import cn.silwings.dicti18n.sorter.DictLoaderSorter;
 import cn.silwings.dicti18n.utils.Maps;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -44,6 +52,43 @@ public class CompositeDictI18nProviderTest {
         }
     }
 
+    private static class TestInMemoryDictLoader extends TestDictLoader implements InMemoryDictI18nLoader {
+        private final Map<String, Map<String, String>> dict;
+        private long version;
+        private int lookups;
+
+        public TestInMemoryDictLoader(String name, Map<String, Map<String, String>> dict) {
+            super(name, dict);
+            this.dict = dict;
+        }
+
+        @Override
+        public Optional<String> get(String lang, String dictKey) {
+            this.lookups++;
+            return super.get(lang, dictKey);
+        }
+
+        @Override
+        public Map<String, Map<String, String>> getEntries(String lang) {
+            final Map<String, Map<String, String>> entries = new HashMap<>();
+            this.dict.getOrDefault(lang, Collections.emptyMap()).forEach((dictKey, desc) -> {
+                final DictKey key = DictKey.parse(dictKey);
+                entries.computeIfAbsent(key.getDictName(), dictName -> new HashMap<>()).put(key.getCode(), desc);
+            });
+            return entries;
+        }
+
+        @Override
+        public boolean isIgnoreCase() {
+            return false;
+        }
+
+        @Override
+        public long getVersion() {
+            return this.version;
+        }
+    }
+
     private static class TestDictSorter implements DictLoaderSorter {
         private final List<DictI18nLoader> loaders;
 
@@ -57,6 +102,26 @@ public class CompositeDictI18nProviderTest {
         }
     }
 
+    @Test
+    public void testVersionChangesWithLoaderVersion() {
+        // 测试任一加载器版本变化时提供者版本随之变化
+        // Test the provider version changes whenever the version of a loader changes
+        final long[] version = {0L};
+        final DictI18nLoader loader1 = new TestDictLoader("loader1", Collections.emptyMap());
+        final DictI18nLoader loader2 = new TestDictLoader("loader2", Collections.emptyMap()) {
+            @Override
+            public long getVersion() {
+                return version[0];
+            }
+        };
+        final CompositeDictI18nProvider provider = new CompositeDictI18nProvider(new TestDictSorter(Arrays.asList(loader1, loader2)));
+
+        final long initial = provider.getVersion();
+        assertEquals(initial, provider.getVersion());
+        version[0]++;
+        assertTrue(initial != provider.getVersion());
+    }
+
     @Test
     public void testConstructorWithEmptyLoaders() {
         // 测试空加载器构造抛出异常
@@ -100,6 +165,32 @@ public class CompositeDictI18nProviderTest {
         assertEquals("待处理", result.get());
     }
 
+    @Test
+    public void testGetTextWithNumericCode() {
+        // 测试整数编码沿相同的降级链查找, 未覆盖数值查找的加载器按拼接的键查找
+        // Test integral codes follow the same fallback chain, loaders without a numeric lookup are asked with the joined key
+        final List<String> numericLookups = new ArrayList<>();
+        final DictI18nLoader loader1 = new TestDictLoader("loader1",
+                Maps.of(
+                        "en-us", Maps.of("user_status.0", "Disabled")
+                ));
+        final DictI18nLoader loader2 = new TestDictLoader("loader2", Collections.emptyMap()) {
+            @Override
+            public Optional<String> get(final String lang, final String dictName, final long code) {
+                numericLookups.add(lang + ":" + dictName + "." + code);
+                return "zh".equals(lang) && 1L == code ? Optional.of("启用") : Optional.empty();
+            }
+        };
+        final CompositeDictI18nProvider provider = new CompositeDictI18nProvider(
+                new TestDictSorter(Arrays.asList(loader1, loader2))
+        );
+
+        assertEquals(Optional.of("启用"), provider.getText("zh-CN", "en-US", "user_status", 1L));
+        assertEquals(Arrays.asList("zh-cn:user_status.1", "zh:user_status.1"), numericLookups);
+        assertEquals(Optional.of("Disabled"), provider.getText("zh-CN", "en-US", "user_status", 0L));
+        assertEquals(provider.getText("en-US", "en-US", "user_status", "0"), provider.getText("en-US", "en-US", "user_status", 0L));
+    }
+
     @Test
     public void testGetTextWithDefaultLang() {
         // 测试默认语言匹配获取文本
@@ -168,6 +259,134 @@ public class CompositeDictI18nProviderTest {
         assertEquals("第一加载器", result.get());
     }
 
+    @Test
+    public void testGetTextsFollowsGetTextOrder() {
+        // 测试批量获取与单个获取的查找顺序一致, 且每个加载器每个降级层级只查询一次
+        // Test batch lookup follows the same order as getText and queries each loader once per fallback level
+        final List<String> calls = new ArrayList<>();
+        final DictI18nLoader loader1 = new TestDictLoader("loader1",
+                Maps.of(
+                        "zh", Maps.of("order_status.pending", "待处理", "order_status.v1.5", "版本"),
+                        "", Maps.of("order_status.shipped", "兜底")
+                )) {
+            @Override
+            public Map<String, String> getAll(final String lang, final Collection<String> dictKeys) {
+                calls.add("loader1:" + lang + ":" + dictKeys.size());
+                return super.getAll(lang, dictKeys);
+            }
+        };
+        final DictI18nLoader loader2 = new TestDictLoader("loader2",
+                Maps.of(
+                        "zh-cn", Maps.of("order_status.shipped", "已发货", "order_status.cancelled", "已取消")
+                ));
+        final CompositeDictI18nProvider provider = new CompositeDictI18nProvider(
+                new TestDictSorter(Arrays.asList(loader1, loader2))
+        );
+
+        final Map<String, List<String>> codes = Maps.of("order_status", Arrays.asList("pending", "shipped", "cancelled", "unknown"));
+        final Map<String, Map<String, String>> texts = provider.getTexts("zh-CN", "en-US", codes);
+
+        for (final String code : codes.get("order_status")) {
+            assertEquals(provider.getText("zh-CN", "en-US", "order_status", code).orElse(null), texts.get("order_status").get(code));
+        }
+        assertEquals("兜底", texts.get("order_status").get("shipped"));
+        assertEquals(Arrays.asList("loader1:zh-cn:4", "loader1:zh:4", "loader1:en-us:3", "loader1:en:3", "loader1::3"), calls.subList(0, 5));
+    }
+
+    @Test
+    public void testSnapshotFollowsLoaderSearchOrder() {
+        // 测试所有加载器都在内存中时, 预计算的快照与逐个加载器查找的结果一致, 且不再查询加载器
+        // Test with in-memory loaders only the precomputed snapshot gives the same results as asking loader by loader, without asking the loaders
+        final Map<String, Map<String, String>> dict1 = Maps.of(
+                "zh", Maps.of("order_status.pending", "待处理", "order_status.v1.5", "版本"),
+                "en-us", Maps.of("order_status.cancelled", "Cancelled"),
+                "", Maps.of("order_status.shipped", "兜底", "order_status.blank", " "));
+        final Map<String, Map<String, String>> dict2 = Maps.of(
+                "zh-cn", Maps.of("order_status.shipped", "已发货", "order_status.pending", "第二加载器", "order_status.blank", "空白"),
+                "en", Maps.of("order_status.cancelled", "Canceled", "order_status.refunded", "Refunded"));
+        final TestInMemoryDictLoader loader1 = new TestInMemoryDictLoader("loader1", dict1);
+        final TestInMemoryDictLoader loader2 = new TestInMemoryDictLoader("loader2", dict2);
+        final CompositeDictI18nProvider snapshotProvider = new CompositeDictI18nProvider(new TestDictSorter(Arrays.asList(loader1, loader2)));
+        final CompositeDictI18nProvider searchProvider = new CompositeDictI18nProvider(new TestDictSorter(Arrays.asList(new TestDictLoader("loader1", dict1), new TestDictLoader("loader2", dict2))));
+
+        for (final String language : Arrays.asList("zh-CN", "zh", "en-US", "fr", "")) {
+            for (final String code : Arrays.asList("pending", "shipped", "cancelled", "refunded", "blank", "unknown", "v1.5")) {
+                assertEquals(searchProvider.getText(language, "en-US", "order_status", code), snapshotProvider.getText(language, "en-US", "order_status", code), language + ":" + code);
+            }
+        }
+        final Map<String, List<String>> codes = Maps.of("order_status", Arrays.asList("pending", "shipped", "unknown", "v1.5"));
+        assertEquals(searchProvider.getTexts("zh-CN", "en-US", codes), snapshotProvider.getTexts("zh-CN", "en-US", codes));
+        assertEquals(0, loader1.lookups + loader2.lookups);
+    }
+
+    @Test
+    public void testUnknownTagsShareSnapshotTable() {
+        // 测试没有任何加载器包含的语言标签共用默认语言的快照表, 大量此类标签不会占满快照表的上限
+        // Test language tags no loader holds share the table of the default language, many of them do not exhaust the limit of snapshot tables
+        final Map<String, Map<String, String>> dict = Maps.of(
+                "zh-cn", Maps.of("order_status.pending", "待处理"),
+                "en-us", Maps.of("order_status.pending", "Pending"));
+        final TestInMemoryDictLoader loader = new TestInMemoryDictLoader("loader", dict);
+        final CompositeDictI18nProvider provider = new CompositeDictI18nProvider(new TestDictSorter(Collections.singletonList(loader)));
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(Optional.of("Pending"), provider.getText("x" + i + "-zz", "en-US", "order_status", "pending"));
+        }
+        assertEquals(Optional.of("待处理"), provider.getText("zh-CN", "en-US", "order_status", "pending"));
+        assertEquals(0, loader.lookups);
+    }
+
+    @Test
+    public void testSnapshotRebuiltWhenLoaderChanges() {
+        // 测试加载器版本变化后快照被重建
+        // Test the snapshot is rebuilt once the version of a loader changes
+        final Map<String, Map<String, String>> dict = Maps.of("zh-cn", Maps.of("order_status.pending", "待处理"));
+        final TestInMemoryDictLoader loader = new TestInMemoryDictLoader("loader", dict);
+        final CompositeDictI18nProvider provider = new CompositeDictI18nProvider(new TestDictSorter(Collections.singletonList(loader)));
+        assertEquals(Optional.of("待处理"), provider.getText("zh-CN", "en-US", "order_status", "pending"));
+
+        dict.get("zh-cn").put("order_status.pending", "处理中");
+        assertEquals(Optional.of("待处理"), provider.getText("zh-CN", "en-US", "order_status", "pending"));
+        loader.version++;
+        assertEquals(Optional.of("处理中"), provider.getText("zh-CN", "en-US", "order_status", "pending"));
+    }
+
+    @Test
+    public void testGetTextOrNullMatchesGetText() {
+        // 测试可空查询与Optional查询结果一致, 未找到或空白文本时返回null
+        // Test the nullable lookup gives the same results as the Optional one, null for missing or blank texts
+        final Map<String, Map<String, String>> dict = Maps.of(
+                "zh", Maps.of("order_status.pending", "待处理", "order_status.blank", " "),
+                "", Maps.of("user_status.1", "启用"));
+        for (final DictI18nLoader loader : Arrays.asList(new TestDictLoader("search", dict), new TestInMemoryDictLoader("snapshot", dict))) {
+            final CompositeDictI18nProvider provider = new CompositeDictI18nProvider(new TestDictSorter(Collections.singletonList(loader)));
+            assertEquals("待处理", provider.getTextOrNull("zh-CN", "en-US", "order_status", "pending"));
+            assertEquals("启用", provider.getTextOrNull("zh-CN", "en-US", "user_status", 1L));
+            assertNull(provider.getTextOrNull("zh-CN", "en-US", "order_status", "blank"));
+            assertNull(provider.getTextOrNull("zh-CN", "en-US", "order_status", "unknown"));
+            assertEquals(Optional.of("待处理"), provider.getText("zh-CN", "en-US", "order_status", "pending"));
+        }
+    }
+
+    @Test
+    public void testUnknownLanguagesFoldedByClosedRegistry() {
+        // 测试配置语言后, 未知语言按降级链折叠到已注册语言或默认语言, 结果与搜索和快照一致
+        // Test with configured languages unknown tags are folded onto a registered language of their chain or onto the default language, the same with and without snapshot
+        final Map<String, Map<String, String>> dict = Maps.of(
+                "zh", Maps.of("order_status.pending", "待处理"),
+                "en-us", Maps.of("order_status.pending", "Pending"));
+        final DictI18nProperties.Languages config = new DictI18nProperties.Languages();
+        config.setKnown(Arrays.asList("zh-CN", "en-US"));
+        for (final DictI18nLoader loader : Arrays.asList(new TestDictLoader("search", dict), new TestInMemoryDictLoader("snapshot", dict))) {
+            final CompositeDictI18nProvider provider = new CompositeDictI18nProvider(new TestDictSorter(Collections.singletonList(loader)), new LanguageRegistry(config, "en-US"));
+            assertEquals(Optional.of("待处理"), provider.getText("zh-CN", "en-US", "order_status", "pending"));
+            assertEquals(Optional.of("待处理"), provider.getText("zh-HK", "en-US", "order_status", "pending"));
+            assertEquals(Optional.of("Pending"), provider.getText("fr-FR", "en-US", "order_status", "pending"));
+            assertEquals(Optional.of("Pending"), provider.getText("garbage", "en-US", "order_status", "pending"));
+            assertEquals("Pending", provider.getTexts("fr-FR", "en-US", Maps.of("order_status", Collections.singletonList("pending"))).get("order_status").get("pending"));
+        }
+    }
+
     @Test
     public void testResolveKey() {
         // 测试解析key的方法
@@ -0,0 +1,150 @@
+package cn.silwings.dicti18n.provider.cache;
+
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 测试CachingDictI18nProvider类中的方法
+ * Test methods in CachingDictI18nProvider class
+ */
+public class CachingDictI18nProviderTest {
+
+    private final DictI18nProvider delegate = mock(DictI18nProvider.class);
+
+    @Test
+    public void testCachesTextsAndMisses() {
+        // 测试找到的文本、未找到的结果和整数编码都只查询一次, 并统计命中率
+        // Test found texts, missing texts and integral codes are resolved once, and the hit ratio is reported
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "order_status", "PAID")).thenReturn("已支付");
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "order_status", "UNKNOWN")).thenReturn(null);
+        when(this.delegate.getTextOrNull(eq("zh-CN"), eq("en-US"), eq("user_status"), eq(1L))).thenReturn("启用");
+        final CachingDictI18nProvider provider = new CachingDictI18nProvider(this.delegate, new DictI18nProperties.TextCache());
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(Optional.of("已支付"), provider.getText("zh-CN", "en-US", "order_status", "PAID"));
+            assertFalse(provider.getText("zh-CN", "en-US", "order_status", "UNKNOWN").isPresent());
+            assertEquals(Optional.of("启用"), provider.getText("zh-CN", "en-US", "user_status", 1L));
+        }
+
+        verify(this.delegate, times(1)).getTextOrNull("zh-CN", "en-US", "order_status", "PAID");
+        verify(this.delegate, times(1)).getTextOrNull("zh-CN", "en-US", "order_status", "UNKNOWN");
+        verify(this.delegate, times(1)).getTextOrNull(eq("zh-CN"), eq("en-US"), eq("user_status"), eq(1L));
+        assertEquals(3, provider.size());
+        assertEquals(3, provider.getHitCount());
+        assertEquals(3, provider.getMissCount());
+        assertEquals(0.5D, provider.getHitRatio(), 0.0001D);
+    }
+
+    @Test
+    public void testBatchLookupOnlyForwardsMissingCodes() {
+        // 测试批量查询只转发未缓存的编码, 未找到的编码也被缓存
+        // Test batch lookups only forward the codes not cached yet, codes without text are cached as well
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "order_status", "PAID")).thenReturn("已支付");
+        when(this.delegate.getTexts(eq("zh-CN"), eq("en-US"), any())).thenReturn(Collections.singletonMap("order_status", Collections.singletonMap("SHIPPED", "已发货")));
+        final CachingDictI18nProvider provider = new CachingDictI18nProvider(this.delegate, new DictI18nProperties.TextCache());
+        provider.getText("zh-CN", "en-US", "order_status", "PAID");
+
+        final Map<String, List<String>> codes = Collections.singletonMap("order_status", Arrays.asList("PAID", "SHIPPED", "UNKNOWN"));
+        final Map<String, Map<String, String>> texts = provider.getTexts("zh-CN", "en-US", codes);
+        provider.getTexts("zh-CN", "en-US", codes);
+
+        assertEquals("已支付", texts.get("order_status").get("PAID"));
+        assertEquals("已发货", texts.get("order_status").get("SHIPPED"));
+        assertEquals(2, texts.get("order_status").size());
+        verify(this.delegate, times(1)).getTexts("zh-CN", "en-US", Collections.singletonMap("order_status", Arrays.asList("SHIPPED", "UNKNOWN")));
+        verify(this.delegate, times(1)).getTexts(eq("zh-CN"), eq("en-US"), any());
+    }
+
+    @Test
+    public void testInvalidationAndVersionChanges() {
+        // 测试显式失效和被装饰提供者的版本变化后重新查询, 失效会改变版本
+        // Test texts are resolved again after an explicit invalidation or a version change of the delegate, invalidation changes the version
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "order_status", "PAID")).thenReturn("已支付");
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "user_status", "ON")).thenReturn("启用");
+        final CachingDictI18nProvider provider = new CachingDictI18nProvider(this.delegate, new DictI18nProperties.TextCache());
+        provider.getText("zh-CN", "en-US", "order_status", "PAID");
+        provider.getText("zh-CN", "en-US", "user_status", "ON");
+        final long version = provider.getVersion();
+
+        provider.invalidate("order_status");
+        provider.getText("zh-CN", "en-US", "order_status", "PAID");
+        provider.getText("zh-CN", "en-US", "user_status", "ON");
+        assertNotEquals(version, provider.getVersion());
+        verify(this.delegate, times(2)).getTextOrNull("zh-CN", "en-US", "order_status", "PAID");
+        verify(this.delegate, times(1)).getTextOrNull("zh-CN", "en-US", "user_status", "ON");
+
+        provider.invalidateAll();
+        provider.getText("zh-CN", "en-US", "user_status", "ON");
+        verify(this.delegate, times(2)).getTextOrNull("zh-CN", "en-US", "user_status", "ON");
+
+        when(this.delegate.getVersion()).thenReturn(7L);
+        provider.getText("zh-CN", "en-US", "user_status", "ON");
+        verify(this.delegate, times(3)).getTextOrNull("zh-CN", "en-US", "user_status", "ON");
+    }
+
+    @Test
+    public void testDropsTextsReadDuringInvalidation() {
+        // 测试查询进行中发生失效时, 读到的旧文本不会被缓存, 之后重新查询
+        // Test texts read while an invalidation happens are not cached and are resolved again afterwards
+        final CachingDictI18nProvider provider = new CachingDictI18nProvider(this.delegate, new DictI18nProperties.TextCache());
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "order_status", "PAID")).thenAnswer(invocation -> {
+            provider.invalidateAll();
+            return "旧";
+        }).thenReturn("已支付");
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "user_status", "ON")).thenAnswer(invocation -> {
+            provider.invalidate("user_status");
+            return "旧";
+        }).thenReturn("启用");
+
+        assertEquals(Optional.of("旧"), provider.getText("zh-CN", "en-US", "order_status", "PAID"));
+        assertEquals(Optional.of("已支付"), provider.getText("zh-CN", "en-US", "order_status", "PAID"));
+        assertEquals(Optional.of("旧"), provider.getText("zh-CN", "en-US", "user_status", "ON"));
+        assertEquals(Optional.of("启用"), provider.getText("zh-CN", "en-US", "user_status", "ON"));
+        assertEquals(Optional.of("启用"), provider.getText("zh-CN", "en-US", "user_status", "ON"));
+
+        verify(this.delegate, times(2)).getTextOrNull("zh-CN", "en-US", "order_status", "PAID");
+        verify(this.delegate, times(2)).getTextOrNull("zh-CN", "en-US", "user_status", "ON");
+    }
+
+    @Test
+    public void testStaysWithinMaximumSizeAndExpires() throws InterruptedException {
+        // 测试缓存条目数不超过上限, 过期后重新查询
+        // Test the number of entries stays within the maximum size and entries are resolved again once expired
+        when(this.delegate.getTextOrNull(any(), any(), any(), any(String.class))).thenReturn("text");
+        final DictI18nProperties.TextCache config = new DictI18nProperties.TextCache();
+        config.setMaximumSize(10);
+        final CachingDictI18nProvider bounded = new CachingDictI18nProvider(this.delegate, config);
+
+        for (int i = 0; i < 100; i++) {
+            bounded.getText("zh-CN", "en-US", "order_status", "CODE_" + i);
+        }
+        assertTrue(bounded.size() <= 10);
+        assertTrue(bounded.getEvictionCount() >= 90);
+
+        config.setExpireAfterWriteSeconds(1);
+        final CachingDictI18nProvider expiring = new CachingDictI18nProvider(this.delegate, config);
+        expiring.getText("zh-CN", "en-US", "order_status", "PAID");
+        expiring.getText("zh-CN", "en-US", "order_status", "PAID");
+        Thread.sleep(1100);
+        expiring.getText("zh-CN", "en-US", "order_status", "PAID");
+        verify(this.delegate, times(2)).getTextOrNull("zh-CN", "en-US", "order_status", "PAID");
+    }
+}
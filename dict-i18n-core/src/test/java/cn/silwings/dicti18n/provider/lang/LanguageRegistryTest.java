@@ -0,0 +1,89 @@
+package cn.silwings.dicti18n.provider.lang;
+
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 测试LanguageRegistry类中的方法
+ * Test methods in LanguageRegistry class
+ */
+public class LanguageRegistryTest {
+
+    @Test
+    public void testRegistersConfiguredLanguagesWithIds() {
+        // 测试配置的语言、默认语言及其降级链成员获得连续的id, 不同写法解析为同一语言
+        // Test configured languages, the default language and the members of their chains get consecutive ids, different spellings resolve to the same language
+        final LanguageRegistry registry = new LanguageRegistry(this.languages("zh-CN", "en"), "en-US");
+
+        assertTrue(registry.isClosed());
+        assertEquals(5, registry.size());
+        assertEquals(0, registry.getFallback().getId());
+        final Language zhCn = registry.resolve("zh-cn");
+        assertTrue(zhCn.isRegistered());
+        assertTrue(zhCn.getId() > 0 && zhCn.getId() < registry.size());
+        assertEquals(Arrays.asList("zh-cn", "zh"), zhCn.getFallbackChain());
+        assertSame(zhCn, registry.resolve("zh-CN"));
+        assertSame(zhCn, registry.resolve(" zh_CN "));
+        assertSame(registry.resolve("en-us"), registry.resolve("en-US"));
+        assertTrue(registry.resolve(null).isFallback());
+        assertTrue(registry.resolve(" ").isFallback());
+    }
+
+    @Test
+    public void testClosedRegistryFoldsUnknownTags() {
+        // 测试封闭的注册表将未知语言折叠到降级链中第一个已注册语言, 否则折叠到兜底语言
+        // Test a closed registry folds unknown tags onto the first registered language of their chain, otherwise onto the fallback language
+        final LanguageRegistry registry = new LanguageRegistry(this.languages("zh-CN", "en-US"), "");
+
+        assertSame(registry.resolve("zh"), registry.resolve("zh-HK"));
+        assertSame(registry.getFallback(), registry.resolve("fr-FR"));
+        assertSame(registry.getFallback(), registry.resolve("<script>"));
+    }
+
+    @Test
+    public void testOpenRegistryKeepsUnknownChains() {
+        // 测试未配置语言时未知语言保留自己的降级链, 但不获得id
+        // Test without configured languages unknown tags keep their own chain but get no id
+        final LanguageRegistry registry = new LanguageRegistry();
+
+        final Language frFr = registry.resolve("fr-FR");
+        assertFalse(registry.isClosed());
+        assertFalse(frFr.isRegistered());
+        assertEquals("fr-fr", frFr.getTag());
+        assertEquals(Arrays.asList("fr-fr", "fr"), frFr.getFallbackChain());
+        assertSame(frFr, registry.resolve("fr-FR"));
+    }
+
+    @Test
+    public void testCachedTagsAreBounded() {
+        // 测试缓存的标签数量不超过上限, 超出的标签每次重新解析但结果一致
+        // Test the number of cached tags stays within the limit, further tags are resolved on every call with the same result
+        final DictI18nProperties.Languages config = new DictI18nProperties.Languages();
+        config.setMaxCachedTags(10);
+        final LanguageRegistry registry = new LanguageRegistry(config, "");
+
+        for (int i = 0; i < 100; i++) {
+            registry.resolve("x-" + i);
+        }
+
+        assertEquals(10, registry.getCachedTagCount());
+        assertEquals(registry.resolve("x-99").getFallbackChain(), Arrays.asList("x-99", "x"));
+
+        config.setMaxCachedTags(-1);
+        assertThrows(IllegalArgumentException.class, () -> new LanguageRegistry(config, ""));
+    }
+
+    private DictI18nProperties.Languages languages(final String... known) {
+        final DictI18nProperties.Languages config = new DictI18nProperties.Languages();
+        config.setKnown(Arrays.asList(known));
+        return config;
+    }
+}
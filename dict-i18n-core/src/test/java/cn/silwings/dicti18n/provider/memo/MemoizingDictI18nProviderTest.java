@@ -0,0 +1,96 @@
+package cn.silwings.dicti18n.provider.memo;
+
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 测试MemoizingDictI18nProvider类中的方法
+ * Test methods in MemoizingDictI18nProvider class
+ */
+public class MemoizingDictI18nProviderTest {
+
+    private final DictI18nProvider delegate = mock(DictI18nProvider.class);
+    private final MemoizingDictI18nProvider provider = new MemoizingDictI18nProvider(this.delegate);
+
+    @AfterEach
+    public void tearDown() {
+        TranslationMemo.unbind();
+    }
+
+    @Test
+    public void testForwardsEveryLookupWithoutMemo() {
+        // 测试没有绑定备忘录时每次查找都转发给被装饰的提供者
+        // Test every lookup is forwarded to the delegate while no memo is bound
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "order_status", "PAID")).thenReturn("已支付");
+
+        this.provider.getText("zh-CN", "en-US", "order_status", "PAID");
+        this.provider.getText("zh-CN", "en-US", "order_status", "PAID");
+
+        assertNull(TranslationMemo.current());
+        verify(this.delegate, times(2)).getTextOrNull("zh-CN", "en-US", "order_status", "PAID");
+    }
+
+    @Test
+    public void testRemembersLookupsWhileMemoIsBound() {
+        // 测试绑定备忘录后重复查找 (包括未找到的结果和整数编码) 只转发一次, 清空后重新查找
+        // Test repeated lookups (including missing texts and integral codes) are forwarded once while a memo is bound, and again after clearing it
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "order_status", "PAID")).thenReturn("已支付");
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "order_status", "UNKNOWN")).thenReturn(null);
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "user_status", 1L)).thenReturn("启用");
+        final TranslationMemo memo = TranslationMemo.bind();
+        assertSame(memo, TranslationMemo.bind());
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Optional.of("已支付"), this.provider.getText("zh-CN", "en-US", "order_status", "PAID"));
+            assertFalse(this.provider.getText("zh-CN", "en-US", "order_status", "UNKNOWN").isPresent());
+            assertEquals(Optional.of("启用"), this.provider.getText("zh-CN", "en-US", "user_status", 1L));
+        }
+        assertEquals(3, memo.size());
+        verify(this.delegate, times(1)).getTextOrNull("zh-CN", "en-US", "order_status", "PAID");
+        verify(this.delegate, times(1)).getTextOrNull("zh-CN", "en-US", "order_status", "UNKNOWN");
+        verify(this.delegate, times(1)).getTextOrNull("zh-CN", "en-US", "user_status", 1L);
+
+        memo.clear();
+        this.provider.getText("zh-CN", "en-US", "order_status", "PAID");
+        verify(this.delegate, times(2)).getTextOrNull("zh-CN", "en-US", "order_status", "PAID");
+    }
+
+    @Test
+    public void testBatchLookupOnlyForwardsMissingCodes() {
+        // 测试批量查找只把未记住的编码转发给被装饰的提供者
+        // Test batch lookups only forward the codes that are not remembered yet
+        when(this.delegate.getTextOrNull("zh-CN", "en-US", "order_status", "PAID")).thenReturn("已支付");
+        when(this.delegate.getTexts(eq("zh-CN"), eq("en-US"), any())).thenReturn(Collections.singletonMap("order_status", Collections.singletonMap("SHIPPED", "已发货")));
+        TranslationMemo.bind();
+        this.provider.getText("zh-CN", "en-US", "order_status", "PAID");
+
+        final Map<String, List<String>> codes = Collections.singletonMap("order_status", Arrays.asList("PAID", "SHIPPED", "UNKNOWN"));
+        final Map<String, Map<String, String>> texts = this.provider.getTexts("zh-CN", "en-US", codes);
+        final Map<String, Map<String, String>> again = this.provider.getTexts("zh-CN", "en-US", codes);
+
+        assertEquals("已支付", texts.get("order_status").get("PAID"));
+        assertEquals("已发货", texts.get("order_status").get("SHIPPED"));
+        assertFalse(texts.get("order_status").containsKey("UNKNOWN"));
+        assertEquals(texts, again);
+        verify(this.delegate, times(1)).getTexts("zh-CN", "en-US", Collections.singletonMap("order_status", Arrays.asList("SHIPPED", "UNKNOWN")));
+        verify(this.delegate, times(1)).getTexts(any(), any(), any());
+    }
+}
@@ -0,0 +1,11 @@
+package cn.silwings.dicti18n.loader.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+@FunctionalInterface
+public interface DictDescsGetter {
+
+    Map<String, String> get(String lang, Collection<String> dictKeys);
+
+}
@@ -1,5 +1,9 @@
 package cn.silwings.dicti18n.loader.cache;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -24,4 +28,24 @@ public interface DictI18nLoaderCacheProvider {
      */
     Optional<String> getDesc(String lang, String key, DictDescGetter descGetter);
 
+    /**
+     * Get the dictionary descriptions of many keys from cache or underlying source.
+     * <p>
+     * The default implementation goes through {@link #getDesc} key by key, so custom cache providers keep their
+     * caching behavior. Implementations should override it to load all cache misses with one call of {@code descsGetter}.
+     *
+     * @param lang        Language code, e.g. "en", "zh-CN"
+     * @param keys        Dictionary keys, e.g. ["order.order_status.PENDING", "order.order_status.PAID"]
+     * @param descsGetter Supplier to load the missing keys in bulk
+     * @return Descriptions found, keyed by dictionary key. Keys without description are absent.
+     */
+    default Map<String, String> getDescs(final String lang, final Collection<String> keys, final DictDescsGetter descsGetter) {
+        final Map<String, String> result = new HashMap<>();
+        for (final String key : keys) {
+            this.getDesc(lang, key, (l, k) -> Optional.ofNullable(descsGetter.get(l, Collections.singletonList(k)).get(k)))
+                    .ifPresent(desc -> result.put(key, desc));
+        }
+        return result;
+    }
+
 }
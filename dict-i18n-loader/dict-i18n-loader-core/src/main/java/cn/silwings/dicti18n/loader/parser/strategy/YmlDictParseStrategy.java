@@ -85,18 +85,20 @@ public class YmlDictParseStrategy implements DictFileParseStrategy {
      * @param target Map storing flattened results
      */
     @SuppressWarnings("unchecked")
-    private void flatten(final String prefix, final Map<String, Object> source, final Map<String, String> target) {
+    private void flatten(final String prefix, final Map<?, Object> source, final Map<String, String> target) {
         if (null == source) {
             return;
         }
-        for (Map.Entry<String, Object> entry : source.entrySet()) {
+        for (Map.Entry<?, Object> entry : source.entrySet()) {
+            // Numeric codes such as `1: 'Enabled'` are loaded by YAML as Integer keys
+            final String key = null == entry.getKey() ? null : entry.getKey().toString();
             // Concatenate the current key (using "." to connect if there is a prefix)
-            final String dictKey = null == prefix || prefix.isEmpty() ? entry.getKey() : prefix + "." + entry.getKey();
+            final String dictKey = null == prefix || prefix.isEmpty() ? key : prefix + "." + key;
             final Object dictDesc = entry.getValue();
 
             // If the value is still a Map, recursively flatten it
             if (dictDesc instanceof Map<?, ?>) {
-                flatten(dictKey, (Map<String, Object>) dictDesc, target);
+                flatten(dictKey, (Map<?, Object>) dictDesc, target);
             }
             // If both the key and value are not empty, add them to the flat Map
             else if (null != dictKey && null != dictDesc) {
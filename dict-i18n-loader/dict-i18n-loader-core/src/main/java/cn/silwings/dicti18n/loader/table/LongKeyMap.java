@@ -0,0 +1,92 @@
+package cn.silwings.dicti18n.loader.table;
+
+/**
+ * Open addressing hash map with primitive {@code long} keys, looked up without boxing.
+ * <p>
+ * Meant for tables that are built once and then only read: a map must be fully built before it is published to other
+ * threads (e.g. through a volatile field or a concurrent map), reads need no synchronization afterwards.
+ *
+ * @param <V> value type, values are never null
+ */
+public final class LongKeyMap<V> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private Object[] values = new Object[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @return the value mapped to the key, or null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long key) {
+        final long[] ks = this.keys;
+        final Object[] vs = this.values;
+        final int mask = ks.length - 1;
+        int i = hash(key) & mask;
+        while (null != vs[i]) {
+            if (ks[i] == key) {
+                return (V) vs[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    public void put(final long key, final V value) {
+        if (null == value) {
+            throw new IllegalArgumentException("[DictI18n] Null values are not supported");
+        }
+        if ((this.size + 1) * 3 > this.keys.length * 2) {
+            this.resize();
+        }
+        if (insert(this.keys, this.values, key, value)) {
+            this.size++;
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    private void resize() {
+        final long[] ks = new long[this.keys.length << 1];
+        final Object[] vs = new Object[ks.length];
+        for (int i = 0; i < this.keys.length; i++) {
+            if (null != this.values[i]) {
+                insert(ks, vs, this.keys[i], this.values[i]);
+            }
+        }
+        this.keys = ks;
+        this.values = vs;
+    }
+
+    /**
+     * @return whether a new key was added, false if the value of an existing key was replaced
+     */
+    private static boolean insert(final long[] ks, final Object[] vs, final long key, final Object value) {
+        final int mask = ks.length - 1;
+        int i = hash(key) & mask;
+        while (null != vs[i]) {
+            if (ks[i] == key) {
+                vs[i] = value;
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        ks[i] = key;
+        vs[i] = value;
+        return true;
+    }
+
+    private static int hash(final long key) {
+        final long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return "LongKeyMap{size=" + this.size + ", capacity=" + this.keys.length + "}";
+    }
+}
@@ -0,0 +1,91 @@
+package cn.silwings.dicti18n.loader.table;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Values of the dictionary items with integral codes ({@code order_status.1}), indexed per dictionary by the primitive
+ * code so that {@code Integer}/{@code Long} codes are looked up without building the {@code dictName.code} key.
+ * <p>
+ * Only canonical decimal codes are indexed: {@code 1} and {@code -1}, but not {@code 01} or {@code +1}, which keep
+ * being found through their string key only. Like {@link LongKeyMap} a table is built once and then only read.
+ *
+ * @param <V> value type
+ */
+public final class NumericDictTable<V> {
+
+    private final Map<String, LongKeyMap<V>> tables = new HashMap<>();
+
+    /**
+     * Index the value if the code part of the key is integral, otherwise ignore it.
+     *
+     * @param dictKey key in the form of dictName.code, already normalized by the loader
+     * @return whether the key was indexed
+     */
+    public boolean put(final String dictKey, final V value) {
+        if (null == dictKey) {
+            return false;
+        }
+        final int index = dictKey.lastIndexOf('.');
+        if (index <= 0) {
+            return false;
+        }
+        return this.put(dictKey.substring(0, index), dictKey.substring(index + 1), value);
+    }
+
+    /**
+     * Index the value if the code is integral, otherwise ignore it.
+     *
+     * @param dictName dictionary name, already normalized by the loader
+     * @param code     code, already normalized by the loader
+     * @return whether the item was indexed
+     */
+    public boolean put(final String dictName, final String code, final V value) {
+        if (null == dictName || dictName.isEmpty() || null == code || code.isEmpty() || null == value) {
+            return false;
+        }
+        final Long numericCode = parseCode(code);
+        if (null == numericCode) {
+            return false;
+        }
+        this.tables.computeIfAbsent(dictName, key -> new LongKeyMap<>()).put(numericCode, value);
+        return true;
+    }
+
+    /**
+     * @param dictName dictionary name, normalized the same way as the keys passed to {@link #put}
+     * @return the value of the item, or null
+     */
+    public V get(final String dictName, final long code) {
+        final LongKeyMap<V> table = this.tables.get(dictName);
+        return null == table ? null : table.get(code);
+    }
+
+    public boolean isEmpty() {
+        return this.tables.isEmpty();
+    }
+
+    /**
+     * @return the code as a long if it is its canonical decimal representation, otherwise null
+     */
+    static Long parseCode(final String code) {
+        final int length = code.length();
+        final int start = code.charAt(0) == '-' ? 1 : 0;
+        if (length == start || length - start > 19 || (code.charAt(start) == '0' && length - start > 1)) {
+            return null;
+        }
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            final int digit = code.charAt(i) - '0';
+            // Long.MIN_VALUE is left out, its magnitude does not fit
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                return null;
+            }
+            value = value * 10 + digit;
+        }
+        if (start == 1 && value == 0) {
+            return null;
+        }
+        return start == 1 ? -value : value;
+    }
+}
@@ -58,6 +58,21 @@ class YmlDictParseStrategyTest {
         assertTrue(result.stream().anyMatch(d -> d.getDictKey().equals("user.status.active") && d.getDictDesc().equals("激活")));
     }
 
+    @Test
+    void parseShouldAcceptNumericKeys() throws IOException {
+        // 整数编码被YAML解析为Integer键, 扁平化为十进制字符串
+        final String ymlContent = "userStatus:\n  0: 停用\n  1: 启用";
+        final InputStream is = new ByteArrayInputStream(ymlContent.getBytes(StandardCharsets.UTF_8));
+        when(mockResource.exists()).thenReturn(true);
+        when(mockResource.getInputStream()).thenReturn(is);
+
+        final List<DictInfo> result = strategy.parse(mockResource);
+
+        assertEquals(2, result.size());
+        assertTrue(result.stream().anyMatch(d -> d.getDictKey().equals("userStatus.0") && d.getDictDesc().equals("停用")));
+        assertTrue(result.stream().anyMatch(d -> d.getDictKey().equals("userStatus.1") && d.getDictDesc().equals("启用")));
+    }
+
     @Test
     void parseShouldReturnEmptyListWhenResourceNotExists() {
         // 资源不存在时返回空列表
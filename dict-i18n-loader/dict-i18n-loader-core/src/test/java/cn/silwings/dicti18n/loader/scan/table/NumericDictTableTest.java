@@ -0,0 +1,66 @@
+package cn.silwings.dicti18n.loader.scan.table;
+
+import cn.silwings.dicti18n.loader.table.LongKeyMap;
+import cn.silwings.dicti18n.loader.table.NumericDictTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumericDictTableTest {
+
+    @Test
+    void putShouldIndexIntegralCodesByDictName() {
+        // 整数编码按字典名和编码索引, 字典名本身可以包含点号
+        final NumericDictTable<String> table = new NumericDictTable<>();
+        assertTrue(table.put("order_status.1", "Pending"));
+        assertTrue(table.put("order_status.-1", "Cancelled"));
+        assertTrue(table.put("pay.pay_type.0", "Alipay"));
+        assertTrue(table.put("big.9223372036854775807", "Max"));
+
+        assertEquals("Pending", table.get("order_status", 1));
+        assertEquals("Cancelled", table.get("order_status", -1));
+        assertEquals("Alipay", table.get("pay.pay_type", 0));
+        assertNull(table.get("order_status", 2));
+        assertNull(table.get("pay", 0));
+        assertEquals("Max", table.get("big", Long.MAX_VALUE));
+    }
+
+    @Test
+    void putShouldIgnoreNonCanonicalCodes() {
+        // 非整数或非规范写法的编码不索引, 只能通过字符串键查到
+        final NumericDictTable<String> table = new NumericDictTable<>();
+        assertFalse(table.put("order_status.pending", "Pending"));
+        assertFalse(table.put("order_status.01", "Leading zero"));
+        assertFalse(table.put("order_status.+1", "Plus sign"));
+        assertFalse(table.put("order_status.-0", "Negative zero"));
+        assertFalse(table.put("order_status.1e3", "Exponent"));
+        assertFalse(table.put("order_status.9223372036854775808", "Overflow"));
+        assertFalse(table.put("order_status.", "Empty code"));
+        assertFalse(table.put("1", "No dict name"));
+        assertFalse(table.put(null, "Null key"));
+        assertFalse(table.put("order_status.1", null));
+
+        assertTrue(table.isEmpty());
+    }
+
+    @Test
+    void longKeyMapShouldGrowAndReplaceValues() {
+        // 扩容后所有键仍可查到, 重复的键替换旧值
+        final LongKeyMap<String> map = new LongKeyMap<>();
+        for (long key = -1000; key < 1000; key++) {
+            map.put(key * 31, "v" + key);
+        }
+        map.put(0, "zero");
+
+        assertEquals(2000, map.size());
+        for (long key = -1000; key < 1000; key++) {
+            assertEquals(0 == key ? "zero" : "v" + key, map.get(key * 31));
+        }
+        assertNull(map.get(1));
+        assertThrows(IllegalArgumentException.class, () -> map.put(1, null));
+    }
+}
@@ -2,10 +2,12 @@ package cn.silwings.dicti18n.loader.declared;
 
 
 import cn.silwings.dicti18n.dict.Dict;
-import cn.silwings.dicti18n.loader.DictI18nLoader;
+import cn.silwings.dicti18n.loader.DictKey;
+import cn.silwings.dicti18n.loader.InMemoryDictI18nLoader;
 import cn.silwings.dicti18n.loader.declared.config.DeclaredDictI18nLoaderProperties;
 import cn.silwings.dicti18n.loader.declared.dict.DeclaredDict;
 import cn.silwings.dicti18n.loader.scan.DictScanner;
+import cn.silwings.dicti18n.loader.table.NumericDictTable;
 import org.apache.commons.lang3.ArrayUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,10 +20,14 @@ import org.springframework.context.ApplicationContextAware;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A DictI18nLoader implementation that loads all {@link Dict} implementations (enums or JavaBeans)
@@ -39,15 +45,30 @@ import java.util.concurrent.ConcurrentHashMap;
  * Warning: Since it loads at startup, this loader is not suitable for dynamic or multilingual scenarios.
  * </p>
  */
-public class DeclaredDictI18nLoader implements DictI18nLoader, ApplicationContextAware, ApplicationRunner {
+public class DeclaredDictI18nLoader implements InMemoryDictI18nLoader, ApplicationContextAware, ApplicationRunner {
     private static final Logger log = LoggerFactory.getLogger(DeclaredDictI18nLoader.class);
     private final DictScanner dictScanner;
     private final DeclaredDictI18nLoaderProperties declaredDictI18nLoaderProperties;
     private ApplicationContext applicationContext;
     /**
-     * Internal dictionary cache: key = dictName.code, value = Dict instance
+     * Internal dictionary cache: dictName -> code -> Dict instance
      */
-    private final Map<String, Dict> dictData = new ConcurrentHashMap<>();
+    private final Map<String, Map<String, Dict>> dictData = new ConcurrentHashMap<>();
+
+    /**
+     * The items of {@link #dictData} with integral codes, indexed by dictName and code, rebuilt at the end of {@link #init()}
+     */
+    private volatile NumericDictTable<Dict> numericDictData = new NumericDictTable<>();
+
+    /**
+     * The descriptions of {@link #dictData}, rebuilt at the end of {@link #init()}
+     */
+    private volatile Map<String, Map<String, String>> descData = Collections.emptyMap();
+
+    /**
+     * Incremented at the end of every {@link #init()}
+     */
+    private final AtomicLong version = new AtomicLong();
 
     /**
      * Cache of getDesc() method for Dict classes (used only when not implementing DictWithDesc)
@@ -92,7 +113,7 @@ public class DeclaredDictI18nLoader implements DictI18nLoader, ApplicationContex
                         final Dict[] enumConstants = clazz.getEnumConstants();
                         if (ArrayUtils.isNotEmpty(enumConstants)) {
                             for (final Dict constant : enumConstants) {
-                                this.dictData.put(this.processKey(String.format("%s.%s", constant.dictName(), constant.code())), constant);
+                                this.put(constant);
                             }
                         }
                     } else {
@@ -100,13 +121,39 @@ public class DeclaredDictI18nLoader implements DictI18nLoader, ApplicationContex
                             final Constructor<?> constructor = clazz.getDeclaredConstructor();
                             constructor.setAccessible(true);
                             final Dict instance = (Dict) constructor.newInstance();
-                            this.dictData.put(this.processKey(String.format("%s.%s", instance.dictName(), instance.code())), instance);
+                            this.put(instance);
                         } catch (Exception e) {
                             throw new IllegalStateException("[DictI18n] JavaBean Dict class must have a no-arg constructor: " + clazz.getName(), e);
                         }
                     }
                 });
-        log.info("[DictI18n] {} Dict instances have been loaded.", this.dictData.size());
+        final NumericDictTable<Dict> numericDictData = new NumericDictTable<>();
+        final Map<String, Map<String, String>> descData = new HashMap<>();
+        int count = 0;
+        for (final Map.Entry<String, Map<String, Dict>> entry : this.dictData.entrySet()) {
+            final String dictName = entry.getKey();
+            for (final Map.Entry<String, Dict> item : entry.getValue().entrySet()) {
+                numericDictData.put(dictName, item.getKey(), item.getValue());
+                this.getDesc(item.getValue()).ifPresent(desc -> descData.computeIfAbsent(dictName, key -> new HashMap<>()).put(item.getKey(), desc));
+                count++;
+            }
+        }
+        this.numericDictData = numericDictData;
+        this.descData = Collections.unmodifiableMap(descData);
+        this.version.incrementAndGet();
+        log.info("[DictI18n] {} Dict instances have been loaded.", count);
+    }
+
+    /**
+     * Store a dictionary item under the same dictName and code that {@link DictKey#parse(String)} gives for its key.
+     */
+    private void put(final Dict dict) {
+        final String dictName = String.valueOf(dict.dictName());
+        final String code = String.valueOf(dict.code());
+        final DictKey dictKey = DictKey.isSplitAmbiguous(code)
+                ? DictKey.parse(this.processKey(dictName + "." + code))
+                : DictKey.of(this.processKey(dictName), this.processKey(code));
+        this.dictData.computeIfAbsent(dictKey.getDictName(), key -> new ConcurrentHashMap<>()).put(dictKey.getCode(), dict);
     }
 
     /**
@@ -116,6 +163,14 @@ public class DeclaredDictI18nLoader implements DictI18nLoader, ApplicationContex
         return this.declaredDictI18nLoaderProperties.processKey(key);
     }
 
+    /**
+     * @param dictKey normalized key
+     */
+    private Dict find(final DictKey dictKey) {
+        final Map<String, Dict> dicts = this.dictData.get(dictKey.getDictName());
+        return null == dicts ? null : dicts.get(dictKey.getCode());
+    }
+
     /**
      * Gets the base packages to scan for Dict types.
      */
@@ -126,7 +181,7 @@ public class DeclaredDictI18nLoader implements DictI18nLoader, ApplicationContex
     }
 
     /**
-     * Core dict text lookup method.
+     * Compatibility lookup by the flat key, split into dictionary name and code.
      * Ignores the {@code lang} parameter since this loader is not multilingual.
      *
      * @param lang    Unused language parameter
@@ -135,14 +190,121 @@ public class DeclaredDictI18nLoader implements DictI18nLoader, ApplicationContex
      */
     @Override
     public Optional<String> get(final String lang, final String dictKey) {
-        final Dict dict = this.dictData.get(this.processKey(dictKey));
+        if (null == dictKey) {
+            return Optional.empty();
+        }
+        final Dict dict = this.find(DictKey.parse(this.processKey(dictKey)));
         if (null == dict) {
             return Optional.empty();
         }
+        return this.getDesc(dict);
+    }
+
+    @Override
+    public Optional<String> get(final String lang, final String dictName, final String code) {
+        return Optional.ofNullable(this.getOrNull(lang, dictName, code));
+    }
+
+    @Override
+    public Optional<String> get(final String lang, final String dictName, final long code) {
+        return Optional.ofNullable(this.getOrNull(lang, dictName, code));
+    }
+
+    /**
+     * Core dict text lookup method, without building the dictName.code key.
+     *
+     * @param lang     Unused language parameter
+     * @param dictName Dictionary name
+     * @param code     Code
+     * @return text value (description), or null
+     */
+    @Override
+    public String getOrNull(final String lang, final String dictName, final String code) {
+        if (null == dictName || null == code) {
+            return null;
+        }
+        final Dict dict;
+        if (DictKey.isSplitAmbiguous(code)) {
+            dict = this.find(DictKey.parse(this.processKey(dictName + "." + code)));
+        } else {
+            final Map<String, Dict> dicts = this.dictData.get(this.processKey(dictName));
+            dict = null == dicts ? null : dicts.get(this.processKey(code));
+        }
+        return null == dict ? null : this.getDescOrNull(dict);
+    }
 
+    /**
+     * Lookup of an integral code in the numeric table, without building the dictName.code key.
+     *
+     * @param lang     Unused language parameter
+     * @param dictName Dictionary name
+     * @param code     Integral code
+     * @return text value (description), or null
+     */
+    @Override
+    public String getOrNull(final String lang, final String dictName, final long code) {
+        final Dict dict = this.numericDictData.get(this.processKey(dictName), code);
+        return null == dict ? null : this.getDescOrNull(dict);
+    }
+
+    /**
+     * Bulk lookup directly against the in-memory dictionary map.
+     *
+     * @param lang     Unused language parameter
+     * @param dictKeys Full keys in the form of dictName.code
+     * @return Text values found, keyed by the dictionary keys as passed in
+     */
+    @Override
+    public Map<String, String> getAll(final String lang, final Collection<String> dictKeys) {
+        final Map<String, String> result = new HashMap<>();
+        for (final String dictKey : dictKeys) {
+            final Dict dict = null == dictKey ? null : this.find(DictKey.parse(this.processKey(dictKey)));
+            if (null != dict) {
+                this.getDesc(dict).ifPresent(desc -> result.put(dictKey, desc));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * All descriptions, the same in every language.
+     *
+     * @param lang Unused language parameter
+     */
+    @Override
+    public Map<String, Map<String, String>> getEntries(final String lang) {
+        return this.descData;
+    }
+
+    @Override
+    public boolean isLanguageIndependent() {
+        return true;
+    }
+
+    @Override
+    public boolean isIgnoreCase() {
+        return this.declaredDictI18nLoaderProperties.isIgnoreCase();
+    }
+
+    @Override
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    /**
+     * Resolve the description of a declared dictionary item.
+     */
+    private Optional<String> getDesc(final Dict dict) {
+        return Optional.ofNullable(this.getDescOrNull(dict));
+    }
+
+    /**
+     * Resolve the description of a declared dictionary item, null if it has none.
+     */
+    private String getDescOrNull(final Dict dict) {
         // The DictWithDesc interface is preferred
         if (dict instanceof DeclaredDict) {
-            return Optional.ofNullable(((DeclaredDict) dict).getDesc());
+            return ((DeclaredDict) dict).getDesc();
         }
 
         // Reflection probe getDesc method (with caching)
@@ -163,8 +325,7 @@ public class DeclaredDictI18nLoader implements DictI18nLoader, ApplicationContex
 
         if (optionalMethod.isPresent()) {
             try {
-                final String desc = (String) optionalMethod.get().invoke(dict);
-                return Optional.ofNullable(desc);
+                return (String) optionalMethod.get().invoke(dict);
             } catch (Exception e) {
                 log.warn("[DictI18n] Failed to invoke getDesc() on {}: {}", dict.getClass().getName(), e.getMessage());
             }
@@ -172,9 +333,9 @@ public class DeclaredDictI18nLoader implements DictI18nLoader, ApplicationContex
 
         // fallback: enum.name()
         if (dict instanceof Enum<?>) {
-            return Optional.of(((Enum<?>) dict).name());
+            return ((Enum<?>) dict).name();
         }
 
-        return Optional.empty();
+        return null;
     }
 }
\ No newline at end of file
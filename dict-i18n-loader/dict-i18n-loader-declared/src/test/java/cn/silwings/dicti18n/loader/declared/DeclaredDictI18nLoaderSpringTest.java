@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -68,4 +70,40 @@ class DeclaredDictI18nLoaderSpringTest {
         assertEquals(UndeclaredDict.STATUS_OK.name(), result.get());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testNumericCode() {
+        // 测试整数编码查找, 结果与字符串键一致
+        assertEquals(Optional.of(NumericCodeDict.ENABLED.getDesc()), dictI18nLoader.get(null, "NUMERIC_STATUS", 1));
+        assertEquals(dictI18nLoader.get(null, "numeric_status.0"), dictI18nLoader.get(null, "numeric_status", 0));
+        assertFalse(dictI18nLoader.get(null, "numeric_status", 2).isPresent());
+        assertFalse(dictI18nLoader.get(null, "undeclared", 1).isPresent());
+    }
+
+    @Test
+    void testGetByDictNameAndCode() {
+        // 测试按字典名和编码查找, 结果与完整键一致
+        assertEquals(Optional.of(new CustomDict().getDesc()), dictI18nLoader.get(null, "CUSTOM", "KEY"));
+        assertEquals(dictI18nLoader.get(null, "undeclared.OK"), dictI18nLoader.get(null, "undeclared", "OK"));
+        assertFalse(dictI18nLoader.get(null, "undeclared", "MISSING").isPresent());
+    }
+
+    @Test
+    void testGetEntries() {
+        // 测试获取全部描述, 按字典名和编码分组, 与语言无关且与逐个获取一致, 加载后版本发生变化
+        final Map<String, Map<String, String>> entries = dictI18nLoader.getEntries("zh-cn");
+        assertEquals(new CustomDict().getDesc(), entries.get("custom").get("key"));
+        assertEquals(dictI18nLoader.get(null, "undeclared.OK").orElse(null), entries.get("undeclared").get("ok"));
+        assertEquals(entries, dictI18nLoader.getEntries("en-us"));
+        assertTrue(dictI18nLoader.getVersion() > 0);
+    }
+
+    @Test
+    void testGetAll() {
+        // 测试批量获取, 结果以传入的键为key, 不存在的键不返回
+        final Map<String, String> result = dictI18nLoader.getAll(null, Arrays.asList("CUSTOM.KEY", "undeclared.OK", "NON.EXISTENT"));
+        assertEquals(2, result.size());
+        assertEquals(new CustomDict().getDesc(), result.get("CUSTOM.KEY"));
+        assertEquals(UndeclaredDict.STATUS_OK.name(), result.get("undeclared.OK"));
+    }
+
+}
@@ -0,0 +1,32 @@
+package cn.silwings.dicti18n.loader.declared;
+
+import cn.silwings.dicti18n.loader.declared.dict.DeclaredDict;
+
+// 测试用整数编码字典
+public enum NumericCodeDict implements DeclaredDict {
+    DISABLED(0, "Disabled"),
+    ENABLED(1, "Enabled");
+
+    private final int code;
+    private final String desc;
+
+    NumericCodeDict(final int code, final String desc) {
+        this.code = code;
+        this.desc = desc;
+    }
+
+    @Override
+    public String dictName() {
+        return "numeric_status";
+    }
+
+    @Override
+    public String code() {
+        return String.valueOf(this.code);
+    }
+
+    @Override
+    public String getDesc() {
+        return this.desc;
+    }
+}
@@ -1,28 +1,40 @@
 package cn.silwings.dicti18n.loader.file;
 
 import cn.silwings.dicti18n.loader.ClassPathDictI18nLoader;
+import cn.silwings.dicti18n.loader.DictKey;
+import cn.silwings.dicti18n.loader.InMemoryDictI18nLoader;
 import cn.silwings.dicti18n.loader.file.config.FileDictI18nLoaderProperties;
 import cn.silwings.dicti18n.loader.parser.DictFileParser;
 import cn.silwings.dicti18n.loader.parser.DictInfo;
+import cn.silwings.dicti18n.loader.table.NumericDictTable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 
 import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * A universal Loader for dictionary resources from paths such as classpath, file, http(s), etc.
  */
-public class FileDictI18nLoader implements ClassPathDictI18nLoader {
+public class FileDictI18nLoader implements ClassPathDictI18nLoader, InMemoryDictI18nLoader {
 
     private static final Logger log = LoggerFactory.getLogger(FileDictI18nLoader.class);
     private final FileDictI18nLoaderProperties fileDictI18nLoaderProperties;
     private final DictFileParser dictFileParser;
-    private final Map<String, Map<String, String>> dictData;
+    // lang -> dictName -> code -> desc
+    private final Map<String, Map<String, Map<String, String>>> dictData;
+    // lang -> items of dictData with integral codes, rebuilt once all resources are loaded
+    private volatile Map<String, NumericDictTable<String>> numericDictData = Collections.emptyMap();
+    // Incremented once all resources are loaded
+    private final AtomicLong version = new AtomicLong();
 
     public FileDictI18nLoader(final FileDictI18nLoaderProperties fileDictI18nLoaderProperties, final DictFileParser dictFileParser) {
         this.fileDictI18nLoaderProperties = fileDictI18nLoaderProperties;
@@ -47,11 +59,25 @@ public class FileDictI18nLoader implements ClassPathDictI18nLoader {
             }
             final List<DictInfo> dictInfoList = this.dictFileParser.parse(resource);
 
-            final Map<String, String> langDictMap = this.dictData.computeIfAbsent(lang, key -> new ConcurrentHashMap<>());
+            final Map<String, Map<String, String>> langDictMap = this.dictData.computeIfAbsent(lang, key -> new ConcurrentHashMap<>());
             dictInfoList.stream()
                     .filter(DictInfo::isValid)
-                    .forEach(dictInfo -> langDictMap.put(this.fileDictI18nLoaderProperties.processKey(dictInfo.getDictKey()), dictInfo.getDictDesc()));
+                    .forEach(dictInfo -> {
+                        final DictKey dictKey = DictKey.parse(this.fileDictI18nLoaderProperties.processKey(dictInfo.getDictKey()));
+                        langDictMap.computeIfAbsent(dictKey.getDictName(), key -> new ConcurrentHashMap<>()).put(dictKey.getCode(), dictInfo.getDictDesc());
+                    });
         }
+
+        final Map<String, NumericDictTable<String>> numericDictData = new HashMap<>();
+        this.dictData.forEach((lang, langDictMap) -> {
+            final NumericDictTable<String> table = new NumericDictTable<>();
+            langDictMap.forEach((dictName, descs) -> descs.forEach((code, desc) -> table.put(dictName, code, desc)));
+            if (!table.isEmpty()) {
+                numericDictData.put(lang, table);
+            }
+        });
+        this.numericDictData = numericDictData;
+        this.version.incrementAndGet();
     }
 
     @Override
@@ -59,14 +85,98 @@ public class FileDictI18nLoader implements ClassPathDictI18nLoader {
         return "file";
     }
 
+    /**
+     * Compatibility lookup by the flat key, split into dictionary name and code.
+     */
     @Override
     public Optional<String> get(final String lang, final String dictKey) {
         if (null == lang || lang.isEmpty() || null == dictKey || dictKey.isEmpty()) {
             return Optional.empty();
         }
-        if (this.dictData.containsKey(lang)) {
-            return Optional.ofNullable(this.dictData.get(lang).get(this.fileDictI18nLoaderProperties.processKey(dictKey)));
+        return Optional.ofNullable(this.find(this.dictData.get(lang), DictKey.parse(this.fileDictI18nLoaderProperties.processKey(dictKey))));
+    }
+
+    @Override
+    public Optional<String> get(final String lang, final String dictName, final String code) {
+        return Optional.ofNullable(this.getOrNull(lang, dictName, code));
+    }
+
+    @Override
+    public Optional<String> get(final String lang, final String dictName, final long code) {
+        return Optional.ofNullable(this.getOrNull(lang, dictName, code));
+    }
+
+    @Override
+    public String getOrNull(final String lang, final String dictName, final String code) {
+        if (null == lang || lang.isEmpty() || null == dictName || dictName.isEmpty() || null == code) {
+            return null;
+        }
+        if (DictKey.isSplitAmbiguous(code)) {
+            return this.find(this.dictData.get(lang), DictKey.parse(this.fileDictI18nLoaderProperties.processKey(dictName + "." + code)));
+        }
+        final Map<String, Map<String, String>> langDictMap = this.dictData.get(lang);
+        if (null == langDictMap) {
+            return null;
+        }
+        final Map<String, String> descs = langDictMap.get(this.fileDictI18nLoaderProperties.processKey(dictName));
+        return null == descs ? null : descs.get(this.fileDictI18nLoaderProperties.processKey(code));
+    }
+
+    @Override
+    public String getOrNull(final String lang, final String dictName, final long code) {
+        if (null == lang || lang.isEmpty() || null == dictName || dictName.isEmpty()) {
+            return null;
+        }
+        final NumericDictTable<String> table = this.numericDictData.get(lang);
+        return null == table ? null : table.get(this.fileDictI18nLoaderProperties.processKey(dictName), code);
+    }
+
+    @Override
+    public Map<String, Map<String, String>> getEntries(final String lang) {
+        final Map<String, Map<String, String>> langDictMap = null == lang ? null : this.dictData.get(lang);
+        return null == langDictMap ? Collections.emptyMap() : Collections.unmodifiableMap(langDictMap);
+    }
+
+    @Override
+    public boolean isIgnoreCase() {
+        return this.fileDictI18nLoaderProperties.isIgnoreCase();
+    }
+
+    @Override
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    @Override
+    public Map<String, String> getAll(final String lang, final Collection<String> dictKeys) {
+        if (null == lang || lang.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final Map<String, Map<String, String>> langDictMap = this.dictData.get(lang);
+        if (null == langDictMap) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> result = new HashMap<>();
+        for (final String dictKey : dictKeys) {
+            if (null != dictKey && !dictKey.isEmpty()) {
+                final String desc = this.find(langDictMap, DictKey.parse(this.fileDictI18nLoaderProperties.processKey(dictKey)));
+                if (null != desc) {
+                    result.put(dictKey, desc);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param langDictMap items of a language, may be null
+     * @param dictKey     normalized key
+     */
+    private String find(final Map<String, Map<String, String>> langDictMap, final DictKey dictKey) {
+        if (null == langDictMap) {
+            return null;
         }
-        return Optional.empty();
+        final Map<String, String> descs = langDictMap.get(dictKey.getDictName());
+        return null == descs ? null : descs.get(dictKey.getCode());
     }
 }
\ No newline at end of file
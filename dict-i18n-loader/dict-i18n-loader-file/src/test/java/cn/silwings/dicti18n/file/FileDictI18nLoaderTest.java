@@ -5,10 +5,13 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @SpringBootTest(classes = TestApp.class)
@@ -99,4 +102,51 @@ class FileDictI18nLoaderTest {
         assertFalse(result.isPresent());
     }
 
-}
\ No newline at end of file
+    @Test
+    void testGetNumericCode() {
+        // 测试整数编码查找, 结果与字符串键一致
+        assertEquals(Optional.of("Male"), loader.get("en-us", "user_gender", 1));
+        assertEquals(Optional.of("未知"), loader.get("zh-cn", "USER_GENDER", 0));
+        assertEquals(loader.get("zh-cn", "user_gender.2"), loader.get("zh-cn", "user_gender", 2));
+        assertFalse(loader.get("en-us", "user_gender", 3).isPresent());
+        assertFalse(loader.get("en-us", "order_status", 1).isPresent());
+        assertFalse(loader.get("fr", "user_gender", 1).isPresent());
+    }
+
+    @Test
+    void testGetByDictNameAndCode() {
+        // 测试按字典名和编码查找, 结果与完整键一致, 忽略大小写
+        assertEquals(Optional.of("Pending"), loader.get("en-us", "order_status", "pending"));
+        assertEquals(Optional.of("WeChat Pay"), loader.get("en-us", "PAY.PAY_TYPE", "WECHAT"));
+        assertEquals(loader.get("zh-cn", "pay.pay_type.alipay"), loader.get("zh-cn", "pay.pay_type", "alipay"));
+        assertEquals(loader.get("en-us", "pay.pay_type.wechat"), loader.get("en-us", "pay", "pay_type.wechat"));
+        assertFalse(loader.get("en-us", "order_status", "unknown").isPresent());
+        assertFalse(loader.get("fr", "order_status", "pending").isPresent());
+        assertEquals("Pending", loader.getOrNull("en-us", "ORDER_STATUS", "pending"));
+        assertEquals("Male", loader.getOrNull("en-us", "user_gender", 1L));
+        assertNull(loader.getOrNull("en-us", "order_status", "unknown"));
+    }
+
+    @Test
+    void testGetEntries() {
+        // 测试获取某语言的全部翻译, 按字典名和编码分组, 与逐个获取一致, 加载后版本发生变化
+        final Map<String, Map<String, String>> entries = loader.getEntries("en-us");
+        assertEquals(loader.get("en-us", "order_status.pending").orElse(null), entries.get("order_status").get("pending"));
+        assertEquals("WeChat Pay", entries.get("pay.pay_type").get("wechat"));
+        assertTrue(loader.getEntries("fr").isEmpty());
+        assertTrue(loader.isIgnoreCase());
+        assertTrue(loader.getVersion() > 0);
+    }
+
+    @Test
+    void testGetAll() {
+        // 测试批量获取, 结果与逐个获取一致, 不存在的键不返回
+        final Map<String, String> result = loader.getAll("en-us", Arrays.asList("order_status.pending", "pay.pay_type.wechat", "non.existent"));
+        assertEquals(2, result.size());
+        assertEquals("Pending", result.get("order_status.pending"));
+        assertEquals("WeChat Pay", result.get("pay.pay_type.wechat"));
+
+        assertTrue(loader.getAll("fr", Arrays.asList("order_status.pending")).isEmpty());
+    }
+
+}
@@ -8,6 +8,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -39,6 +45,18 @@ public class RedisDictI18nLoader implements ClassPathDictI18nLoader {
         return this.redisDictI18nLoaderProperties.getKeyPrefix() + ":" + lang + ":" + this.redisDictI18nLoaderProperties.processKey(dictKey);
     }
 
+    /**
+     * Same storage key as {@link #processKey(String, String)} for the key dictName.code, built in a single pass
+     */
+    public String processKey(final String lang, final String dictName, final String code) {
+        return new StringBuilder()
+                .append(this.redisDictI18nLoaderProperties.getKeyPrefix()).append(':')
+                .append(lang).append(':')
+                .append(this.redisDictI18nLoaderProperties.processKey(dictName)).append('.')
+                .append(this.redisDictI18nLoaderProperties.processKey(code))
+                .toString();
+    }
+
     @Override
     public String loaderName() {
         return "redis";
@@ -49,13 +67,62 @@ public class RedisDictI18nLoader implements ClassPathDictI18nLoader {
      */
     @Override
     public Optional<String> get(final String lang, final String dictKey) {
-        final String redisKey = this.processKey(lang, dictKey);
+        return Optional.ofNullable(this.query(this.processKey(lang, dictKey)));
+    }
+
+    @Override
+    public Optional<String> get(final String lang, final String dictName, final String code) {
+        return Optional.ofNullable(this.getOrNull(lang, dictName, code));
+    }
+
+    /**
+     * Retrieve the dictionary value of an item without building the intermediate dictName.code key
+     */
+    @Override
+    public String getOrNull(final String lang, final String dictName, final String code) {
+        return this.query(this.processKey(lang, dictName, code));
+    }
+
+    private String query(final String redisKey) {
         try {
-            return Optional.ofNullable(this.redisTemplate.opsForValue().get(redisKey));
+            return this.redisTemplate.opsForValue().get(redisKey);
+        } catch (Exception e) {
+            if (ErrorHandlingStrategy.IGNORE.equals(redisDictI18nLoaderProperties.getErrorHandlingStrategy())) {
+                log.debug("[DictI18n] Redis query failure: {}", e.getMessage(), e);
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Retrieve dictionary values of many keys for the specified language with a single MGET
+     */
+    @Override
+    public Map<String, String> getAll(final String lang, final Collection<String> dictKeys) {
+        if (dictKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        final List<String> keys = new ArrayList<>(dictKeys);
+        final List<String> redisKeys = new ArrayList<>(keys.size());
+        for (final String dictKey : keys) {
+            redisKeys.add(this.processKey(lang, dictKey));
+        }
+        try {
+            final List<String> values = this.redisTemplate.opsForValue().multiGet(redisKeys);
+            final Map<String, String> result = new HashMap<>();
+            if (null != values) {
+                for (int i = 0; i < keys.size() && i < values.size(); i++) {
+                    if (null != values.get(i)) {
+                        result.put(keys.get(i), values.get(i));
+                    }
+                }
+            }
+            return result;
         } catch (Exception e) {
             if (ErrorHandlingStrategy.IGNORE.equals(redisDictI18nLoaderProperties.getErrorHandlingStrategy())) {
                 log.debug("[DictI18n] Redis query failure: {}", e.getMessage(), e);
-                return Optional.empty();
+                return Collections.emptyMap();
             }
             throw e;
         }
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -98,4 +100,23 @@ public class RedisDictI18nLoaderTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void testGetByDictNameAndCode() {
+        // 测试按字典名和编码查找, 存储键与完整键一致
+        assertEquals(loader.processKey("en-us", "pay.pay_type.wechat"), loader.processKey("en-us", "PAY.PAY_TYPE", "WECHAT"));
+        assertEquals(Optional.of("WeChat Pay"), loader.get("en-us", "pay.pay_type", "wechat"));
+        assertFalse(loader.get("en-us", "non", "existent").isPresent());
+    }
+
+    @Test
+    void testGetAll() {
+        // 测试批量获取, 结果与逐个获取一致, 不存在的键不返回
+        final Map<String, String> result = loader.getAll("en-us", Arrays.asList("order_status.pending", "pay.pay_type.wechat", "non.existent"));
+        assertEquals(2, result.size());
+        assertEquals("Pending", result.get("order_status.pending"));
+        assertEquals("WeChat Pay", result.get("pay.pay_type.wechat"));
+
+        assertTrue(loader.getAll("fr", Arrays.asList("order_status.pending")).isEmpty());
+    }
+
 }
@@ -10,6 +10,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 public class MockValueOperations implements ValueOperations<String, String> {
 
@@ -91,7 +92,7 @@ public class MockValueOperations implements ValueOperations<String, String> {
 
     @Override
     public List<String> multiGet(final Collection<String> keys) {
-        return Collections.emptyList();
+        return keys.stream().map(this.mockStringRedisTemplate::get).collect(Collectors.toList());
     }
 
     @Override
@@ -2,6 +2,7 @@ package cn.silwings.dicti18n.loader.sql;
 
 import cn.silwings.dicti18n.loader.ClassPathDictI18nLoader;
 import cn.silwings.dicti18n.loader.cache.DictDescGetter;
+import cn.silwings.dicti18n.loader.cache.DictDescsGetter;
 import cn.silwings.dicti18n.loader.cache.DictI18nLoaderCacheProvider;
 import cn.silwings.dicti18n.loader.enums.ErrorHandlingStrategy;
 import cn.silwings.dicti18n.loader.sql.config.SqlDictI18nLoaderProperties;
@@ -10,7 +11,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.EmptyResultDataAccessException;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -49,6 +57,18 @@ public class SqlDictI18nLoader implements ClassPathDictI18nLoader {
         return this.dictI18nLoaderCacheProvider.getDesc(lang, dictKey, this.getDatabaseQuery());
     }
 
+    /**
+     * Get the internationalized descriptions of many keys in the specified language
+     * Fetch from cache first, all cache misses are loaded with chunked {@code dict_key IN (...)} queries.
+     */
+    @Override
+    public Map<String, String> getAll(final String lang, final Collection<String> dictKeys) {
+        if (dictKeys.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return this.dictI18nLoaderCacheProvider.getDescs(lang, dictKeys, this.getDatabaseBatchQuery());
+    }
+
     /**
      * Get database query function
      * This function defines how to query dictionary data from the database.
@@ -76,4 +96,66 @@ public class SqlDictI18nLoader implements ClassPathDictI18nLoader {
         };
     }
 
-}
\ No newline at end of file
+    /**
+     * Get database bulk query function
+     * This function queries dictionary data of many keys from the database, at most
+     * {@link SqlDictI18nLoaderProperties#getQueryBatchSize()} keys per query.
+     *
+     * @return database bulk query function
+     */
+    public DictDescsGetter getDatabaseBatchQuery() {
+        return (lang, dictKeys) -> {
+            final Map<String, String> result = new HashMap<>();
+            final List<String> keys = new ArrayList<>(dictKeys);
+            final int batchSize = Math.max(1, this.sqlDictI18nLoaderProperties.getQueryBatchSize());
+            try {
+                for (int from = 0; from < keys.size(); from += batchSize) {
+                    final List<String> chunk = keys.subList(from, Math.min(from + batchSize, keys.size()));
+                    final String sql = "SELECT dict_key, description FROM dict_i18n WHERE lang = ? AND enabled = 1 AND dict_key IN (" +
+                            String.join(",", Collections.nCopies(chunk.size(), "?")) + ")";
+
+                    final List<String> params = new ArrayList<>(chunk.size() + 1);
+                    // The first parameter of SQL is the language code.
+                    params.add(lang);
+                    params.addAll(chunk);
+
+                    this.collect(chunk, this.sqlTemplate.query(sql, rs -> new String[]{rs.getString("dict_key"), rs.getString("description")}, params), result);
+                }
+                return result;
+            } catch (Exception e) {
+                if (ErrorHandlingStrategy.IGNORE.equals(this.sqlDictI18nLoaderProperties.getErrorHandlingStrategy())) {
+                    log.debug("[DictI18n] SQL query error: {}", e.getMessage(), e);
+                    return result;
+                } else {
+                    throw e;
+                }
+            }
+        };
+    }
+
+    /**
+     * Map the rows of a chunk back to the requested keys they matched.
+     * Under a case-insensitive collation the database may return a key spelled differently than requested, the
+     * descriptions are therefore keyed by the requested keys: an exact match first, otherwise a match ignoring case.
+     */
+    private void collect(final List<String> chunk, final List<String[]> rows, final Map<String, String> result) {
+        final Map<String, String> exact = new HashMap<>();
+        final Map<String, String> ignoreCase = new HashMap<>();
+        for (final String[] row : rows) {
+            if (null != row[0] && null != row[1]) {
+                exact.putIfAbsent(row[0], row[1]);
+                ignoreCase.putIfAbsent(row[0].toLowerCase(Locale.ROOT), row[1]);
+            }
+        }
+        for (final String key : chunk) {
+            String desc = exact.get(key);
+            if (null == desc) {
+                desc = ignoreCase.get(key.toLowerCase(Locale.ROOT));
+            }
+            if (null != desc) {
+                result.putIfAbsent(key, desc);
+            }
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 package cn.silwings.dicti18n.loader.sql.cache;
 
 import cn.silwings.dicti18n.loader.cache.DictDescGetter;
+import cn.silwings.dicti18n.loader.cache.DictDescsGetter;
 import cn.silwings.dicti18n.loader.cache.DictI18nLoaderCacheProvider;
 import cn.silwings.dicti18n.loader.sql.config.SqlDictI18nLoaderProperties;
 import com.google.common.cache.Cache;
@@ -8,6 +9,13 @@ import com.google.common.cache.CacheBuilder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -15,7 +23,7 @@ import java.util.concurrent.TimeUnit;
 public class GuavaDictI18nLoaderCacheProvider implements DictI18nLoaderCacheProvider {
 
     private static final Logger log = LoggerFactory.getLogger(GuavaDictI18nLoaderCacheProvider.class);
-    private final Cache<String, Optional<String>> cache;
+    private final Cache<CacheKey, Optional<String>> cache;
 
     public GuavaDictI18nLoaderCacheProvider(final SqlDictI18nLoaderProperties.SqlDictI18nLoaderCacheProperties sqlDictI18nLoaderCacheProperties) {
         this.cache = CacheBuilder.newBuilder()
@@ -26,7 +34,7 @@ public class GuavaDictI18nLoaderCacheProvider implements DictI18nLoaderCacheProv
 
     @Override
     public Optional<String> getDesc(final String lang, final String key, final DictDescGetter dbQuery) {
-        final String cacheKey = this.generateCacheKey(lang, key);
+        final CacheKey cacheKey = this.generateCacheKey(lang, key);
         try {
             return this.cache.get(cacheKey, () -> {
                 try {
@@ -41,7 +49,77 @@ public class GuavaDictI18nLoaderCacheProvider implements DictI18nLoaderCacheProv
         }
     }
 
-    private String generateCacheKey(String lang, String key) {
-        return lang + "." + key;
+    /**
+     * Serve cached keys from the cache and load all misses with a single bulk query.
+     * Keys not found in the database are cached as empty, the same as in {@link #getDesc}.
+     */
+    @Override
+    public Map<String, String> getDescs(final String lang, final Collection<String> keys, final DictDescsGetter dbQuery) {
+        final Map<String, String> result = new HashMap<>();
+        final List<String> misses = new ArrayList<>();
+        for (final String key : keys) {
+            final Optional<String> cached = this.cache.getIfPresent(this.generateCacheKey(lang, key));
+            if (null == cached) {
+                misses.add(key);
+            } else {
+                cached.ifPresent(desc -> result.put(key, desc));
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        Map<String, String> loaded;
+        try {
+            loaded = dbQuery.get(lang, misses);
+        } catch (Exception e) {
+            log.error("[DictI18n] Failed to query internationalized dictionary data from the database: {}", e.getMessage(), e);
+            loaded = Collections.emptyMap();
+        }
+
+        for (final String key : misses) {
+            final Optional<String> desc = Optional.ofNullable(loaded.get(key));
+            this.cache.put(this.generateCacheKey(lang, key), desc);
+            desc.ifPresent(value -> result.put(key, value));
+        }
+        return result;
+    }
+
+    private CacheKey generateCacheKey(String lang, String key) {
+        return new CacheKey(lang, key);
+    }
+
+    /**
+     * Cache key of a dictionary key in a language, compared field by field instead of building a lang.key string.
+     */
+    private static final class CacheKey {
+
+        private final String lang;
+        private final String key;
+        private final int hash;
+
+        private CacheKey(final String lang, final String key) {
+            this.lang = lang;
+            this.key = key;
+            this.hash = 31 * Objects.hashCode(lang) + Objects.hashCode(key);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey other = (CacheKey) o;
+            return this.hash == other.hash && Objects.equals(this.lang, other.lang) && Objects.equals(this.key, other.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
     }
 }
@@ -1,8 +1,11 @@
 package cn.silwings.dicti18n.loader.sql.cache;
 
 import cn.silwings.dicti18n.loader.cache.DictDescGetter;
+import cn.silwings.dicti18n.loader.cache.DictDescsGetter;
 import cn.silwings.dicti18n.loader.cache.DictI18nLoaderCacheProvider;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public class NoCacheDictCacheProvider implements DictI18nLoaderCacheProvider {
@@ -10,4 +13,9 @@ public class NoCacheDictCacheProvider implements DictI18nLoaderCacheProvider {
     public Optional<String> getDesc(final String lang, final String dictKey, final DictDescGetter dbQuery) {
         return dbQuery.get(lang, dictKey);
     }
+
+    @Override
+    public Map<String, String> getDescs(final String lang, final Collection<String> dictKeys, final DictDescsGetter dbQuery) {
+        return dbQuery.get(lang, dictKeys);
+    }
 }
\ No newline at end of file
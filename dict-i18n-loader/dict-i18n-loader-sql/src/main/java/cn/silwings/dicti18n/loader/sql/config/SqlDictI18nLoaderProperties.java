@@ -29,6 +29,12 @@ public class SqlDictI18nLoaderProperties extends AbstractDictI18nLoaderPropertie
      */
     private ErrorHandlingStrategy errorHandlingStrategy = ErrorHandlingStrategy.FAIL;
 
+    /**
+     * Maximum number of keys in a single {@code dict_key IN (...)} query when keys are resolved in bulk.
+     * Larger key sets are split into several queries.
+     */
+    private int queryBatchSize = 500;
+
     /**
      * Preload properties.
      */
@@ -1,16 +1,29 @@
 package cn.silwings.dicti18n.loader.sql;
 
+import cn.silwings.dicti18n.loader.sql.cache.GuavaDictI18nLoaderCacheProvider;
+import cn.silwings.dicti18n.loader.sql.config.SqlDictI18nLoaderProperties;
+import cn.silwings.dicti18n.loader.sql.db.SQLTemplate;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyList;
+import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = TestApp.class, properties = "dict-i18n.loader.sql.cache.enabled=true")
 @EnableAutoConfiguration(exclude = {DataSourceAutoConfiguration.class})
@@ -101,4 +114,35 @@ public class SqlDictI18nLoaderCacheTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void testGetAllUsesCache() {
+        // 测试批量获取时已缓存的键与未缓存的键均能正确返回
+        final Optional<String> cached = loader.get("zh-cn", "order_status.pending");
+        assertTrue(cached.isPresent());
+
+        final Map<String, String> result = loader.getAll("zh-cn", Arrays.asList("order_status.pending", "order_status.shipped", "non.existent"));
+        assertEquals(2, result.size());
+        assertEquals("待处理", result.get("order_status.pending"));
+        assertEquals("已发货", result.get("order_status.shipped"));
+
+        // 第二次批量获取全部命中缓存, 包括不存在的键
+        assertEquals(result, loader.getAll("zh-cn", Arrays.asList("order_status.pending", "order_status.shipped", "non.existent")));
+    }
+
+    @Test
+    void testGetAllKeysResultsByRequestedKey() {
+        // 测试数据库按不区分大小写的排序规则返回了大小写不同的键时, 结果与缓存仍以请求的键为准, 不会缓存为不存在
+        final SQLTemplate sqlTemplate = mock(SQLTemplate.class);
+        when(sqlTemplate.<String[]>query(anyString(), any(), anyList())).thenReturn(Collections.singletonList(new String[]{"ORDER_STATUS.PENDING", "待处理"}));
+        final SqlDictI18nLoaderProperties properties = new SqlDictI18nLoaderProperties();
+        final SqlDictI18nLoader caseInsensitiveLoader = new SqlDictI18nLoader(sqlTemplate, new GuavaDictI18nLoaderCacheProvider(properties.getCache()), properties);
+
+        final Map<String, String> result = caseInsensitiveLoader.getAll("zh-cn", Arrays.asList("order_status.pending", "non.existent"));
+        assertEquals(Collections.singletonMap("order_status.pending", "待处理"), result);
+
+        // 单个获取命中批量查询写入的缓存, 不再查询数据库
+        assertEquals(Optional.of("待处理"), caseInsensitiveLoader.get("zh-cn", "order_status.pending"));
+        verify(sqlTemplate, never()).queryForObject(anyString(), any(), anyList());
+    }
+
 }
@@ -6,13 +6,15 @@ import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-@SpringBootTest(classes = TestApp.class, properties = "dict-i18n.loader.sql.cache.enabled=false")
+@SpringBootTest(classes = TestApp.class, properties = {"dict-i18n.loader.sql.cache.enabled=false", "dict-i18n.loader.sql.query-batch-size=1"})
 @EnableAutoConfiguration(exclude = {DataSourceAutoConfiguration.class})
 public class SqlDictI18nLoaderTest {
 
@@ -101,4 +103,15 @@ public class SqlDictI18nLoaderTest {
         assertFalse(result.isPresent());
     }
 
+    @Test
+    void testGetAll() {
+        // 测试批量获取, 结果与逐个获取一致, 不存在的键不返回
+        final Map<String, String> result = loader.getAll("en-us", Arrays.asList("order_status.pending", "pay.pay_type.wechat", "non.existent"));
+        assertEquals(2, result.size());
+        assertEquals("Pending", result.get("order_status.pending"));
+        assertEquals("WeChat Pay", result.get("pay.pay_type.wechat"));
+
+        assertTrue(loader.getAll("fr", Arrays.asList("order_status.pending")).isEmpty());
+    }
+
 }
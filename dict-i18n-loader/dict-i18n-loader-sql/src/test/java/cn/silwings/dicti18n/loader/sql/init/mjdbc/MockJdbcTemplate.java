@@ -43,6 +43,13 @@ public class MockJdbcTemplate implements SQLTemplate {
                     .map(s -> (T) s.substring(s.lastIndexOf(".") + 1))
                     .collect(Collectors.toList());
         }
+        if (selectSql.startsWith("SELECT dict_key, description FROM dict_i18n WHERE lang = ? AND enabled = 1 AND dict_key IN (")) {
+            final String language = (String) args.get(0);
+            return args.stream().skip(1)
+                    .filter(arg -> this.cache.containsKey(language + "." + arg))
+                    .map(arg -> (T) new String[]{(String) arg, this.cache.get(language + "." + arg)})
+                    .collect(Collectors.toList());
+        }
         return Collections.emptyList();
     }
 
@@ -0,0 +1,134 @@
+package cn.silwings.dicti18n.mybatis;
+
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.cache.decorators.SerializedCache;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.lang.reflect.Field;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * MyBatis interceptor filling the {@code @DictDesc} fields of query results in the language of the current context,
+ * so mapped objects leave the mapper already translated and need no second walk later on.
+ * <p>
+ * Whether the result types of a statement can hold anything to translate is decided once per statement, statements
+ * returning maps or plain values pass through untouched. The rows of a result list are translated with a single walk
+ * and one batched lookup per result set. Rows streamed to a {@link ResultHandler} are translated one by one before
+ * they are handed over.
+ * <p>
+ * Results are translated in place. Statements served by a second-level cache that hands out its entries instead of
+ * copies ({@code readOnly="true"}, or a custom cache type) are therefore passed through untouched, since translating
+ * them would rewrite instances shared by all callers.
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class})
+})
+public class DictI18nInterceptor implements Interceptor {
+
+    private static final int RESULT_HANDLER_INDEX = 3;
+
+    private final DictI18nProcessor processor;
+
+    private final Supplier<String> languageSupplier;
+
+    // Statement id -> whether its result types may hold desc fields
+    private final ConcurrentMap<String, Boolean> translatableStatements = new ConcurrentHashMap<>();
+
+    /**
+     * @param languageSupplier language of the current context, e.g. the locale of the current request; results are left
+     *                         untouched while it returns null
+     */
+    public DictI18nInterceptor(final DictI18nProcessor processor, final Supplier<String> languageSupplier) {
+        this.processor = Objects.requireNonNull(processor, "processor");
+        this.languageSupplier = Objects.requireNonNull(languageSupplier, "languageSupplier");
+    }
+
+    @Override
+    public Object intercept(final Invocation invocation) throws Throwable {
+        final Object[] args = invocation.getArgs();
+        final MappedStatement mappedStatement = (MappedStatement) args[0];
+        if (!this.isTranslatable(mappedStatement)) {
+            return invocation.proceed();
+        }
+        final String language = this.languageSupplier.get();
+        if (null == language) {
+            return invocation.proceed();
+        }
+
+        final ResultHandler<?> resultHandler = (ResultHandler<?>) args[RESULT_HANDLER_INDEX];
+        if (null != resultHandler) {
+            args[RESULT_HANDLER_INDEX] = new TranslatingResultHandler<>(this.processor, language, resultHandler);
+            return invocation.proceed();
+        }
+
+        final Object result = invocation.proceed();
+        if (result instanceof Collection<?> && !((Collection<?>) result).isEmpty()) {
+            this.processor.processAll(result, Collections.singleton(language)).apply(language);
+        }
+        return result;
+    }
+
+    private boolean isTranslatable(final MappedStatement mappedStatement) {
+        final Boolean translatable = this.translatableStatements.get(mappedStatement.getId());
+        if (null != translatable) {
+            return translatable;
+        }
+        return this.translatableStatements.computeIfAbsent(mappedStatement.getId(),
+                id -> !hasSharedCache(mappedStatement) && this.hasTranslatableResultType(mappedStatement.getResultMaps()));
+    }
+
+    private static boolean hasSharedCache(final MappedStatement mappedStatement) {
+        if (!mappedStatement.isUseCache() || null == mappedStatement.getCache()) {
+            return false;
+        }
+        // Read-write caches are the ones decorated with a SerializedCache, which hands out a copy on every hit
+        for (Cache cache = mappedStatement.getCache(); null != cache; cache = delegateOf(cache)) {
+            if (cache instanceof SerializedCache) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Cache delegateOf(final Cache cache) {
+        // The MyBatis decorators keep the decorated cache in a private field and do not expose it
+        try {
+            final Field delegate = cache.getClass().getDeclaredField("delegate");
+            delegate.setAccessible(true);
+            final Object value = delegate.get(cache);
+            return value instanceof Cache ? (Cache) value : null;
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private boolean hasTranslatableResultType(final List<ResultMap> resultMaps) {
+        for (final ResultMap resultMap : resultMaps) {
+            final Class<?> type = resultMap.getType();
+            // Map rows only hold column values
+            if (null != type && !Map.class.isAssignableFrom(type) && this.processor.isProcessable(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
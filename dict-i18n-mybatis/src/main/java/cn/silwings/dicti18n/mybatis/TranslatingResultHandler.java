@@ -0,0 +1,27 @@
+package cn.silwings.dicti18n.mybatis;
+
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+/**
+ * Translates each row before handing it to the result handler of the caller.
+ */
+class TranslatingResultHandler<T> implements ResultHandler<T> {
+
+    private final DictI18nProcessor processor;
+    private final String language;
+    private final ResultHandler<T> delegate;
+
+    TranslatingResultHandler(final DictI18nProcessor processor, final String language, final ResultHandler<T> delegate) {
+        this.processor = processor;
+        this.language = language;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void handleResult(final ResultContext<? extends T> resultContext) {
+        this.processor.process(resultContext.getResultObject(), this.language);
+        this.delegate.handleResult(resultContext);
+    }
+}
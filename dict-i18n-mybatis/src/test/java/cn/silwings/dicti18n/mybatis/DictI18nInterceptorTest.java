@@ -0,0 +1,216 @@
+package cn.silwings.dicti18n.mybatis;
+
+import cn.silwings.dicti18n.annotation.DictDesc;
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.dict.Dict;
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.mapping.CacheBuilder;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 测试DictI18nInterceptor类中的方法
+ * Test methods in DictI18nInterceptor class
+ */
+public class DictI18nInterceptorTest {
+
+    private static final Method QUERY;
+
+    static {
+        try {
+            QUERY = Executor.class.getMethod("query", MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final Configuration configuration = new Configuration();
+    private final DictI18nProvider provider = mock(DictI18nProvider.class);
+    private final Executor executor = mock(Executor.class);
+    private final DictI18nInterceptor interceptor = new DictI18nInterceptor(new DictI18nProcessor(this.provider, new DictI18nProperties()), () -> "zh-CN");
+
+    @Test
+    public void testTranslatesResultListWithOneBatchedLookup() throws Throwable {
+        // 测试结果集只遍历一次并批量查询一次
+        // Test the result set is walked once and resolved with a single batched lookup
+        when(this.provider.getTexts(eq("zh-CN"), any(), any())).thenReturn(Collections.singletonMap("order_status", Collections.singletonMap("PAID", "已支付")));
+        final List<OrderRow> rows = Arrays.asList(new OrderRow("PAID"), new OrderRow("PAID"), new OrderRow("PAID"));
+        final MappedStatement statement = this.newStatement("selectOrders", OrderRow.class);
+        when(this.executor.query(any(), any(), any(), any())).thenAnswer(invocation -> rows);
+
+        final Object result = this.interceptor.intercept(this.newInvocation(statement, null));
+
+        assertSame(rows, result);
+        assertTrue(rows.stream().allMatch(row -> "已支付".equals(row.statusDesc)));
+        verify(this.provider, times(1)).getTexts(eq("zh-CN"), any(), any());
+        verify(this.provider, never()).getTextOrNull(any(), any(), any(), any(String.class));
+    }
+
+    @Test
+    public void testSkipsStatementsWithoutDictFields() throws Throwable {
+        // 测试返回Map或普通值的语句不被遍历
+        // Test statements returning maps or plain values are not walked
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        rows.add(new HashMap<>(Collections.singletonMap("status", "PAID")));
+        when(this.executor.query(any(), any(), any(), any())).thenAnswer(invocation -> rows);
+
+        this.interceptor.intercept(this.newInvocation(this.newStatement("selectMaps", HashMap.class), null));
+        this.interceptor.intercept(this.newInvocation(this.newStatement("selectNames", String.class), null));
+
+        assertEquals(1, rows.get(0).size());
+        verify(this.provider, never()).getTexts(any(), any(), any());
+    }
+
+    @Test
+    public void testTranslatesRowsPassedToResultHandler() throws Throwable {
+        // 测试传给ResultHandler的每一行在交给调用方之前被翻译
+        // Test each row passed to a ResultHandler is translated before it reaches the caller
+        when(this.provider.getTextOrNull(eq("zh-CN"), any(), eq("order_status"), eq("PAID"))).thenReturn("已支付");
+        final OrderRow row = new OrderRow("PAID");
+        doAnswer(invocation -> {
+            final DefaultResultContext<Object> context = new DefaultResultContext<>();
+            context.nextResultObject(row);
+            ((ResultHandler<Object>) invocation.getArgument(3)).handleResult(context);
+            return Collections.emptyList();
+        }).when(this.executor).query(any(), any(), any(), any());
+        final List<String> seen = new ArrayList<>();
+
+        this.interceptor.intercept(this.newInvocation(this.newStatement("streamOrders", OrderRow.class), context -> seen.add(((OrderRow) context.getResultObject()).statusDesc)));
+
+        assertEquals(Collections.singletonList("已支付"), seen);
+    }
+
+    @Test
+    public void testLeavesResultsWithoutLanguageUntouched() throws Throwable {
+        // 测试当前上下文没有语言时不翻译
+        // Test nothing is translated while the context has no language
+        final DictI18nInterceptor noLanguage = new DictI18nInterceptor(new DictI18nProcessor(this.provider, new DictI18nProperties()), () -> null);
+        final List<OrderRow> rows = Collections.singletonList(new OrderRow("PAID"));
+        when(this.executor.query(any(), any(), any(), any())).thenAnswer(invocation -> rows);
+
+        noLanguage.intercept(this.newInvocation(this.newStatement("selectOrders", OrderRow.class), null));
+
+        assertNull(rows.get(0).statusDesc);
+        verify(this.provider, never()).getTexts(any(), any(), any());
+    }
+
+    @Test
+    public void testSkipsStatementsWithReadOnlyCache() throws Throwable {
+        // 测试使用只读二级缓存的语句不被原地翻译，避免改写共享的缓存对象
+        // Test statements with a read-only second-level cache are not translated in place, so shared cached instances stay untouched
+        final List<OrderRow> rows = Collections.singletonList(new OrderRow("PAID"));
+        when(this.executor.query(any(), any(), any(), any())).thenAnswer(invocation -> rows);
+        final Cache cache = new CacheBuilder("readOnlyOrders").readWrite(false).build();
+
+        this.interceptor.intercept(this.newInvocation(this.newStatement("selectCachedOrders", OrderRow.class, cache), null));
+
+        assertNull(rows.get(0).statusDesc);
+        verify(this.provider, never()).getTexts(any(), any(), any());
+    }
+
+    @Test
+    public void testTranslatesStatementsWithReadWriteCache() throws Throwable {
+        // 测试读写二级缓存每次命中都返回副本，仍然翻译
+        // Test statements with a read-write second-level cache, which returns copies on hits, are still translated
+        when(this.provider.getTexts(eq("zh-CN"), any(), any())).thenReturn(Collections.singletonMap("order_status", Collections.singletonMap("PAID", "已支付")));
+        final List<OrderRow> rows = Collections.singletonList(new OrderRow("PAID"));
+        when(this.executor.query(any(), any(), any(), any())).thenAnswer(invocation -> rows);
+        final Cache cache = new CacheBuilder("readWriteOrders").readWrite(true).build();
+
+        this.interceptor.intercept(this.newInvocation(this.newStatement("selectCopiedOrders", OrderRow.class, cache), null));
+
+        assertEquals("已支付", rows.get(0).statusDesc);
+    }
+
+    private Invocation newInvocation(final MappedStatement statement, final ResultHandler<?> resultHandler) {
+        return new Invocation(this.executor, QUERY, new Object[]{statement, null, RowBounds.DEFAULT, resultHandler});
+    }
+
+    private MappedStatement newStatement(final String id, final Class<?> resultType) {
+        return this.newStatement(id, resultType, null);
+    }
+
+    private MappedStatement newStatement(final String id, final Class<?> resultType, final Cache cache) {
+        final ResultMap resultMap = new ResultMap.Builder(this.configuration, id + "-Inline", resultType, new ArrayList<>()).build();
+        return new MappedStatement.Builder(this.configuration, id, new StaticSqlSource(this.configuration, "select 1"), SqlCommandType.SELECT)
+                .resultMaps(Collections.singletonList(resultMap))
+                .cache(cache)
+                .useCache(null != cache)
+                .build();
+    }
+
+    public enum OrderStatus implements Dict {
+        PAID;
+
+        @Override
+        public String dictName() {
+            return "order_status";
+        }
+
+        @Override
+        public String code() {
+            return this.name();
+        }
+    }
+
+    public static class OrderRow {
+        private String status;
+        @DictDesc(OrderStatus.class)
+        private String statusDesc;
+
+        public OrderRow() {
+        }
+
+        OrderRow(final String status) {
+            this.status = status;
+        }
+
+        public String getStatus() {
+            return this.status;
+        }
+
+        public void setStatus(final String status) {
+            this.status = status;
+        }
+
+        public String getStatusDesc() {
+            return this.statusDesc;
+        }
+
+        public void setStatusDesc(final String statusDesc) {
+            this.statusDesc = statusDesc;
+        }
+    }
+}
@@ -3,30 +3,51 @@ package cn.silwings.dicti18n.starter.autoconfigure;
 import cn.silwings.dicti18n.config.DictI18nProperties;
 import cn.silwings.dicti18n.loader.DictI18nLoader;
 import cn.silwings.dicti18n.loader.scan.DictScanner;
+import cn.silwings.dicti18n.mybatis.DictI18nInterceptor;
 import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.processor.accessor.FieldAccessorFactory;
+import cn.silwings.dicti18n.processor.accessor.LambdaFieldAccessorFactory;
+import cn.silwings.dicti18n.processor.lazy.LoadStateDetector;
+import cn.silwings.dicti18n.processor.shadow.ShadowCopyProcessor;
+import cn.silwings.dicti18n.processor.stream.StreamingTranslator;
 import cn.silwings.dicti18n.provider.CompositeDictI18nProvider;
 import cn.silwings.dicti18n.provider.DictI18nProvider;
+import cn.silwings.dicti18n.provider.cache.CachingDictI18nProvider;
+import cn.silwings.dicti18n.provider.lang.LanguageRegistry;
+import cn.silwings.dicti18n.provider.memo.MemoizingDictI18nProvider;
 import cn.silwings.dicti18n.sorter.DictLoaderConfigSorter;
 import cn.silwings.dicti18n.sorter.DictLoaderSorter;
 import cn.silwings.dicti18n.starter.check.UniqueDictNameChecker;
 import cn.silwings.dicti18n.starter.config.DefaultLanguageProvider;
 import cn.silwings.dicti18n.starter.config.DictI18nStarterProperties;
 import cn.silwings.dicti18n.starter.config.LanguageProvider;
+import cn.silwings.dicti18n.starter.cost.DictI18nCostEndpoint;
 import cn.silwings.dicti18n.starter.endpoint.DictItemsEndpointHandler;
 import cn.silwings.dicti18n.starter.endpoint.DictMapHolder;
 import cn.silwings.dicti18n.starter.endpoint.DictNamesEndpointHandler;
 import cn.silwings.dicti18n.starter.enhancer.DictI18nResponseEnhancer;
 import cn.silwings.dicti18n.starter.enhancer.filter.AlwaysTrueDictI18nResponseFilter;
 import cn.silwings.dicti18n.starter.enhancer.filter.DictI18nResponseFilter;
+import cn.silwings.dicti18n.starter.enhancer.jackson.DictI18nJacksonModule;
+import cn.silwings.dicti18n.starter.jpa.JpaLoadStateDetector;
+import cn.silwings.dicti18n.starter.memo.TranslationMemoFilter;
 import cn.silwings.dicti18n.starter.sorter.SpringDictLoaderSorter;
+import cn.silwings.dicti18n.starter.warmup.DictI18nWarmUp;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
 import org.springframework.web.HttpRequestHandler;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.handler.SimpleUrlHandlerMapping;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
@@ -63,13 +84,58 @@ public class DictI18nAutoConfiguration {
     }
 
     @Bean
-    public CompositeDictI18nProvider compositeDictI18nProvider(final DictLoaderSorter dictLoaderSorter) {
-        return new CompositeDictI18nProvider(dictLoaderSorter);
+    @ConditionalOnMissingBean(LanguageRegistry.class)
+    public LanguageRegistry languageRegistry(final DictI18nProperties dictI18nProperties) {
+        return new LanguageRegistry(dictI18nProperties.getLanguages(), dictI18nProperties.getDefaultLang());
     }
 
     @Bean
-    public DictI18nProcessor dictI18nProcessor(final DictI18nProvider provider, final DictI18nProperties properties) {
-        return new DictI18nProcessor(provider, properties);
+    public CompositeDictI18nProvider compositeDictI18nProvider(final DictLoaderSorter dictLoaderSorter, final LanguageRegistry languageRegistry) {
+        return new CompositeDictI18nProvider(dictLoaderSorter, languageRegistry);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "dict-i18n.text-cache", name = "enabled", havingValue = "true")
+    public CachingDictI18nProvider cachingDictI18nProvider(final CompositeDictI18nProvider compositeDictI18nProvider, final DictI18nProperties dictI18nProperties) {
+        // Primary, everything asking for a DictI18nProvider goes through the cache
+        return new CachingDictI18nProvider(compositeDictI18nProvider, dictI18nProperties.getTextCache());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(FieldAccessorFactory.class)
+    public FieldAccessorFactory lambdaFieldAccessorFactory() {
+        return new LambdaFieldAccessorFactory();
+    }
+
+    @Bean
+    public DictI18nProcessor dictI18nProcessor(final DictI18nProvider provider,
+                                               final DictI18nProperties properties,
+                                               final FieldAccessorFactory fieldAccessorFactory,
+                                               final ObjectProvider<LoadStateDetector> loadStateDetector,
+                                               final ApplicationEventPublisher applicationEventPublisher,
+                                               final DictI18nStarterProperties dictI18nStarterProperties) {
+        // With the request memo the processor asks the memo of the current request first
+        final DictI18nProvider processorProvider = dictI18nStarterProperties.getRequestMemo().isEnabled() ? new MemoizingDictI18nProvider(provider) : provider;
+        final DictI18nProcessor processor = new DictI18nProcessor(processorProvider, properties, fieldAccessorFactory, loadStateDetector.getIfAvailable(() -> LoadStateDetector.ALWAYS_LOADED));
+        // Budget exhaustion is published as an application event, consumable with @EventListener(BudgetExhaustedEvent.class)
+        processor.addBudgetExhaustedListener(applicationEventPublisher::publishEvent);
+        return processor;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "dict-i18n.starter.request-memo", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<TranslationMemoFilter> translationMemoFilter() {
+        final FilterRegistrationBean<TranslationMemoFilter> registration = new FilterRegistrationBean<>(new TranslationMemoFilter());
+        // Ahead of all other filters, translations made by them share the memo as well
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(StreamingTranslator.class)
+    public StreamingTranslator streamingTranslator(final DictI18nProcessor dictI18nProcessor, final DictI18nProperties properties) {
+        return new StreamingTranslator(dictI18nProcessor, properties.getStream().getChunkSize());
     }
 
     @Bean
@@ -84,12 +150,25 @@ public class DictI18nAutoConfiguration {
         return new AlwaysTrueDictI18nResponseFilter();
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "dict-i18n.starter.enhancer", name = "mode", havingValue = "COPY")
+    public ShadowCopyProcessor shadowCopyProcessor(final DictI18nProcessor dictI18nProcessor, final DictI18nProvider provider) {
+        return new ShadowCopyProcessor(dictI18nProcessor, provider);
+    }
+
     @Bean
     public DictI18nResponseEnhancer dictI18nResponseEnhancer(final DictI18nProcessor dictI18nProcessor,
                                                              final LanguageProvider languageProvider,
                                                              final DictI18nResponseFilter dictI18nResponseFilter,
-                                                             final DictI18nStarterProperties dictI18nStarterProperties) {
-        return new DictI18nResponseEnhancer(dictI18nProcessor, languageProvider, dictI18nResponseFilter, dictI18nStarterProperties);
+                                                             final DictI18nStarterProperties dictI18nStarterProperties,
+                                                             final ObjectProvider<ShadowCopyProcessor> shadowCopyProcessor) {
+        return new DictI18nResponseEnhancer(dictI18nProcessor, languageProvider, dictI18nResponseFilter, dictI18nStarterProperties, shadowCopyProcessor.getIfAvailable());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "dict-i18n.starter.enhancer", name = "mode", havingValue = "SERIALIZE")
+    public DictI18nJacksonModule dictI18nJacksonModule(final DictI18nProcessor dictI18nProcessor) {
+        return new DictI18nJacksonModule(dictI18nProcessor);
     }
 
     @Bean
@@ -103,6 +182,16 @@ public class DictI18nAutoConfiguration {
         return new UniqueDictNameChecker(dictScanner, dictI18NStarterProperties);
     }
 
+    @Bean
+    @ConditionalOnProperty(prefix = "dict-i18n.starter.warm-up", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public DictI18nWarmUp dictI18nWarmUp(final DictI18nProcessor dictI18nProcessor,
+                                         final DictI18nProvider dictI18nProvider,
+                                         final DictScanner dictScanner,
+                                         final DictI18nProperties dictI18nProperties,
+                                         final DictI18nStarterProperties dictI18nStarterProperties) {
+        return new DictI18nWarmUp(dictI18nProcessor, dictI18nProvider, dictScanner, dictI18nProperties, dictI18nStarterProperties);
+    }
+
     @Bean
     @ConditionalOnProperty(prefix = "dict-i18n.starter.endpoint", name = "enabled", havingValue = "true", matchIfMissing = true)
     public DictMapHolder dictMapHolder(final DictScanner dictScanner, final DictI18nStarterProperties dictI18nStarterProperties) {
@@ -151,4 +240,53 @@ public class DictI18nAutoConfiguration {
         mapping.setOrder(0);
         return mapping;
     }
-}
\ No newline at end of file
+
+    /**
+     * Skips lazy associations that are not loaded when JPA is on the classpath.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "javax.persistence.Persistence")
+    @ConditionalOnProperty(prefix = "dict-i18n.starter.jpa", name = "skip-unloaded", havingValue = "true", matchIfMissing = true)
+    static class JpaLoadStateConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(LoadStateDetector.class)
+        public LoadStateDetector jpaLoadStateDetector() {
+            return new JpaLoadStateDetector();
+        }
+    }
+
+    /**
+     * Translates MyBatis query results while they are mapped when dict-i18n-mybatis is on the classpath.
+     * The MyBatis Spring Boot starter registers interceptor beans with the session factory.
+     * <p>
+     * Only queries issued while a request is bound to the thread are translated: outside of requests (scheduled jobs,
+     * message listeners...) the language provider would fall back to the JVM locale.
+     */
+    @Configuration
+    @ConditionalOnClass(name = {"org.apache.ibatis.plugin.Interceptor", "cn.silwings.dicti18n.mybatis.DictI18nInterceptor"})
+    @ConditionalOnProperty(prefix = "dict-i18n.starter.mybatis", name = "enabled", havingValue = "true")
+    static class MybatisConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(DictI18nInterceptor.class)
+        public DictI18nInterceptor dictI18nInterceptor(final DictI18nProcessor dictI18nProcessor, final LanguageProvider languageProvider) {
+            return new DictI18nInterceptor(dictI18nProcessor, () -> null == RequestContextHolder.getRequestAttributes() ? null : languageProvider.getCurrentLanguage());
+        }
+    }
+
+    /**
+     * Exposes the translation cost analysis when Actuator is on the classpath.
+     */
+    @Configuration
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    @ConditionalOnProperty(prefix = "dict-i18n.cost-analysis", name = "enabled", havingValue = "true")
+    static class CostAnalysisEndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(DictI18nCostEndpoint.class)
+        public DictI18nCostEndpoint dictI18nCostEndpoint(final DictI18nProcessor dictI18nProcessor) {
+            return new DictI18nCostEndpoint(dictI18nProcessor);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package cn.silwings.dicti18n.starter.batch;
+
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * Spring Batch item processor translating each item in a fixed language, e.g. the language of an export job.
+ * <p>
+ * Items are translated one by one. To resolve the codes of a whole chunk with a single batched lookup register a
+ * {@link DictI18nItemWriteListener} on the step instead.
+ */
+public class DictI18nItemProcessor<T> implements ItemProcessor<T, T> {
+
+    private final DictI18nProcessor dictI18nProcessor;
+    private final String language;
+
+    public DictI18nItemProcessor(final DictI18nProcessor dictI18nProcessor, final String language) {
+        this.dictI18nProcessor = dictI18nProcessor;
+        this.language = language;
+    }
+
+    @Override
+    public T process(final T item) {
+        this.dictI18nProcessor.process(item, this.language);
+        return item;
+    }
+}
@@ -0,0 +1,34 @@
+package cn.silwings.dicti18n.starter.batch;
+
+import cn.silwings.dicti18n.processor.stream.StreamingTranslator;
+import org.springframework.batch.core.ItemWriteListener;
+
+import java.util.List;
+
+/**
+ * Spring Batch write listener translating each chunk in a fixed language right before it is written, with one walk and
+ * one batched lookup per chunk. The chunk size is the commit interval of the step.
+ */
+public class DictI18nItemWriteListener<T> implements ItemWriteListener<T> {
+
+    private final StreamingTranslator streamingTranslator;
+    private final String language;
+
+    public DictI18nItemWriteListener(final StreamingTranslator streamingTranslator, final String language) {
+        this.streamingTranslator = streamingTranslator;
+        this.language = language;
+    }
+
+    @Override
+    public void beforeWrite(final List<? extends T> items) {
+        this.streamingTranslator.translateChunk(items, this.language);
+    }
+
+    @Override
+    public void afterWrite(final List<? extends T> items) {
+    }
+
+    @Override
+    public void onWriteError(final Exception exception, final List<? extends T> items) {
+    }
+}
@@ -2,6 +2,10 @@ package cn.silwings.dicti18n.starter.config;
 
 import org.springframework.context.i18n.LocaleContextHolder;
 
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Default implementation of {@link LanguageProvider} that obtains the current language
  * from Spring's {@link LocaleContextHolder}.
@@ -11,8 +15,24 @@ import org.springframework.context.i18n.LocaleContextHolder;
  * </p>
  */
 public class DefaultLanguageProvider implements LanguageProvider {
+
+    /**
+     * Maximum number of locales whose tag is remembered, locales come from requests
+     */
+    private static final int MAX_CACHED_LOCALES = 256;
+
+    private final Map<Locale, String> languageTags = new ConcurrentHashMap<>();
+
     @Override
     public String getCurrentLanguage() {
-        return LocaleContextHolder.getLocale().toLanguageTag();
+        final Locale locale = LocaleContextHolder.getLocale();
+        String languageTag = this.languageTags.get(locale);
+        if (null == languageTag) {
+            languageTag = locale.toLanguageTag();
+            if (this.languageTags.size() < MAX_CACHED_LOCALES) {
+                this.languageTags.putIfAbsent(locale, languageTag);
+            }
+        }
+        return languageTag;
     }
 }
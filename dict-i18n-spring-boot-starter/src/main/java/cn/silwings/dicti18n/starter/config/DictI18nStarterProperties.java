@@ -32,6 +32,26 @@ public class DictI18nStarterProperties {
      */
     private Enhancer enhancer = new Enhancer();
 
+    /**
+     * Startup warm-up configuration.
+     */
+    private WarmUp warmUp = new WarmUp();
+
+    /**
+     * JPA integration configuration.
+     */
+    private Jpa jpa = new Jpa();
+
+    /**
+     * Request-scoped translation memo configuration.
+     */
+    private RequestMemo requestMemo = new RequestMemo();
+
+    /**
+     * MyBatis integration configuration.
+     */
+    private Mybatis mybatis = new Mybatis();
+
     @Getter
     @Setter
     public static class DictCheck {
@@ -123,6 +143,72 @@ public class DictI18nStarterProperties {
          * If a class or method is annotated with any of these, it will be excluded from enhancement.
          */
         private List<String> excludeAnnotations = new ArrayList<>();
+
+        /**
+         * How the descriptions are written into the response.
+         * - MUTATE: the body is walked and its @DictDesc fields are set before it is serialized
+         * - SERIALIZE: the descriptions are computed by a Jackson module while the body is serialized, the body is not modified
+         * - COPY: a translated copy of the body is written, memoized per body instance, language and dictionary version.
+         * Intended for bodies shared between requests, e.g. DTOs returned from a cache
+         */
+        private Mode mode = Mode.MUTATE;
+
+        public enum Mode {
+            MUTATE,
+            SERIALIZE,
+            COPY
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class WarmUp {
+        /**
+         * Whether to build the translation metadata of all controller return types at startup.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Whether to also resolve every code of the referenced enum dictionaries once, filling the loader caches.
+         */
+        private boolean touchDictionaries = false;
+
+        /**
+         * Languages used to pre-touch the dictionaries.
+         * If not specified, defaults to dict-i18n.default-lang.
+         */
+        private List<String> languages = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class Jpa {
+        /**
+         * Whether to skip lazy proxies and collections that are not loaded yet instead of initializing them.
+         * Only applies when JPA is on the classpath.
+         */
+        private boolean skipUnloaded = true;
+    }
+
+    @Getter
+    @Setter
+    public static class RequestMemo {
+        /**
+         * Whether to remember the texts resolved while handling a request, so that repeated translations of the same
+         * codes within the request (service layer, response enhancement, audit logging...) do not query the loaders again.
+         */
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Mybatis {
+        /**
+         * Whether to translate query results while they are mapped.
+         * Only applies when dict-i18n-mybatis is on the classpath. Results are translated in place, so the response
+         * enhancement should be turned off (or filtered) for the types already translated here.
+         */
+        private boolean enabled = false;
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package cn.silwings.dicti18n.starter.cost;
+
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.processor.cost.TypeCostReport;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Actuator endpoint exposing the translation cost collected by the sampled calls of the processor, the most expensive
+ * root type first. A delete request drops the collected statistics.
+ */
+@Endpoint(id = "dicti18ncost")
+public class DictI18nCostEndpoint {
+
+    private final DictI18nProcessor dictI18nProcessor;
+
+    public DictI18nCostEndpoint(final DictI18nProcessor dictI18nProcessor) {
+        this.dictI18nProcessor = dictI18nProcessor;
+    }
+
+    @ReadOperation
+    public List<TypeCostReport> reports() {
+        return this.dictI18nProcessor.getCostAnalyzer().getReports();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        this.dictI18nProcessor.getCostAnalyzer().reset();
+    }
+}
@@ -1,11 +1,13 @@
 package cn.silwings.dicti18n.starter.enhancer;
 
 import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.processor.shadow.ShadowCopyProcessor;
 import cn.silwings.dicti18n.starter.annotation.DisableDictI18n;
 import cn.silwings.dicti18n.starter.annotation.EnableDictI18n;
 import cn.silwings.dicti18n.starter.config.DictI18nStarterProperties;
 import cn.silwings.dicti18n.starter.config.LanguageProvider;
 import cn.silwings.dicti18n.starter.enhancer.filter.DictI18nResponseFilter;
+import cn.silwings.dicti18n.starter.enhancer.jackson.DictI18nSerializationContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.MethodParameter;
@@ -33,6 +35,10 @@ import java.lang.reflect.Method;
  *     <li>Custom filtering logic via {@link DictI18nResponseFilter}</li>
  * </ul>
  *
+ * <p>In the {@code SERIALIZE} mode the body is not traversed here, the language is handed over to
+ * {@link cn.silwings.dicti18n.starter.enhancer.jackson.DictI18nJacksonModule} which writes the descriptions during serialization.
+ * In the {@code COPY} mode a translated copy of the body is written, see {@link ShadowCopyProcessor}.</p>
+ *
  * <p>Enhancement is only applied if:
  * <ul>
  *     <li>Enhancer is globally enabled (via config)</li>
@@ -51,15 +57,25 @@ public class DictI18nResponseEnhancer implements ResponseBodyAdvice<Object> {
     private final LanguageProvider languageProvider;
     private final DictI18nResponseFilter dictI18nResponseFilter;
     private final DictI18nStarterProperties properties;
+    private final ShadowCopyProcessor shadowCopyProcessor;
 
     public DictI18nResponseEnhancer(final DictI18nProcessor processor,
                                     final LanguageProvider languageProvider,
                                     final DictI18nResponseFilter dictI18nResponseFilter,
                                     final DictI18nStarterProperties dictI18nStarterProperties) {
+        this(processor, languageProvider, dictI18nResponseFilter, dictI18nStarterProperties, null);
+    }
+
+    public DictI18nResponseEnhancer(final DictI18nProcessor processor,
+                                    final LanguageProvider languageProvider,
+                                    final DictI18nResponseFilter dictI18nResponseFilter,
+                                    final DictI18nStarterProperties dictI18nStarterProperties,
+                                    final ShadowCopyProcessor shadowCopyProcessor) {
         this.processor = processor;
         this.languageProvider = languageProvider;
         this.dictI18nResponseFilter = dictI18nResponseFilter;
         this.properties = dictI18nStarterProperties;
+        this.shadowCopyProcessor = shadowCopyProcessor;
     }
 
     /**
@@ -141,6 +157,16 @@ public class DictI18nResponseEnhancer implements ResponseBodyAdvice<Object> {
                                   final Class<? extends HttpMessageConverter<?>> selectedConverterType,
                                   final ServerHttpRequest request,
                                   final ServerHttpResponse response) {
+        final DictI18nStarterProperties.Enhancer.Mode mode = this.properties.getEnhancer().getMode();
+        if (DictI18nStarterProperties.Enhancer.Mode.SERIALIZE == mode) {
+            // The descriptions are written by DictI18nJacksonModule while the body is serialized
+            DictI18nSerializationContext.bind(this.languageProvider.getCurrentLanguage());
+            return body;
+        }
+        if (DictI18nStarterProperties.Enhancer.Mode.COPY == mode && null != this.shadowCopyProcessor) {
+            // The body may be shared with other requests, write a translated copy instead
+            return this.shadowCopyProcessor.process(body, this.languageProvider.getCurrentLanguage());
+        }
         this.processor.process(body, this.languageProvider.getCurrentLanguage());
         return body;
     }
@@ -0,0 +1,82 @@
+package cn.silwings.dicti18n.starter.enhancer.jackson;
+
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.processor.plan.DictDescBinding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+
+import java.util.Optional;
+
+/**
+ * Writes a {@code @DictDesc} property with its translated description instead of the field value.
+ * <p>
+ * The description is computed by {@link DictI18nProcessor#translate} exactly as the mutating enhancer would write it,
+ * the bean itself is never modified. When there is nothing to translate (no language bound, or the base field does not
+ * hold a code) the property is written as usual.
+ */
+public class DictDescPropertyWriter extends BeanPropertyWriter {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient DictI18nProcessor processor;
+    private final transient DictDescBinding binding;
+
+    public DictDescPropertyWriter(final BeanPropertyWriter base, final DictI18nProcessor processor, final DictDescBinding binding) {
+        super(base);
+        this.processor = processor;
+        this.binding = binding;
+    }
+
+    protected DictDescPropertyWriter(final DictDescPropertyWriter base, final PropertyName name) {
+        super(base, name);
+        this.processor = base.processor;
+        this.binding = base.binding;
+    }
+
+    @Override
+    protected BeanPropertyWriter _new(final PropertyName newName) {
+        return new DictDescPropertyWriter(this, newName);
+    }
+
+    @Override
+    public void serializeAsField(final Object bean, final JsonGenerator gen, final SerializerProvider prov) throws Exception {
+        final Optional<String> desc = this.translate(bean);
+        if (!desc.isPresent()) {
+            super.serializeAsField(bean, gen, prov);
+            return;
+        }
+
+        // Same inclusion rules as for the field value, e.g. @JsonInclude(NON_EMPTY)
+        if (null != this._suppressableValue
+                && (MARKER_FOR_EMPTY == this._suppressableValue ? desc.get().isEmpty() : this._suppressableValue.equals(desc.get()))) {
+            return;
+        }
+        gen.writeFieldName(this._name);
+        this.writeDesc(desc.get(), gen, prov);
+    }
+
+    @Override
+    public void serializeAsElement(final Object bean, final JsonGenerator gen, final SerializerProvider prov) throws Exception {
+        final Optional<String> desc = this.translate(bean);
+        if (desc.isPresent()) {
+            this.writeDesc(desc.get(), gen, prov);
+        } else {
+            super.serializeAsElement(bean, gen, prov);
+        }
+    }
+
+    private Optional<String> translate(final Object bean) {
+        final String language = DictI18nSerializationContext.getLanguage();
+        return null == language ? Optional.empty() : this.processor.translate(bean, this.binding, language);
+    }
+
+    private void writeDesc(final String desc, final JsonGenerator gen, final SerializerProvider prov) throws Exception {
+        if (null == this._serializer) {
+            gen.writeString(desc);
+        } else {
+            this._serializer.serialize(desc, gen, prov);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package cn.silwings.dicti18n.starter.enhancer.jackson;
+
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.processor.plan.DictDescBinding;
+import cn.silwings.dicti18n.processor.plan.TranslationPlan;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jackson module translating {@code @DictDesc} properties while the response body is serialized.
+ * <p>
+ * Used by the {@code SERIALIZE} enhancer mode: the body graph is walked once by Jackson instead of once by
+ * {@link DictI18nProcessor#process} and again by Jackson, and the response objects are never mutated, which makes it
+ * safe to return shared or cached instances. Spring Boot registers the module with the auto-configured
+ * {@code ObjectMapper}, a custom mapper has to register it explicitly.
+ *
+ * @see DictI18nSerializationContext
+ */
+public class DictI18nJacksonModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public DictI18nJacksonModule(final DictI18nProcessor processor) {
+        super(DictI18nJacksonModule.class.getSimpleName());
+        this.setSerializerModifier(new DictDescSerializerModifier(processor));
+    }
+
+    /**
+     * Replaces the writers of {@code @DictDesc} properties, once per serialized bean type.
+     */
+    private static class DictDescSerializerModifier extends BeanSerializerModifier {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient DictI18nProcessor processor;
+
+        DictDescSerializerModifier(final DictI18nProcessor processor) {
+            this.processor = processor;
+        }
+
+        @Override
+        public List<BeanPropertyWriter> changeProperties(final SerializationConfig config, final BeanDescription beanDesc, final List<BeanPropertyWriter> beanProperties) {
+            final TranslationPlan plan = this.processor.getPlan(beanDesc.getBeanClass());
+            if (plan.getDescBindings().isEmpty()) {
+                return beanProperties;
+            }
+
+            final Map<String, DictDescBinding> bindings = new HashMap<>();
+            for (final DictDescBinding binding : plan.getDescBindings()) {
+                if (binding.getDescFieldType().isAssignableFrom(String.class)) {
+                    bindings.put(binding.getDescFieldName(), binding);
+                }
+            }
+
+            // Properties may be renamed (@JsonProperty, naming strategies), bindings are keyed by the field name
+            final Map<String, DictDescBinding> bindingsByProperty = new HashMap<>();
+            for (final BeanPropertyDefinition property : beanDesc.findProperties()) {
+                final DictDescBinding binding = this.findBinding(property, bindings);
+                if (null != binding) {
+                    bindingsByProperty.put(property.getName(), binding);
+                }
+            }
+
+            for (int i = 0; i < beanProperties.size(); i++) {
+                final BeanPropertyWriter writer = beanProperties.get(i);
+                final DictDescBinding binding = bindingsByProperty.get(writer.getName());
+                if (null != binding) {
+                    beanProperties.set(i, new DictDescPropertyWriter(writer, this.processor, binding));
+                }
+            }
+            return beanProperties;
+        }
+
+        private DictDescBinding findBinding(final BeanPropertyDefinition property, final Map<String, DictDescBinding> bindings) {
+            if (property.hasField() && bindings.containsKey(property.getField().getName())) {
+                return bindings.get(property.getField().getName());
+            }
+            if (bindings.containsKey(property.getInternalName())) {
+                return bindings.get(property.getInternalName());
+            }
+            // Private fields exposed through a getter: Jackson lower-cases leading capitals of the getter name
+            // (getEText -> etext) while the field is named eText
+            if (property.hasGetter()) {
+                final String getterName = property.getGetter().getName();
+                final String name = getterName.startsWith("is") ? getterName.substring(2) : getterName.substring(3);
+                for (final Map.Entry<String, DictDescBinding> entry : bindings.entrySet()) {
+                    if (entry.getKey().equalsIgnoreCase(name)) {
+                        return entry.getValue();
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
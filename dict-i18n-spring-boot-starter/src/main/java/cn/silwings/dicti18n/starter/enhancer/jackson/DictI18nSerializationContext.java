@@ -0,0 +1,40 @@
+package cn.silwings.dicti18n.starter.enhancer.jackson;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Carries the language of the current response from {@link cn.silwings.dicti18n.starter.enhancer.DictI18nResponseEnhancer}
+ * to the serializers registered by {@link DictI18nJacksonModule}.
+ * <p>
+ * The language is stored as a request attribute, so only bodies accepted by the enhancer are translated and nothing has
+ * to be cleaned up once the request completes. Serialization outside of a request (or of a body the enhancer skipped)
+ * writes the objects unchanged.
+ */
+public final class DictI18nSerializationContext {
+
+    private static final String LANGUAGE_ATTRIBUTE = DictI18nSerializationContext.class.getName() + ".LANGUAGE";
+
+    private DictI18nSerializationContext() {
+    }
+
+    /**
+     * Translate the body of the current request into the given language while it is serialized.
+     */
+    public static void bind(final String language) {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (null != attributes) {
+            attributes.setAttribute(LANGUAGE_ATTRIBUTE, language, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * Get the language the current body is translated into.
+     *
+     * @return the language, null if the current body is not translated
+     */
+    public static String getLanguage() {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return null == attributes ? null : (String) attributes.getAttribute(LANGUAGE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,67 @@
+package cn.silwings.dicti18n.starter.jpa;
+
+import cn.silwings.dicti18n.processor.lazy.LoadStateDetector;
+
+import javax.persistence.PersistenceUtil;
+import javax.persistence.spi.LoadState;
+import javax.persistence.spi.PersistenceProvider;
+import javax.persistence.spi.PersistenceProviderResolverHolder;
+import javax.persistence.spi.ProviderUtil;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link LoadStateDetector} with the semantics of {@link PersistenceUtil#isLoaded(Object)}.
+ * <p>
+ * Uninitialized proxies and lazy collections of any JPA provider (e.g. Hibernate's {@code HibernateProxy} and
+ * {@code PersistentCollection}) are reported as not loaded, plain objects are always loaded.
+ * <p>
+ * The detector runs for every visited object, so unlike {@link PersistenceUtil} it resolves the persistence providers
+ * once instead of on every call, and never asks them about JDK classes, which can be neither proxies nor persistent
+ * collections.
+ */
+public class JpaLoadStateDetector implements LoadStateDetector {
+
+    private final List<ProviderUtil> providerUtils;
+
+    private final ClassValue<Boolean> jdkTypes = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return type.getName().startsWith("java.");
+        }
+    };
+
+    public JpaLoadStateDetector() {
+        this(resolveProviderUtils());
+    }
+
+    public JpaLoadStateDetector(final List<ProviderUtil> providerUtils) {
+        this.providerUtils = new ArrayList<>(providerUtils);
+    }
+
+    private static List<ProviderUtil> resolveProviderUtils() {
+        final List<ProviderUtil> providerUtils = new ArrayList<>();
+        for (final PersistenceProvider provider : PersistenceProviderResolverHolder.getPersistenceProviderResolver().getPersistenceProviders()) {
+            providerUtils.add(provider.getProviderUtil());
+        }
+        return providerUtils;
+    }
+
+    @Override
+    public boolean isLoaded(final Object value) {
+        if (null == value || this.jdkTypes.get(value.getClass())) {
+            return true;
+        }
+        // Same as PersistenceUtil: the first provider knowing the object decides, unknown objects are loaded
+        for (final ProviderUtil providerUtil : this.providerUtils) {
+            final LoadState state = providerUtil.isLoaded(value);
+            if (LoadState.LOADED == state) {
+                return true;
+            }
+            if (LoadState.NOT_LOADED == state) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
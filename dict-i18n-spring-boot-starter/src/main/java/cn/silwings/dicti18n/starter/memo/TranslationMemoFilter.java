@@ -0,0 +1,32 @@
+package cn.silwings.dicti18n.starter.memo;
+
+import cn.silwings.dicti18n.provider.memo.TranslationMemo;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Binds a {@link TranslationMemo} to the request thread, so all translations made while handling the request share
+ * the texts resolved so far. The memo is dropped when the request completes.
+ */
+public class TranslationMemoFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) throws ServletException, IOException {
+        // A memo bound by an outer unit of work is left to its owner
+        if (null != TranslationMemo.current()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        TranslationMemo.bind();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TranslationMemo.unbind();
+        }
+    }
+}
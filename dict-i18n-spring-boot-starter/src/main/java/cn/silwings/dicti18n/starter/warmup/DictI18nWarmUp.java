@@ -0,0 +1,197 @@
+package cn.silwings.dicti18n.starter.warmup;
+
+import cn.silwings.dicti18n.config.DictI18nProperties;
+import cn.silwings.dicti18n.dict.Dict;
+import cn.silwings.dicti18n.loader.scan.DictScanner;
+import cn.silwings.dicti18n.processor.DictI18nProcessor;
+import cn.silwings.dicti18n.provider.DictI18nProvider;
+import cn.silwings.dicti18n.starter.config.DictI18nStarterProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Builds the translation metadata of every {@code @ResponseBody} handler return type at application startup, so the
+ * first requests after a deployment do not pay for reflection, plan building and the nested type scan.
+ * <p>
+ * The generic return types of all handlers registered in the {@link RequestMappingHandlerMapping} beans are resolved
+ * and unwrapped from the usual wrappers ({@code ResponseEntity<List<OrderVO>>}, {@code Optional<OrderVO>},
+ * {@code DeferredResult<OrderVO>}, {@code CompletableFuture<OrderVO>}, ...) before being passed to
+ * {@link DictI18nProcessor#warmUp}.
+ * <p>
+ * Being an {@link ApplicationRunner}, the warm-up runs before the application reports itself as ready.
+ * Optionally the dictionaries referenced by those types are pre-touched through the provider, so the loader caches
+ * are filled as well.
+ *
+ * @see DictI18nStarterProperties.WarmUp
+ */
+public class DictI18nWarmUp implements ApplicationContextAware, ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DictI18nWarmUp.class);
+
+    private static final List<Class<?>> WRAPPER_TYPES = Arrays.asList(
+            HttpEntity.class,
+            Optional.class,
+            Callable.class,
+            DeferredResult.class,
+            WebAsyncTask.class,
+            Future.class,
+            CompletionStage.class
+    );
+
+    private ApplicationContext applicationContext;
+    private final DictI18nProcessor dictI18nProcessor;
+    private final DictI18nProvider dictI18nProvider;
+    private final DictScanner dictScanner;
+    private final DictI18nProperties dictI18nProperties;
+    private final DictI18nStarterProperties dictI18nStarterProperties;
+
+    public DictI18nWarmUp(final DictI18nProcessor dictI18nProcessor,
+                          final DictI18nProvider dictI18nProvider,
+                          final DictScanner dictScanner,
+                          final DictI18nProperties dictI18nProperties,
+                          final DictI18nStarterProperties dictI18nStarterProperties) {
+        this.dictI18nProcessor = dictI18nProcessor;
+        this.dictI18nProvider = dictI18nProvider;
+        this.dictScanner = dictScanner;
+        this.dictI18nProperties = dictI18nProperties;
+        this.dictI18nStarterProperties = dictI18nStarterProperties;
+    }
+
+    @Override
+    public void setApplicationContext(final ApplicationContext applicationContext) throws BeansException {
+        this.applicationContext = applicationContext;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        this.warmUp();
+    }
+
+    /**
+     * Warm up the translation metadata of all handler return types.
+     *
+     * @return names of the dictionaries referenced by the handler return types
+     */
+    public Set<String> warmUp() {
+        final long start = System.currentTimeMillis();
+        final Set<String> dictNames = new LinkedHashSet<>();
+        int handlerCount = 0;
+
+        for (final RequestMappingHandlerMapping handlerMapping : this.applicationContext.getBeansOfType(RequestMappingHandlerMapping.class).values()) {
+            for (final HandlerMethod handlerMethod : handlerMapping.getHandlerMethods().values()) {
+                if (!this.isResponseBody(handlerMethod)) {
+                    continue;
+                }
+                try {
+                    final ResolvableType returnType = this.unwrap(ResolvableType.forMethodReturnType(handlerMethod.getMethod(), handlerMethod.getBeanType()));
+                    dictNames.addAll(this.dictI18nProcessor.warmUp(returnType.getType()));
+                    handlerCount++;
+                } catch (Exception e) {
+                    log.debug("[DictI18n] Failed to warm up the return type of {}: {}", handlerMethod, e.getMessage(), e);
+                }
+            }
+        }
+
+        if (this.dictI18nStarterProperties.getWarmUp().isTouchDictionaries() && !dictNames.isEmpty()) {
+            this.touchDictionaries(dictNames);
+        }
+
+        log.info("[DictI18n] Warmed up {} handler return types referencing {} dictionaries in {} ms.", handlerCount, dictNames.size(), System.currentTimeMillis() - start);
+        return dictNames;
+    }
+
+    private boolean isResponseBody(final HandlerMethod handlerMethod) {
+        final Method method = handlerMethod.getMethod();
+        return AnnotatedElementUtils.hasAnnotation(method, ResponseBody.class)
+                || AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ResponseBody.class)
+                || HttpEntity.class.isAssignableFrom(method.getReturnType());
+    }
+
+    /**
+     * Unwrap the body type from response and async wrappers, e.g. {@code ResponseEntity<List<OrderVO>>} to {@code List<OrderVO>}.
+     */
+    private ResolvableType unwrap(final ResolvableType type) {
+        ResolvableType current = type;
+        boolean unwrapped = true;
+        while (unwrapped) {
+            unwrapped = false;
+            for (final Class<?> wrapperType : WRAPPER_TYPES) {
+                final ResolvableType wrapper = current.as(wrapperType);
+                if (wrapper != ResolvableType.NONE) {
+                    current = wrapper.getGeneric(0);
+                    unwrapped = true;
+                    break;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Resolve every code of the referenced enum dictionaries once, so remote loaders fill their caches before the first request.
+     * Codes of JavaBean dictionaries are not known upfront and are skipped.
+     */
+    private void touchDictionaries(final Set<String> dictNames) {
+        final Map<String, List<String>> codesByDictName = new HashMap<>();
+        for (final Class<? extends Dict> dictClass : this.dictScanner.scan(this.getScanPackages())) {
+            final Dict[] constants = dictClass.isEnum() ? dictClass.getEnumConstants() : null;
+            if (null != constants && constants.length > 0 && dictNames.contains(constants[0].dictName())) {
+                codesByDictName.put(constants[0].dictName(), Arrays.stream(constants).map(Dict::code).collect(Collectors.toList()));
+            }
+        }
+        if (codesByDictName.isEmpty()) {
+            return;
+        }
+
+        final List<String> languages = this.dictI18nStarterProperties.getWarmUp().getLanguages().isEmpty()
+                ? Collections.singletonList(this.dictI18nProperties.getDefaultLang())
+                : this.dictI18nStarterProperties.getWarmUp().getLanguages();
+        for (final String language : languages) {
+            try {
+                this.dictI18nProvider.getTexts(language, this.dictI18nProperties.getDefaultLang(), codesByDictName);
+            } catch (Exception e) {
+                log.warn("[DictI18n] Failed to pre-touch the dictionaries for language '{}': {}", language, e.getMessage(), e);
+            }
+        }
+        log.info("[DictI18n] Pre-touched {} dictionaries for languages {}.", codesByDictName.size(), new ArrayList<>(languages));
+    }
+
+    /**
+     * Get the list of scan package paths
+     * If the scan package is configured, use the configured value; otherwise, use the auto-configured package path.
+     */
+    private List<String> getScanPackages() {
+        return this.dictI18nStarterProperties.getScanPackages().isEmpty()
+                ? AutoConfigurationPackages.get(this.applicationContext)
+                : this.dictI18nStarterProperties.getScanPackages();
+    }
+}